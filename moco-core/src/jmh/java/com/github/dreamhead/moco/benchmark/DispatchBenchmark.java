@@ -0,0 +1,90 @@
+package com.github.dreamhead.moco.benchmark;
+
+import com.github.dreamhead.moco.internal.ActualHttpServer;
+import com.github.dreamhead.moco.internal.MocoHandler;
+import com.github.dreamhead.moco.internal.ResponseCompressor;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpVersion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.github.dreamhead.moco.Moco.by;
+import static com.github.dreamhead.moco.Moco.status;
+import static com.github.dreamhead.moco.Moco.uri;
+
+/**
+ * Drives full requests through {@link MocoHandler} on an embedded channel. Run with {@code -prof gc}
+ * and compare {@code gc.alloc.rate.norm}, the bytes allocated per dispatched request.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DispatchBenchmark {
+    private EmbeddedChannel channel;
+    private FullHttpRequest staticRequest;
+    private FullHttpRequest statusRequest;
+
+    @Setup
+    public void setUp() {
+        ActualHttpServer server = ActualHttpServer.createQuietServer(0);
+        server.get(by(uri("/health"))).response(status(204));
+        server.request(by(uri("/static"))).response("foo");
+        channel = new EmbeddedChannel(new MocoHandler(server, new ResponseCompressor(server.getServerConfig())));
+        staticRequest = newRequest("/static");
+        statusRequest = newRequest("/health");
+    }
+
+    private static FullHttpRequest newRequest(final String uri) {
+        FullHttpRequest request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, uri,
+                Unpooled.EMPTY_BUFFER);
+        request.headers().set(HttpHeaderNames.HOST, "localhost:12306");
+        return request;
+    }
+
+    @TearDown
+    public void tearDown() {
+        staticRequest.release();
+        statusRequest.release();
+        channel.finishAndReleaseAll();
+    }
+
+    @Benchmark
+    public int staticContent() {
+        return dispatch(staticRequest);
+    }
+
+    @Benchmark
+    public int statusOnly() {
+        return dispatch(statusRequest);
+    }
+
+    private int dispatch(final FullHttpRequest request) {
+        channel.writeInbound(request.retain());
+        FullHttpResponse response = channel.readOutbound();
+        try {
+            return response.status().code();
+        } finally {
+            response.release();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.github.dreamhead.moco.benchmark;
+
+import com.github.dreamhead.moco.internal.ActualHttpServer;
+import com.github.dreamhead.moco.internal.MocoHandler;
+import com.github.dreamhead.moco.internal.ResponseCompressor;
+import com.github.dreamhead.moco.internal.ServerConfig;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpVersion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.github.dreamhead.moco.Moco.and;
+import static com.github.dreamhead.moco.Moco.by;
+import static com.github.dreamhead.moco.Moco.eq;
+import static com.github.dreamhead.moco.Moco.header;
+import static com.github.dreamhead.moco.Moco.query;
+import static com.github.dreamhead.moco.Moco.uri;
+
+/**
+ * Dispatches a request hitting the last of many settings, with and without dispatch cache.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DispatchCacheBenchmark {
+    private static final int SETTINGS = 200;
+
+    @Param({"0", "1024"})
+    private int cacheSize;
+
+    private EmbeddedChannel channel;
+    private FullHttpRequest request;
+
+    @Setup
+    public void setUp() {
+        ActualHttpServer server = ActualHttpServer.createHttpServer(0, true, ServerConfig.builder()
+                .withDispatchCacheSize(cacheSize)
+                .build());
+        for (int i = 0; i < SETTINGS; i++) {
+            server.get(and(by(uri("/orders/" + i)), eq(header("X-Tenant"), "tenant"), eq(query("page"), "1")))
+                    .response("foo");
+        }
+
+        channel = new EmbeddedChannel(new MocoHandler(server, new ResponseCompressor(server.getServerConfig())));
+        request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET,
+                "/orders/" + (SETTINGS - 1) + "?page=1", Unpooled.EMPTY_BUFFER);
+        request.headers()
+                .set(HttpHeaderNames.HOST, "localhost:12306")
+                .set("X-Tenant", "tenant");
+    }
+
+    @TearDown
+    public void tearDown() {
+        request.release();
+        channel.finishAndReleaseAll();
+    }
+
+    @Benchmark
+    public int lastSetting() {
+        channel.writeInbound(request.retain());
+        FullHttpResponse response = channel.readOutbound();
+        try {
+            return response.status().code();
+        } finally {
+            response.release();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.github.dreamhead.moco.benchmark;
+
+import com.github.dreamhead.moco.HttpMethod;
+import com.github.dreamhead.moco.HttpProtocolVersion;
+import com.github.dreamhead.moco.RequestMatcher;
+import com.github.dreamhead.moco.matcher.RequestMatcherCompiler;
+import com.github.dreamhead.moco.model.DefaultHttpRequest;
+import com.google.common.collect.ImmutableMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.github.dreamhead.moco.Moco.and;
+import static com.github.dreamhead.moco.Moco.by;
+import static com.github.dreamhead.moco.Moco.eq;
+import static com.github.dreamhead.moco.Moco.header;
+import static com.github.dreamhead.moco.Moco.method;
+import static com.github.dreamhead.moco.Moco.query;
+import static com.github.dreamhead.moco.Moco.uri;
+
+/**
+ * Measures finding the last of many settings, shaped like the ones a JSON configuration creates,
+ * with and without matcher compilation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatcherCompilationBenchmark {
+    private static final int SETTINGS = 200;
+
+    @Param({"false", "true"})
+    private boolean compiled;
+
+    private RequestMatcher[] matchers;
+    private DefaultHttpRequest request;
+
+    @Setup
+    public void setUp() {
+        matchers = new RequestMatcher[SETTINGS];
+        for (int i = 0; i < SETTINGS; i++) {
+            RequestMatcher matcher = and(by(uri("/orders/" + i)), by(method("get")),
+                    eq(header("X-Tenant"), "tenant"), eq(query("page"), "1"));
+            matchers[i] = compiled ? RequestMatcherCompiler.compile(matcher) : matcher;
+        }
+
+        request = DefaultHttpRequest.builder()
+                .withVersion(HttpProtocolVersion.VERSION_1_1)
+                .withMethod(HttpMethod.GET)
+                .withUri("/orders/" + (SETTINGS - 1))
+                .withHeaders(ImmutableMap.of("X-Tenant", "tenant", "Accept", "*/*"))
+                .withQueries(ImmutableMap.of("page", new String[]{"1"}))
+                .build();
+    }
+
+    @Benchmark
+    public int lastSetting() {
+        for (int i = 0; i < matchers.length; i++) {
+            if (matchers[i].match(request)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+}
@@ -0,0 +1,81 @@
+package com.github.dreamhead.moco.benchmark;
+
+import com.github.dreamhead.moco.HttpRequest;
+import com.github.dreamhead.moco.internal.Client;
+import com.github.dreamhead.moco.model.DefaultHttpRequest;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpVersion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures what building a request view costs per request. Run with {@code -prof gc} and
+ * compare {@code gc.alloc.rate.norm}, the bytes allocated per request.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestAllocationBenchmark {
+    private FullHttpRequest request;
+    private Client client;
+
+    @Setup
+    public void setUp() {
+        request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST,
+                "/orders/42?page=1&size=20&sort=desc",
+                Unpooled.copiedBuffer("{\"name\":\"moco\"}", StandardCharsets.UTF_8));
+        request.headers()
+                .set(HttpHeaderNames.HOST, "localhost:12306")
+                .set(HttpHeaderNames.CONTENT_TYPE, "application/json")
+                .set(HttpHeaderNames.CONTENT_LENGTH, request.content().readableBytes())
+                .set(HttpHeaderNames.ACCEPT, "*/*")
+                .set(HttpHeaderNames.COOKIE, "session=foo; theme=dark")
+                .set(HttpHeaderNames.USER_AGENT, "benchmark");
+        client = new Client(new InetSocketAddress("127.0.0.1", 12306));
+    }
+
+    @TearDown
+    public void tearDown() {
+        request.release();
+    }
+
+    @Benchmark
+    public String uriOnly() {
+        HttpRequest httpRequest = DefaultHttpRequest.newRequest(request, client);
+        try {
+            return httpRequest.getUri();
+        } finally {
+            httpRequest.getContent().release();
+        }
+    }
+
+    @Benchmark
+    public Object queriesAndHeaders() {
+        HttpRequest httpRequest = DefaultHttpRequest.newRequest(request, client);
+        try {
+            return httpRequest.getQueries().get("page")[0] + httpRequest.getHeader("Accept");
+        } finally {
+            httpRequest.getContent().release();
+        }
+    }
+}
@@ -5,8 +5,6 @@ import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.github.dreamhead.moco.dumper.HttpProtocolVersionDeserializer;
 import com.github.dreamhead.moco.dumper.HttpProtocolVersionSerializer;
 
-import java.util.Arrays;
-
 @JsonSerialize(using = HttpProtocolVersionSerializer.class)
 @JsonDeserialize(using = HttpProtocolVersionDeserializer.class)
 public enum HttpProtocolVersion {
@@ -14,6 +12,8 @@ public enum HttpProtocolVersion {
     VERSION_1_0("HTTP/1.0"),
     VERSION_1_1("HTTP/1.1");
 
+    private static final HttpProtocolVersion[] VALUES = values();
+
     private final String text;
 
     HttpProtocolVersion(final String text) {
@@ -30,10 +30,12 @@ public enum HttpProtocolVersion {
     }
 
     public static HttpProtocolVersion versionOf(final String version) {
-        HttpProtocolVersion[] values = HttpProtocolVersion.values();
-        return Arrays.stream(values)
-                .filter(value -> value.text.equalsIgnoreCase(version))
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("unknown HTTP version: " + version));
+        for (HttpProtocolVersion value : VALUES) {
+            if (value.text.equalsIgnoreCase(version)) {
+                return value;
+            }
+        }
+
+        throw new IllegalArgumentException("unknown HTTP version: " + version);
     }
 }
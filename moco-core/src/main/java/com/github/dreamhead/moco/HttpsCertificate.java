@@ -28,10 +28,10 @@ public final class HttpsCertificate {
     }
 
     public SSLEngine createSSLEngine() {
-        return createServerContext().createSSLEngine();
+        return createSSLContext().createSSLEngine();
     }
 
-    private SSLContext createServerContext() {
+    public SSLContext createSSLContext() {
         InputStream is = this.getKeyStore();
         try {
             KeyStore keyStore = KeyStore.getInstance("JKS");
@@ -7,17 +7,21 @@ import com.github.dreamhead.moco.config.MocoContextConfig;
 import com.github.dreamhead.moco.config.MocoFileRootConfig;
 import com.github.dreamhead.moco.config.MocoRequestConfig;
 import com.github.dreamhead.moco.config.MocoResponseConfig;
+import com.github.dreamhead.moco.dumper.DumpPolicy;
 import com.github.dreamhead.moco.extractor.CookieRequestExtractor;
 import com.github.dreamhead.moco.extractor.FormRequestExtractor;
+import com.github.dreamhead.moco.extractor.UploadRequestExtractor;
 import com.github.dreamhead.moco.extractor.FunctionExtractor;
 import com.github.dreamhead.moco.extractor.HeaderRequestExtractor;
 import com.github.dreamhead.moco.extractor.JsonPathRequestExtractor;
 import com.github.dreamhead.moco.extractor.ParamRequestExtractor;
 import com.github.dreamhead.moco.extractor.XPathRequestExtractor;
 import com.github.dreamhead.moco.handler.AndResponseHandler;
+import com.github.dreamhead.moco.handler.ChunkedResponseHandler;
 import com.github.dreamhead.moco.handler.ProxyBatchResponseHandler;
 import com.github.dreamhead.moco.handler.ProxyResponseHandler;
 import com.github.dreamhead.moco.handler.StatusCodeResponseHandler;
+import com.github.dreamhead.moco.handler.TimeoutResponseHandler;
 import com.github.dreamhead.moco.handler.failover.Failover;
 import com.github.dreamhead.moco.handler.failover.FailoverStrategy;
 import com.github.dreamhead.moco.handler.proxy.ProxyConfig;
@@ -30,6 +34,7 @@ import com.github.dreamhead.moco.matcher.EqRequestMatcher;
 import com.github.dreamhead.moco.matcher.ExistMatcher;
 import com.github.dreamhead.moco.matcher.NotRequestMatcher;
 import com.github.dreamhead.moco.matcher.OrRequestMatcher;
+import com.github.dreamhead.moco.model.UploadedFile;
 import com.github.dreamhead.moco.monitor.StdLogWriter;
 import com.github.dreamhead.moco.procedure.LatencyProcedure;
 import com.github.dreamhead.moco.recorder.MocoGroup;
@@ -43,6 +48,7 @@ import com.google.common.net.HttpHeaders;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.nio.file.Path;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -53,6 +59,7 @@ import static com.github.dreamhead.moco.handler.CycleHandler.newCycle;
 import static com.github.dreamhead.moco.handler.ResponseHandlers.responseHandler;
 import static com.github.dreamhead.moco.handler.SequenceHandler.newSeq;
 import static com.github.dreamhead.moco.internal.ApiUtils.textToResource;
+import static com.github.dreamhead.moco.model.Chunking.chunking;
 import static com.github.dreamhead.moco.resource.ResourceFactory.binaryResource;
 import static com.github.dreamhead.moco.resource.ResourceFactory.cookieResource;
 import static com.github.dreamhead.moco.resource.ResourceFactory.jsonResource;
@@ -93,6 +100,13 @@ public final class Moco {
                         checkNotNull(monitors, "Monitors should not be null")));
     }
 
+    public static HttpServer httpServer(final Path socketPath, final MocoConfig<?>... configs) {
+        ActualHttpServer server = ActualHttpServer.createQuietServer(0,
+                checkNotNull(configs, "Configuration should not be null"));
+        server.setSocketPath(checkNotNull(socketPath, "Socket path should not be null"));
+        return server;
+    }
+
     public static HttpServer httpServer(final MocoConfig<?>... configs) {
         return ActualHttpServer.createQuietServer(0,
                 checkNotNull(configs, "Configuration should not be null"));
@@ -141,6 +155,12 @@ public final class Moco {
         return ActualSocketServer.createQuietServer(0);
     }
 
+    public static SocketServer socketServer(final Path socketPath) {
+        ActualSocketServer server = ActualSocketServer.createQuietServer(0);
+        server.setSocketPath(checkNotNull(socketPath, "Socket path should not be null"));
+        return server;
+    }
+
     public static SocketServer socketServer(final int port) {
         checkArgument(port > 0, "Port must be greater than zero");
         return ActualSocketServer.createQuietServer(port);
@@ -193,6 +213,15 @@ public final class Moco {
         return ApiUtils.log(ApiUtils.fileLogWriter(checkNotNullOrEmpty(filename, "Filename should not be null or empty"), checkNotNull(charset, "Charset should not be null")));
     }
 
+    public static MocoMonitor log(final DumpPolicy policy) {
+        return ApiUtils.log(new StdLogWriter(), checkNotNull(policy, "Dump policy should not be null"));
+    }
+
+    public static MocoMonitor log(final String filename, final DumpPolicy policy) {
+        return ApiUtils.log(ApiUtils.fileLogWriter(checkNotNullOrEmpty(filename, "Filename should not be null or empty"), null),
+                checkNotNull(policy, "Dump policy should not be null"));
+    }
+
     public static RequestMatcher by(final String content) {
         return by(text(checkNotNullOrEmpty(content, "Content should not be null")));
     }
@@ -281,8 +310,7 @@ public final class Moco {
     }
 
     public static ContentResource text(final String text) {
-        checkNotNull(text, "Text should not be null");
-        return text((request) -> text);
+        return textResource(checkNotNull(text, "Text should not be null"));
     }
 
     public static ContentResource text(final Function<Request, String> function) {
@@ -290,8 +318,7 @@ public final class Moco {
     }
 
     public static ContentResource binary(final byte[] binary) {
-        checkNotNull(binary, "Binary should not be null");
-        return binary((request) -> binary);
+        return binaryResource(checkNotNull(binary, "Binary should not be null"));
     }
 
     public static ContentResource binary(final ByteBuffer buffer) {
@@ -363,6 +390,21 @@ public final class Moco {
         return new FormRequestExtractor(checkNotNullOrEmpty(key, "Form key should not be null"));
     }
 
+    public static RequestExtractor<String> uploadName(final String key) {
+        return new UploadRequestExtractor(checkNotNullOrEmpty(key, "Upload key should not be null"),
+                UploadedFile::getFilename);
+    }
+
+    public static RequestExtractor<String> uploadSize(final String key) {
+        return new UploadRequestExtractor(checkNotNullOrEmpty(key, "Upload key should not be null"),
+                file -> String.valueOf(file.getSize()));
+    }
+
+    public static RequestExtractor<String> uploadDigest(final String key) {
+        return new UploadRequestExtractor(checkNotNullOrEmpty(key, "Upload key should not be null"),
+                UploadedFile::getDigest);
+    }
+
     public static LatencyProcedure latency(final long duration, final TimeUnit unit) {
         checkArgument(duration > 0, "Latency must be greater than zero");
         return new LatencyProcedure(duration, checkNotNull(unit, "Time unit should not be null"));
@@ -628,6 +670,8 @@ public final class Moco {
     }
 
     private static final int DEFAULT_LATENCY = 1000;
+    private static final int DEFAULT_CHUNK_SIZE = 8192;
+    private static final int DEFAULT_TIMEOUT_STATUS = 504;
 
     public static MocoEventAction async(final MocoEventAction action) {
         return async(checkNotNull(action, "Action should not be null"),
@@ -683,6 +727,35 @@ public final class Moco {
                 with(checkNotNull(resource, "Resource should not be null")));
     }
 
+    public static ResponseHandler chunked(final Resource resource) {
+        return chunked(resource, DEFAULT_CHUNK_SIZE);
+    }
+
+    public static ResponseHandler chunked(final Resource resource, final int size) {
+        return chunked(resource, size, 0, TimeUnit.MILLISECONDS);
+    }
+
+    public static ResponseHandler chunked(final Resource resource, final int size,
+                                          final long interval, final TimeUnit unit) {
+        checkArgument(size > 0, "Chunk size should be greater than zero");
+        checkArgument(interval >= 0, "Chunk interval should not be negative");
+        return AndResponseHandler.and(
+                with(checkNotNull(resource, "Resource should not be null")),
+                new ChunkedResponseHandler(chunking(size, interval, checkNotNull(unit, "Time unit should not be null"))));
+    }
+
+    public static ResponseHandler timeout(final ResponseHandler handler, final long timeout, final TimeUnit unit) {
+        return timeout(handler, timeout, unit, DEFAULT_TIMEOUT_STATUS);
+    }
+
+    public static ResponseHandler timeout(final ResponseHandler handler, final long timeout,
+                                          final TimeUnit unit, final int status) {
+        checkArgument(timeout > 0, "Timeout should be greater than zero");
+        checkArgument(status > 0, "Status should be greater than zero");
+        return new TimeoutResponseHandler(checkNotNull(handler, "Handler should not be null"), timeout,
+                checkNotNull(unit, "Time unit should not be null"), status);
+    }
+
     public static ResponseHandler join(final MocoGroup group) {
         return new JoinResponseHandler(checkNotNull(group, "group should not be empty"));
     }
@@ -12,6 +12,10 @@ public interface MocoMonitor {
     @Subscribe
     void onMessageLeave(Response response);
 
+    default void onMessageLeave(final Request request, final Response response) {
+        onMessageLeave(response);
+    }
+
     @Subscribe
     void onUnexpectedMessage(Request request);
 
@@ -1,9 +1,13 @@
 package com.github.dreamhead.moco;
 
+import com.github.dreamhead.moco.model.Chunking;
+
 public interface MutableHttpResponse extends HttpResponse, MutableResponse {
     void setVersion(HttpProtocolVersion version);
 
     void setStatus(int status);
 
     void addHeader(String name, Object value);
+
+    void setChunking(Chunking chunking);
 }
@@ -3,6 +3,7 @@ package com.github.dreamhead.moco.action;
 import com.github.dreamhead.moco.MocoConfig;
 import com.github.dreamhead.moco.MocoEventAction;
 import com.github.dreamhead.moco.Request;
+import com.github.dreamhead.moco.model.MessageContent;
 import com.github.dreamhead.moco.procedure.LatencyProcedure;
 import com.github.dreamhead.moco.util.MocoExecutors;
 
@@ -20,9 +21,20 @@ public final class MocoAsyncAction implements MocoEventAction {
 
     @Override
     public void execute(final Request request) {
+        MessageContent content = request.getContent();
+        if (content != null) {
+            content.detach();
+        }
+
         service.execute(() -> {
-            procedure.execute();
-            action.execute(request);
+            try {
+                procedure.execute();
+                action.execute(request);
+            } finally {
+                if (content != null) {
+                    content.release();
+                }
+            }
         });
     }
 
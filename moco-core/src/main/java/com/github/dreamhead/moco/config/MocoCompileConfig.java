@@ -0,0 +1,17 @@
+package com.github.dreamhead.moco.config;
+
+import com.github.dreamhead.moco.MocoConfig;
+import com.github.dreamhead.moco.RequestMatcher;
+import com.github.dreamhead.moco.matcher.RequestMatcherCompiler;
+
+public final class MocoCompileConfig implements MocoConfig<RequestMatcher> {
+    @Override
+    public boolean isFor(final String id) {
+        return REQUEST_ID.equalsIgnoreCase(id);
+    }
+
+    @Override
+    public RequestMatcher apply(final RequestMatcher target) {
+        return RequestMatcherCompiler.compile(target);
+    }
+}
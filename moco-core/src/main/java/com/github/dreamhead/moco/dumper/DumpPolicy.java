@@ -0,0 +1,70 @@
+package com.github.dreamhead.moco.dumper;
+
+import java.util.SplittableRandom;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+public final class DumpPolicy {
+    private static final DumpPolicy FULL = builder().build();
+
+    private final double sampleRate;
+    private final int maxContentLength;
+
+    private DumpPolicy(final Builder builder) {
+        this.sampleRate = builder.sampleRate;
+        this.maxContentLength = builder.maxContentLength;
+    }
+
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    public int getMaxContentLength() {
+        return maxContentLength;
+    }
+
+    public boolean isSampled() {
+        return sampleRate < 1;
+    }
+
+    public boolean isTruncated(final long length) {
+        return maxContentLength > 0 && length > maxContentLength;
+    }
+
+    public boolean sample(final long seed) {
+        if (!isSampled()) {
+            return true;
+        }
+
+        return new SplittableRandom(seed).nextDouble() < sampleRate;
+    }
+
+    public static DumpPolicy full() {
+        return FULL;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+        private double sampleRate = 1;
+        private int maxContentLength;
+
+        public Builder withSampleRate(final double sampleRate) {
+            checkArgument(sampleRate >= 0 && sampleRate <= 1, "Sample rate should be between 0 and 1");
+            this.sampleRate = sampleRate;
+            return this;
+        }
+
+        public Builder withMaxContentLength(final int maxContentLength) {
+            checkArgument(maxContentLength >= 0, "Max content length should not be negative");
+            this.maxContentLength = maxContentLength;
+            return this;
+        }
+
+        public DumpPolicy build() {
+            return new DumpPolicy(this);
+        }
+    }
+}
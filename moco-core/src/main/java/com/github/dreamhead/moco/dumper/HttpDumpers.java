@@ -1,12 +1,20 @@
 package com.github.dreamhead.moco.dumper;
 
 import com.github.dreamhead.moco.HttpMessage;
+import com.github.dreamhead.moco.model.DefaultHttpMessage;
+import com.github.dreamhead.moco.model.DefaultMutableHttpResponse;
+import com.github.dreamhead.moco.model.MessageContent;
 import com.google.common.base.Joiner;
 import com.google.common.collect.Maps;
+import com.google.common.hash.Hashing;
 import com.google.common.net.HttpHeaders;
 import com.google.common.net.MediaType;
+import io.netty.buffer.ByteBuf;
 import io.netty.util.internal.StringUtil;
 
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CodingErrorAction;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -16,20 +24,55 @@ import static com.google.common.collect.ImmutableList.toImmutableList;
 
 public final class HttpDumpers {
     public static String asContent(final HttpMessage message) {
+        return asContent(message, DumpPolicy.full());
+    }
+
+    public static String asContent(final HttpMessage message, final DumpPolicy policy) {
         if (message.hasContent()) {
-            return StringUtil.NEWLINE + StringUtil.NEWLINE + contentForDump(message);
+            return StringUtil.NEWLINE + StringUtil.NEWLINE + contentForDump(message, policy);
         }
 
         return "";
     }
 
-    private static String contentForDump(final HttpMessage message) {
+    private static String contentForDump(final HttpMessage message, final DumpPolicy policy) {
+        MessageContent content = message.getContent();
+        if (content.getFile().isPresent()) {
+            return String.format("<content is spooled, %d bytes>", content.getLength());
+        }
+
         String type = message.getHeader(HttpHeaders.CONTENT_TYPE);
-        if (isText(type)) {
-            return message.getContent().toString();
+        if (!isText(type)) {
+            return binary(content);
+        }
+
+        long length = content.getLength();
+        if (policy.isTruncated(length)) {
+            return truncated(content, policy.getMaxContentLength(), length);
+        }
+
+        return content.toString();
+    }
+
+    private static String binary(final MessageContent content) {
+        ByteBuf buffer = content.retainedBuffer();
+        try {
+            return String.format("<content is binary, %d bytes, crc32c %s>",
+                    buffer.readableBytes(), Hashing.crc32c().hashBytes(buffer.nioBuffer()));
+        } finally {
+            buffer.release();
         }
+    }
 
-        return "<content is binary>";
+    private static String truncated(final MessageContent content, final int limit, final long length) {
+        ByteBuffer prefix = ByteBuffer.wrap(content.getPrefix(limit));
+        CharBuffer shown = CharBuffer.allocate(limit);
+        content.getCharset().newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE)
+                .decode(prefix, shown, false);
+        shown.flip();
+        return shown + String.format("...<truncated, %d of %d bytes shown>", prefix.position(), length);
     }
 
     private static boolean isText(final String type) {
@@ -50,6 +93,14 @@ public final class HttpDumpers {
     private static final Joiner.MapJoiner HEAD_JOINER = Joiner.on(StringUtil.NEWLINE).withKeyValueSeparator(": ");
 
     public static String asHeaders(final HttpMessage message) {
+        if (message instanceof DefaultHttpMessage) {
+            return HEAD_JOINER.join(((DefaultHttpMessage) message).getMessageHeaders());
+        }
+
+        if (message instanceof DefaultMutableHttpResponse) {
+            return HEAD_JOINER.join(((DefaultMutableHttpResponse) message).getMessageHeaders());
+        }
+
         return HEAD_JOINER.join(message.getHeaders().entrySet().stream()
                 .flatMap(HttpDumpers::toEntries)
                 .collect(Collectors.toList()));
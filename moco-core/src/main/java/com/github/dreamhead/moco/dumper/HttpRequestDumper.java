@@ -13,6 +13,16 @@ import static com.github.dreamhead.moco.dumper.HttpDumpers.asHeaders;
 import static java.util.stream.Collectors.joining;
 
 public final class HttpRequestDumper implements Dumper<Request> {
+    private final DumpPolicy policy;
+
+    public HttpRequestDumper() {
+        this(DumpPolicy.full());
+    }
+
+    public HttpRequestDumper(final DumpPolicy policy) {
+        this.policy = policy;
+    }
+
     @Override
     public String dump(final Request request) {
         HttpRequest httpRequest = (HttpRequest) request;
@@ -20,7 +30,7 @@ public final class HttpRequestDumper implements Dumper<Request> {
         buf.append(requestProtocolLine(httpRequest))
                 .append(StringUtil.NEWLINE)
                 .append(asHeaders(httpRequest))
-                .append(asContent(httpRequest));
+                .append(asContent(httpRequest, policy));
         return buf.toString();
     }
 
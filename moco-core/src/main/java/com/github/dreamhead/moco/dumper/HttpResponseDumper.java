@@ -8,6 +8,16 @@ import static com.github.dreamhead.moco.dumper.HttpDumpers.asContent;
 import static com.github.dreamhead.moco.dumper.HttpDumpers.asHeaders;
 
 public final class HttpResponseDumper implements Dumper<Response> {
+    private final DumpPolicy policy;
+
+    public HttpResponseDumper() {
+        this(DumpPolicy.full());
+    }
+
+    public HttpResponseDumper(final DumpPolicy policy) {
+        this.policy = policy;
+    }
+
     @Override
     public String dump(final Response response) {
         HttpResponse httpResponse = (HttpResponse) response;
@@ -15,7 +25,7 @@ public final class HttpResponseDumper implements Dumper<Response> {
                 .append(responseProtocolLine(httpResponse))
                 .append(StringUtil.NEWLINE)
                 .append(asHeaders(httpResponse))
-                .append(asContent(httpResponse))
+                .append(asContent(httpResponse, policy))
                 .toString();
     }
 
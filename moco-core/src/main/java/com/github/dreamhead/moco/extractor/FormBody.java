@@ -0,0 +1,24 @@
+package com.github.dreamhead.moco.extractor;
+
+import com.github.dreamhead.moco.model.UploadedFile;
+import com.google.common.collect.ImmutableMap;
+
+public final class FormBody {
+    public static final FormBody EMPTY = new FormBody(ImmutableMap.of(), ImmutableMap.of());
+
+    private final ImmutableMap<String, String> forms;
+    private final ImmutableMap<String, UploadedFile> uploads;
+
+    FormBody(final ImmutableMap<String, String> forms, final ImmutableMap<String, UploadedFile> uploads) {
+        this.forms = forms;
+        this.uploads = uploads;
+    }
+
+    public ImmutableMap<String, String> getForms() {
+        return forms;
+    }
+
+    public ImmutableMap<String, UploadedFile> getUploads() {
+        return uploads;
+    }
+}
@@ -0,0 +1,75 @@
+package com.github.dreamhead.moco.extractor;
+
+import com.github.dreamhead.moco.HttpRequest;
+import com.github.dreamhead.moco.HttpRequestExtractor;
+import com.github.dreamhead.moco.MocoException;
+import com.github.dreamhead.moco.model.UploadedFile;
+import com.google.common.base.Suppliers;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import io.netty.handler.codec.http.multipart.Attribute;
+import io.netty.handler.codec.http.multipart.FileUpload;
+import io.netty.handler.codec.http.multipart.InterfaceHttpData;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static com.google.common.collect.ImmutableMap.toImmutableMap;
+import static com.google.common.io.Files.asByteSource;
+
+public final class FormBodyRequestExtractor extends HttpRequestExtractor<FormBody> {
+    @Override
+    protected Optional<FormBody> doExtract(final HttpRequest request) {
+        Supplier<ImmutableMap<String, String>> digests = Suppliers.memoize(() ->
+                FormDecoder.decode(request, FormBodyRequestExtractor::digests).orElseGet(ImmutableMap::of));
+        return FormDecoder.decode(request, data -> new FormBody(forms(data), uploads(data, digests)));
+    }
+
+    private static ImmutableMap<String, String> forms(final List<InterfaceHttpData> data) {
+        return data.stream()
+                .filter(item -> item.getHttpDataType() == InterfaceHttpData.HttpDataType.Attribute)
+                .map(item -> (Attribute) item)
+                .collect(toImmutableMap(Attribute::getName, FormBodyRequestExtractor::valueOf));
+    }
+
+    private static String valueOf(final Attribute attribute) {
+        try {
+            return attribute.getValue();
+        } catch (IOException e) {
+            throw new MocoException(e);
+        }
+    }
+
+    private static ImmutableMap<String, UploadedFile> uploads(final List<InterfaceHttpData> data,
+                                                             final Supplier<ImmutableMap<String, String>> digests) {
+        return data.stream()
+                .filter(item -> item.getHttpDataType() == InterfaceHttpData.HttpDataType.FileUpload)
+                .map(item -> (FileUpload) item)
+                .collect(toImmutableMap(FileUpload::getName,
+                        upload -> new UploadedFile(upload.getFilename(), upload.getContentType(), upload.length(),
+                                () -> digests.get().get(upload.getName())),
+                        (first, second) -> first));
+    }
+
+    private static ImmutableMap<String, String> digests(final List<InterfaceHttpData> data) {
+        return data.stream()
+                .filter(item -> item.getHttpDataType() == InterfaceHttpData.HttpDataType.FileUpload)
+                .map(item -> (FileUpload) item)
+                .collect(toImmutableMap(FileUpload::getName, FormBodyRequestExtractor::digest,
+                        (first, second) -> first));
+    }
+
+    private static String digest(final FileUpload upload) {
+        try {
+            HashCode hash = upload.isInMemory()
+                    ? Hashing.sha256().hashBytes(upload.getByteBuf().nioBuffer())
+                    : asByteSource(upload.getFile()).hash(Hashing.sha256());
+            return hash.toString();
+        } catch (IOException e) {
+            throw new MocoException(e);
+        }
+    }
+}
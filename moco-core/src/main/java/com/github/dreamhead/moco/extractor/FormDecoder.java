@@ -0,0 +1,109 @@
+package com.github.dreamhead.moco.extractor;
+
+import com.github.dreamhead.moco.HttpRequest;
+import com.github.dreamhead.moco.MocoException;
+import com.github.dreamhead.moco.model.MessageContent;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.handler.codec.http.multipart.DefaultHttpDataFactory;
+import io.netty.handler.codec.http.multipart.HttpPostRequestDecoder;
+import io.netty.handler.codec.http.multipart.InterfaceHttpData;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+
+final class FormDecoder {
+    private static final int CHUNK_SIZE = 8192;
+
+    static <T> Optional<T> decode(final HttpRequest request, final Function<List<InterfaceHttpData>, T> function) {
+        io.netty.handler.codec.http.HttpRequest target = new DefaultHttpRequest(HttpVersion.HTTP_1_1,
+                HttpMethod.POST, "/");
+        String contentType = request.getHeader(HttpHeaderNames.CONTENT_TYPE.toString());
+        if (contentType != null) {
+            target.headers().set(HttpHeaderNames.CONTENT_TYPE, contentType);
+        }
+
+        Charset charset = HttpUtil.getCharset(target);
+        HttpPostRequestDecoder decoder = null;
+        try {
+            decoder = new HttpPostRequestDecoder(new DefaultHttpDataFactory(DefaultHttpDataFactory.MINSIZE, charset),
+                    target, charset);
+            offer(decoder, request.getContent());
+            return of(function.apply(decoder.getBodyHttpDatas()));
+        } catch (HttpPostRequestDecoder.ErrorDataDecoderException
+                 | HttpPostRequestDecoder.NotEnoughDataDecoderException e) {
+            return empty();
+        } finally {
+            if (decoder != null) {
+                decoder.destroy();
+            }
+        }
+    }
+
+    private static void offer(final HttpPostRequestDecoder decoder, final MessageContent content) {
+        if (content == null) {
+            decoder.offer(LastHttpContent.EMPTY_LAST_CONTENT);
+            return;
+        }
+
+        Optional<File> file = content.getFile();
+        if (file.isPresent()) {
+            offer(decoder, file.get());
+            return;
+        }
+
+        offer(decoder, new DefaultLastHttpContent(content.retainedBuffer()));
+    }
+
+    private static void offer(final HttpPostRequestDecoder decoder, final File file) {
+        try (RandomAccessFile source = new RandomAccessFile(file, "r")) {
+            FileChannel channel = source.getChannel();
+            long length = channel.size();
+            long position = 0;
+            while (position < length) {
+                ByteBuf chunk = Unpooled.buffer(CHUNK_SIZE);
+                int read = chunk.writeBytes(channel, position, (int) Math.min(CHUNK_SIZE, length - position));
+                if (read < 0) {
+                    chunk.release();
+                    break;
+                }
+
+                offer(decoder, new DefaultHttpContent(chunk));
+                position += read;
+            }
+        } catch (IOException e) {
+            throw new MocoException(e);
+        }
+
+        decoder.offer(LastHttpContent.EMPTY_LAST_CONTENT);
+    }
+
+    private static void offer(final HttpPostRequestDecoder decoder, final HttpContent content) {
+        try {
+            decoder.offer(content);
+        } finally {
+            content.release();
+        }
+    }
+
+    private FormDecoder() {
+    }
+}
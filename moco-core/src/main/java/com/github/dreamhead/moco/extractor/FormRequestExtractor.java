@@ -2,6 +2,7 @@ package com.github.dreamhead.moco.extractor;
 
 import com.github.dreamhead.moco.HttpRequest;
 import com.github.dreamhead.moco.HttpRequestExtractor;
+import com.github.dreamhead.moco.model.DefaultHttpRequest;
 import com.google.common.collect.ImmutableMap;
 
 import java.util.Optional;
@@ -16,7 +17,15 @@ public final class FormRequestExtractor extends HttpRequestExtractor<String> {
 
     @Override
     protected Optional<String> doExtract(final HttpRequest request) {
-        Optional<ImmutableMap<String, String>> forms = extractor.extract(request);
+        Optional<ImmutableMap<String, String>> forms = forms(request);
         return forms.map(formValues -> formValues.get(key));
     }
+
+    private Optional<ImmutableMap<String, String>> forms(final HttpRequest request) {
+        if (request instanceof DefaultHttpRequest) {
+            return Optional.of(((DefaultHttpRequest) request).getForms());
+        }
+
+        return extractor.extract(request);
+    }
 }
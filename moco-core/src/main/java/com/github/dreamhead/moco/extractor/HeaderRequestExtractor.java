@@ -2,6 +2,7 @@ package com.github.dreamhead.moco.extractor;
 
 import com.github.dreamhead.moco.HttpRequest;
 import com.github.dreamhead.moco.HttpRequestExtractor;
+import com.github.dreamhead.moco.model.DefaultHttpRequest;
 import com.github.dreamhead.moco.util.HttpHeaders;
 
 import java.util.Arrays;
@@ -18,14 +19,13 @@ public final class HeaderRequestExtractor extends HttpRequestExtractor<String[]>
         this.name = name;
     }
 
+    public String getName() {
+        return name;
+    }
+
     @Override
     protected Optional<String[]> doExtract(final HttpRequest request) {
-        String[] extractedValues = request.getHeaders().entrySet().stream()
-                .filter(input -> HttpHeaders.isSameHeaderName(input.getKey(), name))
-                .map(Map.Entry::getValue)
-                .flatMap(Arrays::stream)
-                .toArray(String[]::new);
-
+        String[] extractedValues = values(request);
         if (extractedValues.length > 0) {
             return of(extractedValues);
         }
@@ -33,4 +33,16 @@ public final class HeaderRequestExtractor extends HttpRequestExtractor<String[]>
         return empty();
     }
 
+    private String[] values(final HttpRequest request) {
+        if (request instanceof DefaultHttpRequest) {
+            return ((DefaultHttpRequest) request).getMessageHeaders().getAll(name);
+        }
+
+        return request.getHeaders().entrySet().stream()
+                .filter(input -> HttpHeaders.isSameHeaderName(input.getKey(), name))
+                .map(Map.Entry::getValue)
+                .flatMap(Arrays::stream)
+                .toArray(String[]::new);
+    }
+
 }
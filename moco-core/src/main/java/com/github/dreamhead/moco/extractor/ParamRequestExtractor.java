@@ -12,6 +12,10 @@ public final class ParamRequestExtractor extends HttpRequestExtractor<String[]>
         this.param = param;
     }
 
+    public String getParam() {
+        return param;
+    }
+
     @Override
     protected Optional<String[]> doExtract(final HttpRequest request) {
         String[] reference = request.getQueries().get(this.param);
@@ -0,0 +1,35 @@
+package com.github.dreamhead.moco.extractor;
+
+import com.github.dreamhead.moco.HttpRequest;
+import com.github.dreamhead.moco.HttpRequestExtractor;
+import com.github.dreamhead.moco.model.DefaultHttpRequest;
+import com.github.dreamhead.moco.model.UploadedFile;
+import com.google.common.collect.ImmutableMap;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+public final class UploadRequestExtractor extends HttpRequestExtractor<String> {
+    private final UploadsRequestExtractor extractor = new UploadsRequestExtractor();
+    private final String key;
+    private final Function<UploadedFile, String> property;
+
+    public UploadRequestExtractor(final String key, final Function<UploadedFile, String> property) {
+        this.key = key;
+        this.property = property;
+    }
+
+    @Override
+    protected Optional<String> doExtract(final HttpRequest request) {
+        Optional<ImmutableMap<String, UploadedFile>> uploads = uploads(request);
+        return uploads.map(files -> files.get(key)).map(property);
+    }
+
+    private Optional<ImmutableMap<String, UploadedFile>> uploads(final HttpRequest request) {
+        if (request instanceof DefaultHttpRequest) {
+            return Optional.of(((DefaultHttpRequest) request).getUploads());
+        }
+
+        return extractor.extract(request);
+    }
+}
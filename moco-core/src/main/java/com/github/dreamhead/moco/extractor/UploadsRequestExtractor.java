@@ -0,0 +1,17 @@
+package com.github.dreamhead.moco.extractor;
+
+import com.github.dreamhead.moco.HttpRequest;
+import com.github.dreamhead.moco.HttpRequestExtractor;
+import com.github.dreamhead.moco.model.UploadedFile;
+import com.google.common.collect.ImmutableMap;
+
+import java.util.Optional;
+
+public final class UploadsRequestExtractor extends HttpRequestExtractor<ImmutableMap<String, UploadedFile>> {
+    private final FormBodyRequestExtractor extractor = new FormBodyRequestExtractor();
+
+    @Override
+    protected Optional<ImmutableMap<String, UploadedFile>> doExtract(final HttpRequest request) {
+        return extractor.extract(request).map(FormBody::getUploads);
+    }
+}
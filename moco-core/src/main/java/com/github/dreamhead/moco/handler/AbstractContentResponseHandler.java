@@ -36,7 +36,7 @@ public abstract class AbstractContentResponseHandler extends AbstractResponseHan
                                    final HttpRequest httpRequest, final MutableHttpResponse httpResponse) {
         MessageContent content = requireResponseContent(context);
         httpResponse.setContent(content);
-        httpResponse.addHeader(HttpHeaders.CONTENT_LENGTH, content.getContent().length);
+        httpResponse.addHeader(HttpHeaders.CONTENT_LENGTH, content.getLength());
 
         if (!detector.hasContentType(httpResponse)) {
             httpResponse.addHeader(HttpHeaders.CONTENT_TYPE, getContentType(httpRequest));
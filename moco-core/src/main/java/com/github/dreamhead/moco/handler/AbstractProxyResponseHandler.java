@@ -5,6 +5,7 @@ import com.github.dreamhead.moco.HttpResponse;
 import com.github.dreamhead.moco.MocoException;
 import com.github.dreamhead.moco.MutableHttpResponse;
 import com.github.dreamhead.moco.handler.failover.Failover;
+import com.github.dreamhead.moco.jfr.FlightRecorders;
 import com.github.dreamhead.moco.model.DefaultHttpRequest;
 import com.google.common.collect.ImmutableSet;
 import io.netty.buffer.ByteBuf;
@@ -237,7 +238,10 @@ public abstract class AbstractProxyResponseHandler extends AbstractHttpResponseH
         try (CloseableHttpClient client = createClient()) {
             try {
                 HttpUriRequestBase remoteRequest = prepareRemoteRequest(request, remoteUrl);
+                long start = System.nanoTime();
                 try (CloseableHttpResponse response = client.execute(remoteRequest)) {
+                    FlightRecorders.recorder().proxyForwarded(remoteUrl.toString(), response.getCode(),
+                            System.nanoTime() - start);
                     return setupResponse(request, response);
                 }
             } catch (ClientProtocolException e) {
@@ -0,0 +1,18 @@
+package com.github.dreamhead.moco.handler;
+
+import com.github.dreamhead.moco.HttpRequest;
+import com.github.dreamhead.moco.MutableHttpResponse;
+import com.github.dreamhead.moco.model.Chunking;
+
+public class ChunkedResponseHandler extends AbstractHttpResponseHandler {
+    private final Chunking chunking;
+
+    public ChunkedResponseHandler(final Chunking chunking) {
+        this.chunking = chunking;
+    }
+
+    @Override
+    protected final void doWriteToResponse(final HttpRequest httpRequest, final MutableHttpResponse httpResponse) {
+        httpResponse.setChunking(chunking);
+    }
+}
@@ -9,7 +9,6 @@ public class HeaderDetector {
     }
 
     public final boolean hasHeader(final HttpResponse httpResponse, final String name) {
-        return httpResponse.getHeaders().entrySet().stream()
-                .anyMatch(input -> com.github.dreamhead.moco.util.HttpHeaders.isSameHeaderName(input.getKey(), name));
+        return httpResponse.getHeader(name) != null;
     }
 }
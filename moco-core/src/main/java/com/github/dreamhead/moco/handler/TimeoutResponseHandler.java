@@ -0,0 +1,94 @@
+package com.github.dreamhead.moco.handler;
+
+import com.github.dreamhead.moco.HttpRequest;
+import com.github.dreamhead.moco.MocoConfig;
+import com.github.dreamhead.moco.MutableHttpResponse;
+import com.github.dreamhead.moco.ResponseHandler;
+import com.github.dreamhead.moco.internal.Deadline;
+import com.github.dreamhead.moco.internal.SessionContext;
+import com.github.dreamhead.moco.model.DefaultMutableHttpResponse;
+import com.github.dreamhead.moco.model.MessageContent;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+public final class TimeoutResponseHandler extends AbstractResponseHandler {
+    private final ResponseHandler handler;
+    private final Deadline deadline;
+
+    public TimeoutResponseHandler(final ResponseHandler handler, final long timeout,
+                                  final TimeUnit unit, final int status) {
+        this(handler, new Deadline(timeout, unit, status));
+    }
+
+    private TimeoutResponseHandler(final ResponseHandler handler, final Deadline deadline) {
+        this.handler = handler;
+        this.deadline = deadline;
+    }
+
+    public long getExpiredRequests() {
+        return deadline.getExpiredRequests();
+    }
+
+    @Override
+    public void writeToResponse(final SessionContext context) {
+        if (!(context.getRequest() instanceof HttpRequest) || !(context.getResponse() instanceof MutableHttpResponse)) {
+            handler.writeToResponse(context);
+            return;
+        }
+
+        HttpRequest request = (HttpRequest) context.getRequest();
+        MutableHttpResponse response = (MutableHttpResponse) context.getResponse();
+        DefaultMutableHttpResponse scratch = DefaultMutableHttpResponse.newResponse(request, response.getStatus());
+        scratch.setVersion(response.getVersion());
+        MessageContent content = request.getContent();
+        if (content != null) {
+            content.detach();
+        }
+
+        SessionContext derived = context.forResponse(scratch);
+        Optional<DefaultMutableHttpResponse> result = deadline.call(() -> {
+            handler.writeToResponse(derived);
+            return scratch;
+        }, () -> {
+            if (content != null) {
+                content.release();
+            }
+        });
+
+        if (result.isPresent()) {
+            context.merge(derived);
+            copy(result.get(), response);
+            return;
+        }
+
+        response.setStatus(deadline.getStatus());
+    }
+
+    private void copy(final DefaultMutableHttpResponse from, final MutableHttpResponse to) {
+        to.setStatus(from.getStatus());
+        to.setVersion(from.getVersion());
+        for (Map.Entry<String, String[]> header : from.getHeaders().entrySet()) {
+            for (String value : header.getValue()) {
+                to.addHeader(header.getKey(), value);
+            }
+        }
+
+        if (from.getContent() != null) {
+            to.setContent(from.getContent());
+        }
+
+        from.getChunking().ifPresent(to::setChunking);
+    }
+
+    @Override
+    protected ResponseHandler doApply(final MocoConfig config) {
+        ResponseHandler applied = handler.apply(config);
+        if (applied == handler) {
+            return this;
+        }
+
+        return new TimeoutResponseHandler(applied, deadline);
+    }
+}
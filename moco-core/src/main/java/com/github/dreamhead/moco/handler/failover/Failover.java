@@ -2,6 +2,7 @@ package com.github.dreamhead.moco.handler.failover;
 
 import com.github.dreamhead.moco.HttpRequest;
 import com.github.dreamhead.moco.HttpResponse;
+import com.github.dreamhead.moco.jfr.FlightRecorders;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.primitives.Ints;
 import io.netty.handler.codec.http.HttpResponseStatus;
@@ -36,6 +37,7 @@ public final class Failover {
     }
 
     public HttpResponse failover(final HttpRequest request) {
+        FlightRecorders.recorder().failoverHit(request, isPlayback());
         return executor.failover(request);
     }
 
@@ -5,6 +5,8 @@ import com.github.dreamhead.moco.MocoConfig;
 import com.github.dreamhead.moco.MocoMonitor;
 import com.github.dreamhead.moco.RequestMatcher;
 import com.github.dreamhead.moco.WebSocketServer;
+import com.github.dreamhead.moco.config.MocoCompileConfig;
+import com.github.dreamhead.moco.dumper.DumpPolicy;
 import com.github.dreamhead.moco.dumper.HttpRequestDumper;
 import com.github.dreamhead.moco.dumper.HttpResponseDumper;
 import com.github.dreamhead.moco.monitor.QuietMonitor;
@@ -12,26 +14,34 @@ import com.github.dreamhead.moco.monitor.Slf4jMonitor;
 import com.github.dreamhead.moco.monitor.ThreadSafeMonitor;
 import com.github.dreamhead.moco.setting.HttpSetting;
 import com.github.dreamhead.moco.websocket.ActualWebSocketServer;
-import io.netty.handler.ssl.SslHandler;
+import com.google.common.collect.ObjectArrays;
+import io.netty.handler.ssl.ApplicationProtocolConfig;
+import io.netty.handler.ssl.ApplicationProtocolNames;
+import io.netty.handler.ssl.ClientAuth;
+import io.netty.handler.ssl.IdentityCipherSuiteFilter;
+import io.netty.handler.ssl.JdkSslContext;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslProvider;
 
-import javax.net.ssl.SSLEngine;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
+import static com.github.dreamhead.moco.monitor.SampledMonitor.sampled;
 import static com.github.dreamhead.moco.util.Preconditions.checkNotNullOrEmpty;
 import static com.google.common.base.Preconditions.checkArgument;
 
 public class ActualHttpServer extends HttpConfiguration<ActualHttpServer> {
-    private static final int MAX_HEADER_SIZE = 8192;
-    private static final int MAX_CONTENT_LENGTH = 1048576;
-
     private final HttpsCertificate certificate;
     private final ServerConfig serverConfig;
+    private final ConnectionStats connectionStats = new ConnectionStats();
+    private final AdmissionController admissionController;
+    private final Deadline deadline;
     private ActualWebSocketServer websocketServer;
 
     protected ActualHttpServer(final int port,
                                final HttpsCertificate certificate,
                                final MocoMonitor monitor, final MocoConfig<?>... configs) {
-        this(port, certificate, monitor, new ServerConfig(MAX_HEADER_SIZE, MAX_CONTENT_LENGTH), configs);
+        this(port, certificate, monitor, ServerConfig.builder().build(), configs);
     }
 
     protected ActualHttpServer(final int port,
@@ -39,35 +49,83 @@ public class ActualHttpServer extends HttpConfiguration<ActualHttpServer> {
                                final MocoMonitor monitor,
                                final ServerConfig serverConfig,
                                final MocoConfig<?>... configs) {
-        super(port, monitor, configs);
+        super(port, monitor, serverConfig.getDispatchCacheSize(), withMatcherCompilation(configs, serverConfig));
         this.certificate = certificate;
         this.serverConfig = serverConfig;
+        this.admissionController = new AdmissionController(serverConfig);
+        this.deadline = new Deadline(serverConfig.getHandlerTimeout(), TimeUnit.MILLISECONDS,
+                serverConfig.getTimeoutStatus());
+    }
+
+    private static MocoConfig<?>[] withMatcherCompilation(final MocoConfig<?>[] configs,
+                                                          final ServerConfig serverConfig) {
+        if (!serverConfig.isMatcherCompilationEnabled()) {
+            return configs;
+        }
+
+        return ObjectArrays.concat(configs, new MocoCompileConfig());
     }
 
     public final ServerConfig getServerConfig() {
         return serverConfig;
     }
 
+    public final ConnectionStats getConnectionStats() {
+        return connectionStats;
+    }
+
+    public final AdmissionController getAdmissionController() {
+        return admissionController;
+    }
+
+    public final Deadline getDeadline() {
+        return deadline;
+    }
+
     public final boolean isSecure() {
         return certificate != null;
     }
 
-    public final SslHandler getRequiredSslHandler() {
+    public final SslContext newSslContext() {
         if (this.certificate == null) {
             throw new IllegalArgumentException();
         }
 
-        return asSslHandler(certificate);
+        return new JdkSslContext(certificate.createSSLContext(), false, tlsCiphers(), IdentityCipherSuiteFilter.INSTANCE,
+                applicationProtocols(), ClientAuth.NONE, tlsProtocols(), false);
     }
 
-    private SslHandler asSslHandler(final HttpsCertificate certificate) {
-        SSLEngine sslEngine = certificate.createSSLEngine();
-        sslEngine.setUseClientMode(false);
-        return new SslHandler(sslEngine);
+    private Iterable<String> tlsCiphers() {
+        if (serverConfig.getTlsCiphers().isEmpty()) {
+            return null;
+        }
+
+        return serverConfig.getTlsCiphers();
+    }
+
+    private String[] tlsProtocols() {
+        if (serverConfig.getTlsProtocols().isEmpty()) {
+            return null;
+        }
+
+        return serverConfig.getTlsProtocols().toArray(new String[0]);
+    }
+
+    private static ApplicationProtocolConfig applicationProtocols() {
+        if (!SslProvider.isAlpnSupported(SslProvider.JDK)) {
+            return ApplicationProtocolConfig.DISABLED;
+        }
+
+        return new ApplicationProtocolConfig(ApplicationProtocolConfig.Protocol.ALPN,
+                ApplicationProtocolConfig.SelectorFailureBehavior.NO_ADVERTISE,
+                ApplicationProtocolConfig.SelectedListenerFailureBehavior.ACCEPT,
+                ApplicationProtocolNames.HTTP_2, ApplicationProtocolNames.HTTP_1_1);
     }
 
     protected final ActualHttpServer createMergeServer(final ActualHttpServer thatServer) {
-        return newBaseServer(mergePort(this, thatServer).orElse(0), isQuiet(this, thatServer), mergedCertificate(this.certificate, thatServer.certificate));
+        return newBaseServer(mergePort(this, thatServer).orElse(0), isQuiet(this, thatServer),
+                mergedCertificate(this.certificate, thatServer.certificate),
+                this.serverConfig.merge(thatServer.serverConfig));
     }
 
     private boolean isQuiet(final ActualHttpServer thisServer, final ActualHttpServer thatServer) {
@@ -92,12 +150,13 @@ public class ActualHttpServer extends HttpConfiguration<ActualHttpServer> {
         return other;
     }
 
-    private ActualHttpServer newBaseServer(final int port, final boolean quite, final HttpsCertificate certificate) {
+    private ActualHttpServer newBaseServer(final int port, final boolean quite, final HttpsCertificate certificate,
+                                           final ServerConfig serverConfig) {
         if (certificate != null) {
-            return createHttpsServer(port, quite, certificate);
+            return createHttpsServer(port, quite, certificate, serverConfig);
         }
 
-        return createHttpServer(port, quite);
+        return createHttpServer(port, quite, serverConfig);
     }
 
     public static ActualHttpServer createHttpsServer(final int port, final boolean quite,
@@ -117,6 +176,27 @@ public class ActualHttpServer extends HttpConfiguration<ActualHttpServer> {
         return createLogServer(port);
     }
 
+    public static ActualHttpServer createHttpServer(final int port, final boolean quiet,
+                                                    final ServerConfig serverConfig) {
+        return new ActualHttpServer(port, null, httpMonitor(quiet, serverConfig), serverConfig);
+    }
+
+    public static ActualHttpServer createHttpsServer(final int port, final boolean quiet,
+                                                     final HttpsCertificate certificate,
+                                                     final ServerConfig serverConfig) {
+        return new ActualHttpServer(port, certificate, httpMonitor(quiet, serverConfig), serverConfig);
+    }
+
+    private static MocoMonitor httpMonitor(final boolean quiet, final ServerConfig serverConfig) {
+        if (quiet) {
+            return new QuietMonitor();
+        }
+
+        DumpPolicy policy = serverConfig.getDumpPolicy();
+        return new ThreadSafeMonitor(sampled(new Slf4jMonitor(new HttpRequestDumper(policy),
+                new HttpResponseDumper(policy)), policy));
+    }
+
     public static ActualHttpServer createHttpServerWithMonitor(final int port,
                                                                final MocoMonitor monitor,
                                                                final MocoConfig<?>... configs) {
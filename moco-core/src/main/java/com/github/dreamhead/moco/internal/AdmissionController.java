@@ -0,0 +1,116 @@
+package com.github.dreamhead.moco.internal;
+
+import com.google.common.base.MoreObjects;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class AdmissionController {
+    private static final int INITIAL_ADAPTIVE_LIMIT = 128;
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final boolean enabled;
+    private final int maxLimit;
+    private final long latencyTarget;
+    private final AtomicInteger limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong lastBackoff = new AtomicLong();
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder shed = new LongAdder();
+
+    public AdmissionController(final ServerConfig config) {
+        this.enabled = config.isAdmissionControlEnabled();
+        this.maxLimit = config.getMaxInFlightRequests() > 0 ? config.getMaxInFlightRequests() : Integer.MAX_VALUE;
+        this.latencyTarget = TimeUnit.MILLISECONDS.toNanos(config.getLatencyTarget());
+        this.limit = new AtomicInteger(Math.min(maxLimit, initialLimit(config)));
+        this.lastBackoff.set(System.nanoTime() - latencyTarget);
+    }
+
+    private static int initialLimit(final ServerConfig config) {
+        if (config.getMaxInFlightRequests() > 0) {
+            return config.getMaxInFlightRequests();
+        }
+
+        return INITIAL_ADAPTIVE_LIMIT;
+    }
+
+    public boolean tryAdmit() {
+        if (!enabled) {
+            return true;
+        }
+
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit.get()) {
+                shed.increment();
+                return false;
+            }
+
+            if (inFlight.compareAndSet(current, current + 1)) {
+                admitted.increment();
+                return true;
+            }
+        }
+    }
+
+    public void complete(final long latencyNanos) {
+        if (!enabled) {
+            return;
+        }
+
+        int current = inFlight.getAndDecrement();
+        if (latencyTarget <= 0) {
+            return;
+        }
+
+        if (latencyNanos > latencyTarget) {
+            backoff();
+            return;
+        }
+
+        if (current * 2 >= limit.get()) {
+            limit.updateAndGet(value -> Math.min(maxLimit, value + 1));
+        }
+    }
+
+    // Slow responses of one burst are all reported within about one latency target, so back off once per target.
+    private void backoff() {
+        long now = System.nanoTime();
+        long last = lastBackoff.get();
+        if (now - last >= latencyTarget && lastBackoff.compareAndSet(last, now)) {
+            limit.updateAndGet(value -> Math.max(1, (int) (value * BACKOFF_RATIO)));
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getLimit() {
+        return limit.get();
+    }
+
+    public int getInFlightRequests() {
+        return inFlight.get();
+    }
+
+    public long getAdmittedRequests() {
+        return admitted.sum();
+    }
+
+    public long getShedRequests() {
+        return shed.sum();
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("limit", getLimit())
+                .add("in flight", getInFlightRequests())
+                .add("admitted", getAdmittedRequests())
+                .add("shed", getShedRequests())
+                .toString();
+    }
+}
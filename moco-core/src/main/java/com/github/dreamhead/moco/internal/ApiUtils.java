@@ -5,6 +5,7 @@ import com.github.dreamhead.moco.MocoMonitor;
 import com.github.dreamhead.moco.RequestExtractor;
 import com.github.dreamhead.moco.RequestMatcher;
 import com.github.dreamhead.moco.ResponseHandler;
+import com.github.dreamhead.moco.dumper.DumpPolicy;
 import com.github.dreamhead.moco.extractor.ContentRequestExtractor;
 import com.github.dreamhead.moco.handler.failover.DefaultFailoverExecutor;
 import com.github.dreamhead.moco.handler.failover.FailoverExecutor;
@@ -35,6 +36,7 @@ import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import static com.github.dreamhead.moco.monitor.SampledMonitor.sampled;
 import static com.github.dreamhead.moco.resource.ResourceFactory.classpathFileResource;
 import static com.github.dreamhead.moco.resource.ResourceFactory.fileResource;
 import static com.github.dreamhead.moco.util.Iterables.asIterable;
@@ -71,6 +73,10 @@ public final class ApiUtils {
         return new LogMonitor(new DefaultLogFormatter(), writer);
     }
 
+    public static MocoMonitor log(final LogWriter writer, final DumpPolicy policy) {
+        return sampled(new LogMonitor(new DefaultLogFormatter(policy), writer), policy);
+    }
+
     public static <T> RequestMatcher match(final RequestExtractor<T> extractor, final Resource expected) {
         return new MatchMatcher<>(extractor, expected);
     }
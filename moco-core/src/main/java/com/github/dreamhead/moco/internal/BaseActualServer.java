@@ -8,10 +8,13 @@ import com.github.dreamhead.moco.RequestMatcher;
 import com.github.dreamhead.moco.Response;
 import com.github.dreamhead.moco.ResponseHandler;
 import com.github.dreamhead.moco.ResponseSetting;
+import com.github.dreamhead.moco.jfr.FlightRecorders;
+import com.github.dreamhead.moco.jfr.FlightSpan;
 import com.github.dreamhead.moco.server.ServerSetting;
 import com.github.dreamhead.moco.setting.Setting;
 import com.google.common.collect.ImmutableList;
 
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,14 +31,21 @@ public abstract class BaseActualServer<T extends ResponseSetting<T>, U extends B
     private final MocoMonitor monitor;
     private final List<Setting<T>> settings = newArrayList();
     private int port;
+    private Path socketPath;
     private RequestMatcher anyMatcher = ANY_REQUEST_MATCHER;
-    private Responser<T> responser;
+    private final Responser<T> responser;
+    private volatile ConfiguredSettings<T> configured;
 
     public BaseActualServer(final int port, final MocoMonitor monitor, final MocoConfig<?>[] configs) {
+        this(port, monitor, 0, configs);
+    }
+
+    public BaseActualServer(final int port, final MocoMonitor monitor, final int dispatchCacheSize,
+                            final MocoConfig<?>[] configs) {
         this.port = port;
         this.monitor = monitor;
         this.configs = configs;
-        this.responser = new Responser<>(this);
+        this.responser = new Responser<>(this, dispatchCacheSize);
     }
 
     @Override
@@ -51,12 +61,32 @@ public abstract class BaseActualServer<T extends ResponseSetting<T>, U extends B
         this.port = port;
     }
 
+    public final Optional<Path> getSocketPath() {
+        return Optional.ofNullable(socketPath);
+    }
+
+    public final void setSocketPath(final Path socketPath) {
+        this.socketPath = socketPath;
+    }
+
     public final ImmutableList<Setting<T>> getSettings() {
-        return configItems(settings, configs);
+        return configuredSettings().settings;
     }
 
     public final Setting<T> getAnySetting() {
-        return configuredAnySetting();
+        return configuredSettings().anySetting;
+    }
+
+    private ConfiguredSettings<T> configuredSettings() {
+        ConfiguredSettings<T> current = this.configured;
+        long modifications = modifications();
+        if (current == null || current.modifications != modifications) {
+            current = new ConfiguredSettings<>(configItems(settings, configs), configuredAnySetting(),
+                    modifications);
+            this.configured = current;
+        }
+
+        return current;
     }
 
     private Setting<T> configuredAnySetting() {
@@ -83,17 +113,22 @@ public abstract class BaseActualServer<T extends ResponseSetting<T>, U extends B
     }
 
     protected final void addSetting(final Setting<T> setting) {
+        if (setting instanceof BaseResponseSettingConfiguration) {
+            ((BaseResponseSettingConfiguration<?>) setting).reportModificationsTo(this);
+        }
         this.settings.add(setting);
+        modified();
     }
 
     protected final void addEvents(final List<MocoEventTrigger> eventTriggers) {
         this.eventTriggers.addAll(eventTriggers);
+        modified();
     }
 
     protected final void anySetting(final RequestMatcher anyMatcher, final ResponseHandler handler) {
         if (handler != null) {
-            this.response(handler);
             this.anyMatcher = anyMatcher;
+            this.response(handler);
         }
     }
 
@@ -118,6 +153,7 @@ public abstract class BaseActualServer<T extends ResponseSetting<T>, U extends B
     @SuppressWarnings("unchecked")
     public final U mergeServer(final U thatServer) {
         U newServer = createMergeServer(thatServer);
+        newServer.setSocketPath(mergedSocketPath(thatServer));
         newServer.addSettings(this.getSettings());
         newServer.addSettings(thatServer.getSettings());
 
@@ -133,28 +169,56 @@ public abstract class BaseActualServer<T extends ResponseSetting<T>, U extends B
         return newServer;
     }
 
+    private Path mergedSocketPath(final BaseActualServer<?, ?> thatServer) {
+        return this.getSocketPath().orElseGet(() -> thatServer.getSocketPath().orElse(null));
+    }
+
     protected abstract void addExtension(U server);
 
     protected abstract U createMergeServer(U thatServer);
 
     public final Optional<Response> getResponse(final SessionContext context) {
+        if (writeResponse(context)) {
+            return Optional.of(context.getResponse());
+        }
+
+        return Optional.empty();
+    }
+
+    public final boolean writeResponse(final SessionContext context) {
+        FlightSpan span = FlightRecorders.recorder().requestReceived(context.getRequest());
         try {
             monitor.onMessageArrived(context.getRequest());
-            Optional<Response> response = responser.getResponse(context);
+            boolean written = responser.writeResponse(context);
 
-            if (response.isPresent()) {
-                monitor.onMessageLeave(context.getResponse());
+            if (written) {
+                monitor.onMessageLeave(context.getRequest(), context.getResponse());
             } else {
                 monitor.onUnexpectedMessage(context.getRequest());
             }
-            return response;
+            return written;
         } catch (Exception e) {
             monitor.onException(e);
             throw e;
+        } finally {
+            span.end();
         }
     }
 
     public final boolean isQuiet() {
         return this.monitor.isQuiet();
     }
+
+    private static final class ConfiguredSettings<T extends ResponseSetting<T>> {
+        private final ImmutableList<Setting<T>> settings;
+        private final Setting<T> anySetting;
+        private final long modifications;
+
+        ConfiguredSettings(final ImmutableList<Setting<T>> settings, final Setting<T> anySetting,
+                           final long modifications) {
+            this.settings = settings;
+            this.anySetting = anySetting;
+            this.modifications = modifications;
+        }
+    }
 }
@@ -6,6 +6,8 @@ import com.github.dreamhead.moco.ResponseSetting;
 import com.google.common.reflect.TypeToken;
 
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static com.github.dreamhead.moco.handler.AndResponseHandler.and;
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -13,10 +15,11 @@ import static com.google.common.collect.Lists.newArrayList;
 
 public abstract class BaseResponseSettingConfiguration<T extends ResponseSetting<T>>
         extends AbstractResponseBase<T> implements ResponseSetting<T> {
-
     protected ResponseHandler handler;
     protected List<MocoEventTrigger> eventTriggers = newArrayList();
     private final Class<T> clazz;
+    private final AtomicLong modifications = new AtomicLong();
+    private final List<BaseResponseSettingConfiguration<?>> owners = new CopyOnWriteArrayList<>();
 
     @SuppressWarnings("unchecked")
     protected BaseResponseSettingConfiguration() {
@@ -32,6 +35,7 @@ public abstract class BaseResponseSettingConfiguration<T extends ResponseSetting
         ResponseHandler responseHandler = and(checkNotNull(handler, "Handler should not be null"),
                 checkNotNull(handlers, "Handlers should not be null"));
         this.handler = targetHandler(responseHandler);
+        modified();
         return self();
     }
 
@@ -46,6 +50,24 @@ public abstract class BaseResponseSettingConfiguration<T extends ResponseSetting
     @Override
     public final T on(final MocoEventTrigger trigger) {
         this.eventTriggers.add(checkNotNull(trigger, "Trigger should not be null"));
+        modified();
         return self();
     }
+
+    final void reportModificationsTo(final BaseResponseSettingConfiguration<?> owner) {
+        if (!owners.contains(owner)) {
+            owners.add(owner);
+        }
+    }
+
+    protected final long modifications() {
+        return modifications.get();
+    }
+
+    protected final void modified() {
+        modifications.incrementAndGet();
+        for (BaseResponseSettingConfiguration<?> owner : owners) {
+            owner.modified();
+        }
+    }
 }
@@ -0,0 +1,127 @@
+package com.github.dreamhead.moco.internal;
+
+import com.github.dreamhead.moco.model.Chunking;
+import com.github.dreamhead.moco.model.MessageContent;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.LastHttpContent;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+public final class ChunkedContentWriter {
+    private final ChannelHandlerContext ctx;
+    private final MessageContent content;
+    private final Chunking chunking;
+    private final ChannelPromise promise;
+    private final long length;
+    private RandomAccessFile file;
+    private long position;
+
+    public ChunkedContentWriter(final ChannelHandlerContext ctx, final MessageContent content,
+                                final Chunking chunking) {
+        this.ctx = ctx;
+        this.content = content;
+        this.chunking = chunking;
+        this.promise = ctx.newPromise();
+        this.length = content.getLength();
+    }
+
+    public ChannelFuture write() {
+        writeNext();
+        return promise;
+    }
+
+    private void writeNext() {
+        if (!ctx.channel().isActive()) {
+            finish();
+            promise.tryFailure(new ClosedChannelException());
+            return;
+        }
+
+        if (position >= length) {
+            finish();
+            ctx.writeAndFlush(LastHttpContent.EMPTY_LAST_CONTENT, promise);
+            return;
+        }
+
+        try {
+            ctx.writeAndFlush(new DefaultHttpContent(nextChunk())).addListener(future -> {
+                if (!future.isSuccess()) {
+                    finish();
+                    promise.tryFailure(future.cause());
+                    return;
+                }
+
+                scheduleNext();
+            });
+        } catch (IOException e) {
+            finish();
+            promise.tryFailure(e);
+        }
+    }
+
+    private void scheduleNext() {
+        if (chunking.getInterval() > 0) {
+            ctx.executor().schedule(this::writeNext, chunking.getInterval(), TimeUnit.MILLISECONDS);
+            return;
+        }
+
+        ctx.executor().execute(this::writeNext);
+    }
+
+    private ByteBuf nextChunk() throws IOException {
+        int size = (int) Math.min(chunking.getSize(), length - position);
+        ByteBuf chunk = readChunk(size);
+        position += size;
+        return chunk;
+    }
+
+    private ByteBuf readChunk(final int size) throws IOException {
+        Optional<File> target = content.getFile();
+        if (!target.isPresent()) {
+            return Unpooled.wrappedBuffer(content.getContent(), (int) position, size);
+        }
+
+        if (file == null) {
+            file = new RandomAccessFile(target.get(), "r");
+        }
+
+        ByteBuf chunk = ctx.alloc().buffer(size);
+        FileChannel channel = file.getChannel();
+        int read = 0;
+        while (read < size) {
+            int current = chunk.writeBytes(channel, position + read, size - read);
+            if (current < 0) {
+                chunk.release();
+                throw new IOException("Unexpected end of file: " + target.get());
+            }
+
+            read += current;
+        }
+
+        return chunk;
+    }
+
+    private void finish() {
+        if (file == null) {
+            return;
+        }
+
+        try {
+            file.close();
+        } catch (IOException ignored) {
+        }
+
+        file = null;
+    }
+}
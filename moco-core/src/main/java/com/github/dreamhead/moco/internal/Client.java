@@ -3,14 +3,28 @@ package com.github.dreamhead.moco.internal;
 import com.google.common.base.MoreObjects;
 
 import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.Objects;
 
 public class Client {
     private final String address;
     private final int port;
 
     public Client(final InetSocketAddress address) {
-        this.address = address.getAddress().getHostAddress();
-        this.port = address.getPort();
+        this(address.getAddress().getHostAddress(), address.getPort());
+    }
+
+    private Client(final String address, final int port) {
+        this.address = address;
+        this.port = port;
+    }
+
+    public static Client client(final SocketAddress address) {
+        if (address instanceof InetSocketAddress) {
+            return new Client((InetSocketAddress) address);
+        }
+
+        return new Client(Objects.toString(address, ""), 0);
     }
 
     public final String getAddress() {
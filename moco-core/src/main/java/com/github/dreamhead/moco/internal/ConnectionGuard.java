@@ -0,0 +1,62 @@
+package com.github.dreamhead.moco.internal;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http2.Http2FrameCodec;
+import io.netty.handler.timeout.IdleState;
+import io.netty.handler.timeout.IdleStateEvent;
+import io.netty.handler.timeout.IdleStateHandler;
+
+import java.util.concurrent.TimeUnit;
+
+public final class ConnectionGuard extends IdleStateHandler {
+    private final int maxConnections;
+    private final ConnectionStats stats;
+    private boolean acquired;
+
+    public ConnectionGuard(final ServerConfig config, final ConnectionStats stats) {
+        super(config.getReadIdleTimeout(), config.getWriteIdleTimeout(), 0, TimeUnit.MILLISECONDS);
+        this.maxConnections = config.getMaxConnections();
+        this.stats = stats;
+    }
+
+    @Override
+    public void channelActive(final ChannelHandlerContext ctx) throws Exception {
+        if (!stats.tryAcquire(maxConnections)) {
+            ctx.close();
+            return;
+        }
+
+        acquired = true;
+        super.channelActive(ctx);
+    }
+
+    @Override
+    public void channelInactive(final ChannelHandlerContext ctx) throws Exception {
+        if (acquired) {
+            acquired = false;
+            stats.release();
+        }
+
+        super.channelInactive(ctx);
+    }
+
+    @Override
+    protected void channelIdle(final ChannelHandlerContext ctx, final IdleStateEvent evt) {
+        if (evt.state() == IdleState.READER_IDLE && isHandlingRequest(ctx)) {
+            return;
+        }
+
+        stats.idleClosed();
+        ctx.close();
+    }
+
+    private boolean isHandlingRequest(final ChannelHandlerContext ctx) {
+        ResponseSequencer sequencer = ctx.pipeline().get(ResponseSequencer.class);
+        if (sequencer != null) {
+            return !sequencer.isIdleFor(TimeUnit.MILLISECONDS.toNanos(getReaderIdleTimeInMillis()));
+        }
+
+        Http2FrameCodec codec = ctx.pipeline().get(Http2FrameCodec.class);
+        return codec != null && codec.connection().numActiveStreams() > 0;
+    }
+}
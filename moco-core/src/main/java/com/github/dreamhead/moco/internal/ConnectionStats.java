@@ -0,0 +1,69 @@
+package com.github.dreamhead.moco.internal;
+
+import com.google.common.base.MoreObjects;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class ConnectionStats {
+    private final AtomicInteger active = new AtomicInteger();
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder idleClosed = new LongAdder();
+    private final LongAdder keepAliveClosed = new LongAdder();
+
+    boolean tryAcquire(final int maxConnections) {
+        int current = active.incrementAndGet();
+        if (maxConnections > 0 && current > maxConnections) {
+            active.decrementAndGet();
+            rejected.increment();
+            return false;
+        }
+
+        accepted.increment();
+        return true;
+    }
+
+    void release() {
+        active.decrementAndGet();
+    }
+
+    void idleClosed() {
+        idleClosed.increment();
+    }
+
+    void keepAliveClosed() {
+        keepAliveClosed.increment();
+    }
+
+    public int getActiveConnections() {
+        return active.get();
+    }
+
+    public long getAcceptedConnections() {
+        return accepted.sum();
+    }
+
+    public long getRejectedConnections() {
+        return rejected.sum();
+    }
+
+    public long getIdleClosedConnections() {
+        return idleClosed.sum();
+    }
+
+    public long getKeepAliveClosedConnections() {
+        return keepAliveClosed.sum();
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("active", getActiveConnections())
+                .add("accepted", getAcceptedConnections())
+                .add("rejected", getRejectedConnections())
+                .add("idle closed", getIdleClosedConnections())
+                .add("keep-alive closed", getKeepAliveClosedConnections())
+                .toString();
+    }
+}
@@ -0,0 +1,59 @@
+package com.github.dreamhead.moco.internal;
+
+import com.github.dreamhead.moco.model.DefaultHttpRequest;
+import com.github.dreamhead.moco.model.MessageContent;
+import com.github.dreamhead.moco.setting.Setting;
+import com.google.common.collect.ImmutableList;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http.HttpRequest;
+
+final class ContentProbe {
+    private final ImmutableList<Setting<?>> settings;
+    private final com.github.dreamhead.moco.HttpRequest request;
+    private boolean contentRequired;
+
+    ContentProbe(final ActualHttpServer server, final ChannelHandlerContext ctx, final HttpRequest request) {
+        this.settings = ImmutableList.<Setting<?>>builder()
+                .addAll(server.getSettings())
+                .add(server.getAnySetting())
+                .build();
+        this.request = DefaultHttpRequest.newRequest(request, content(),
+                Client.client(ctx.channel().remoteAddress()));
+    }
+
+    boolean mayMatch() {
+        for (Setting<?> setting : settings) {
+            if (matches(setting) || contentRequired) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    boolean requiresContent() {
+        for (Setting<?> setting : settings) {
+            if (matches(setting) || contentRequired) {
+                return contentRequired;
+            }
+        }
+
+        return false;
+    }
+
+    private boolean matches(final Setting<?> setting) {
+        try {
+            return setting.match(request);
+        } catch (RuntimeException e) {
+            contentRequired = true;
+            return true;
+        }
+    }
+
+    private MessageContent content() {
+        return MessageContent.content().withContent(() -> {
+            contentRequired = true;
+            throw new IllegalStateException("Request content is not available before it is read");
+        }).build();
+    }
+}
@@ -0,0 +1,124 @@
+package com.github.dreamhead.moco.internal;
+
+import com.github.dreamhead.moco.MocoException;
+import com.github.dreamhead.moco.util.MocoExecutors;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.Promise;
+
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class Deadline {
+    private final long timeout;
+    private final int status;
+    private final LongAdder expired = new LongAdder();
+
+    public Deadline(final long timeout, final TimeUnit unit, final int status) {
+        this.timeout = unit.toNanos(timeout);
+        this.status = status;
+    }
+
+    public boolean isEnabled() {
+        return timeout > 0;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public long getExpiredRequests() {
+        return expired.sum();
+    }
+
+    public <T> io.netty.util.concurrent.Future<Optional<T>> call(final EventExecutor executor,
+                                                                  final Callable<T> task,
+                                                                  final Runnable finished) {
+        Promise<Optional<T>> promise = executor.newPromise();
+        AtomicBoolean started = new AtomicBoolean();
+        Future<?> worker = MocoExecutors.executor().submit(() -> {
+            if (!started.compareAndSet(false, true)) {
+                return;
+            }
+
+            try {
+                promise.trySuccess(Optional.ofNullable(task.call()));
+            } catch (Throwable e) {
+                promise.tryFailure(e);
+            } finally {
+                finished.run();
+            }
+        });
+
+        ScheduledFuture<?> timer = executor.schedule(() -> {
+            expired.increment();
+            if (promise.trySuccess(Optional.empty())) {
+                cancel(worker, started, finished);
+                return;
+            }
+
+            expired.decrement();
+        }, timeout, TimeUnit.NANOSECONDS);
+        promise.addListener(ignored -> timer.cancel(false));
+        return promise;
+    }
+
+    public <T> Optional<T> call(final Callable<T> task) {
+        return call(task, () -> {
+        });
+    }
+
+    public <T> Optional<T> call(final Callable<T> task, final Runnable finished) {
+        AtomicBoolean started = new AtomicBoolean();
+        Future<T> future = MocoExecutors.executor().submit(() -> {
+            if (!started.compareAndSet(false, true)) {
+                return null;
+            }
+
+            try {
+                return task.call();
+            } finally {
+                finished.run();
+            }
+        });
+
+        try {
+            return Optional.ofNullable(future.get(timeout, TimeUnit.NANOSECONDS));
+        } catch (TimeoutException e) {
+            cancel(future, started, finished);
+            expired.increment();
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            cancel(future, started, finished);
+            Thread.currentThread().interrupt();
+            throw new MocoException(e);
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause());
+        }
+    }
+
+    private static void cancel(final Future<?> worker, final AtomicBoolean started, final Runnable finished) {
+        worker.cancel(true);
+        if (started.compareAndSet(false, true)) {
+            finished.run();
+        }
+    }
+
+    private static RuntimeException rethrow(final Throwable cause) {
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+
+        return new MocoException(cause);
+    }
+}
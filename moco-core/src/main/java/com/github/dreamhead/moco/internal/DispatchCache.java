@@ -0,0 +1,106 @@
+package com.github.dreamhead.moco.internal;
+
+import com.github.dreamhead.moco.Request;
+import com.github.dreamhead.moco.RequestExtractor;
+import com.github.dreamhead.moco.RequestMatcher;
+import com.github.dreamhead.moco.ResponseSetting;
+import com.github.dreamhead.moco.matcher.DeterministicMatchers;
+import com.github.dreamhead.moco.setting.Setting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+
+import java.util.Arrays;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+
+final class DispatchCache<T extends ResponseSetting<T>> {
+    static final int NO_SETTING = -1;
+
+    private final ImmutableList<Setting<T>> settings;
+    private final ImmutableList<RequestExtractor<?>> extractors;
+    private final Cache<Signature, Integer> decisions;
+
+    private DispatchCache(final ImmutableList<Setting<T>> settings,
+                          final ImmutableList<RequestExtractor<?>> extractors,
+                          final int size) {
+        this.settings = settings;
+        this.extractors = extractors;
+        this.decisions = extractors == null ? null : CacheBuilder.newBuilder().maximumSize(size).build();
+    }
+
+    boolean isFor(final ImmutableList<Setting<T>> settings) {
+        return this.settings == settings;
+    }
+
+    int indexOf(final Request request) {
+        if (decisions == null) {
+            return firstMatched(request);
+        }
+
+        Signature signature = signatureOf(request);
+        Integer index = decisions.getIfPresent(signature);
+        if (index == null) {
+            index = firstMatched(request);
+            decisions.put(signature, index);
+        }
+
+        return index;
+    }
+
+    private int firstMatched(final Request request) {
+        for (int i = 0; i < settings.size(); i++) {
+            if (settings.get(i).match(request)) {
+                return i;
+            }
+        }
+
+        return NO_SETTING;
+    }
+
+    private Signature signatureOf(final Request request) {
+        Object[] values = new Object[extractors.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = extractors.get(i).extract(request).orElse(null);
+        }
+
+        return new Signature(values);
+    }
+
+    static <T extends ResponseSetting<T>> DispatchCache<T> of(final ImmutableList<Setting<T>> settings,
+                                                              final int size) {
+        if (size <= 0) {
+            return new DispatchCache<>(settings, null, 0);
+        }
+
+        ImmutableList<RequestMatcher> matchers = settings.stream()
+                .map(Setting::getMatcher)
+                .collect(toImmutableList());
+        return new DispatchCache<>(settings, DeterministicMatchers.extractorsOf(matchers).orElse(null), size);
+    }
+
+    private static final class Signature {
+        private final Object[] values;
+        private final int hash;
+
+        Signature(final Object[] values) {
+            this.values = values;
+            this.hash = Arrays.deepHashCode(values);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (!(obj instanceof Signature)) {
+                return false;
+            }
+
+            Signature that = (Signature) obj;
+            return this.hash == that.hash && Arrays.deepEquals(this.values, that.values);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.github.dreamhead.moco.internal;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.handler.codec.http.FullHttpMessage;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpExpectationFailedEvent;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.util.ReferenceCountUtil;
+
+public final class ExpectationHandler extends ChannelInboundHandlerAdapter {
+    private final ActualHttpServer server;
+    private final HttpResponseStatus status;
+    private boolean discarding;
+
+    public ExpectationHandler(final ActualHttpServer server, final int status) {
+        this.server = server;
+        this.status = HttpResponseStatus.valueOf(status);
+    }
+
+    @Override
+    public void channelRead(final ChannelHandlerContext ctx, final Object msg) {
+        if (msg instanceof HttpRequest) {
+            discarding = false;
+            if (isUnexpected(ctx, msg)) {
+                reject(ctx, (HttpRequest) msg);
+                discarding = true;
+                ReferenceCountUtil.release(msg);
+                return;
+            }
+        }
+
+        if (discarding && msg instanceof HttpContent) {
+            discarding = !(msg instanceof LastHttpContent);
+            ReferenceCountUtil.release(msg);
+            return;
+        }
+
+        ctx.fireChannelRead(msg);
+    }
+
+    private boolean isUnexpected(final ChannelHandlerContext ctx, final Object msg) {
+        if (msg instanceof FullHttpMessage || !HttpUtil.is100ContinueExpected((HttpRequest) msg)) {
+            return false;
+        }
+
+        return !new ContentProbe(server, ctx, (HttpRequest) msg).mayMatch();
+    }
+
+    private void reject(final ChannelHandlerContext ctx, final HttpRequest request) {
+        ctx.fireChannelRead(new RejectedHttpRequest(request, status));
+        ctx.pipeline().fireUserEventTriggered(HttpExpectationFailedEvent.INSTANCE);
+    }
+}
@@ -34,6 +34,11 @@ public abstract class HttpConfiguration<T extends BaseActualServer>
         super(port, monitor, configs);
     }
 
+    protected HttpConfiguration(final int port, final MocoMonitor monitor, final int dispatchCacheSize,
+                                final MocoConfig[] configs) {
+        super(port, monitor, dispatchCacheSize, configs);
+    }
+
     @Override
     public final HttpResponseSetting get(final RequestMatcher matcher) {
         return requestByHttpMethod(HttpMethod.GET, checkNotNull(matcher, "Matcher should not be null"));
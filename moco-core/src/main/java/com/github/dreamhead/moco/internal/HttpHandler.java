@@ -1,42 +1,233 @@
 package com.github.dreamhead.moco.internal;
 
 import com.github.dreamhead.moco.HttpRequest;
+import com.github.dreamhead.moco.MocoException;
+import com.github.dreamhead.moco.model.Chunking;
 import com.github.dreamhead.moco.model.DefaultHttpRequest;
 import com.github.dreamhead.moco.model.DefaultMutableHttpResponse;
+import com.github.dreamhead.moco.model.MessageContent;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.DefaultFileRegion;
 import io.netty.handler.codec.http.FullHttpRequest;
 import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpChunkedInput;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.handler.codec.http2.Http2StreamChannel;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.handler.stream.ChunkedNioFile;
+import io.netty.handler.stream.ChunkedWriteHandler;
+import io.netty.util.Attribute;
+import io.netty.util.AttributeKey;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.PromiseNotifier;
 
-import java.net.InetSocketAddress;
+import java.io.File;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import static com.github.dreamhead.moco.model.DefaultMutableHttpResponse.newResponse;
 import static io.netty.handler.codec.http.HttpUtil.isContentLengthSet;
 import static io.netty.handler.codec.http.HttpUtil.isKeepAlive;
 import static io.netty.handler.codec.http.HttpUtil.setContentLength;
 import static io.netty.handler.codec.http.HttpUtil.setKeepAlive;
+import static io.netty.handler.codec.http.HttpUtil.setTransferEncodingChunked;
 
 public class HttpHandler {
     private static final int DEFAULT_STATUS = HttpResponseStatus.OK.code();
+    private static final AttributeKey<Client> CLIENT = AttributeKey.valueOf(HttpHandler.class, "client");
 
     private final ActualHttpServer server;
+    private final ResponseCompressor compressor;
 
-    public HttpHandler(final ActualHttpServer server) {
+    public HttpHandler(final ActualHttpServer server, final ResponseCompressor compressor) {
         this.server = server;
+        this.compressor = compressor;
     }
 
-    public final FullHttpResponse handleRequest(final ChannelHandlerContext ctx, final FullHttpRequest message) {
+    public final ChannelFuture writeResponse(final ChannelHandlerContext ctx, final FullHttpRequest message,
+                                             final Future<Void> turn) {
         final Channel channel = ctx.channel();
-        final InetSocketAddress address = (InetSocketAddress) channel.remoteAddress();
-        HttpRequest request = DefaultHttpRequest.newRequest(message, new Client(address));
-        DefaultMutableHttpResponse httpResponse = getHttpResponse(request);
+        HttpRequest request = DefaultHttpRequest.newRequest(message, clientOf(channel),
+                server.getServerConfig().getDecompressionLimit());
+        Deadline deadline = server.getDeadline();
+        if (deadline.isEnabled()) {
+            return writeResponseWithin(deadline, ctx, message, request, turn);
+        }
+
+        try {
+            DefaultMutableHttpResponse response = doGetHttpResponse(request);
+            ChannelFuture future = writeInTurn(ctx, turn, () -> writeResponse(ctx, message, response));
+            future.addListener(ignored -> request.getContent().release());
+            return future;
+        } catch (RuntimeException | Error e) {
+            request.getContent().release();
+            throw e;
+        }
+    }
+
+    private ChannelFuture writeInTurn(final ChannelHandlerContext ctx, final Future<Void> turn,
+                                      final Supplier<ChannelFuture> write) {
+        if (turn.isDone()) {
+            return write.get();
+        }
+
+        ChannelPromise written = ctx.newPromise();
+        turn.addListener(ignored -> {
+            try {
+                write.get().addListener(new PromiseNotifier<>(written));
+                ctx.flush();
+            } catch (RuntimeException | Error e) {
+                written.tryFailure(e);
+                ctx.pipeline().fireExceptionCaught(e);
+            }
+        });
+
+        return written;
+    }
+
+    private ChannelFuture writeResponseWithin(final Deadline deadline, final ChannelHandlerContext ctx,
+                                              final FullHttpRequest message, final HttpRequest request,
+                                              final Future<Void> turn) {
+        ChannelPromise written = ctx.newPromise();
+        AtomicInteger readers = new AtomicInteger(2);
+        Runnable release = () -> {
+            if (readers.decrementAndGet() == 0) {
+                request.getContent().release();
+            }
+        };
+        written.addListener(ignored -> release.run());
+
+        deadline.call(ctx.executor(), () -> doGetHttpResponse(request), release).addListener(future ->
+                turn.addListener(ignored -> {
+                    try {
+                        DefaultMutableHttpResponse response = responseWithin(deadline, request, future);
+                        writeResponse(ctx, message, response).addListener(new PromiseNotifier<>(written));
+                        ctx.flush();
+                    } catch (RuntimeException | Error e) {
+                        written.tryFailure(e);
+                        ctx.pipeline().fireExceptionCaught(e);
+                    }
+                }));
+
+        return written;
+    }
+
+    @SuppressWarnings("unchecked")
+    private DefaultMutableHttpResponse responseWithin(final Deadline deadline, final HttpRequest request,
+                                                      final Future<?> future) {
+        if (!future.isSuccess()) {
+            server.onException(future.cause());
+            return newResponse(request, HttpResponseStatus.INTERNAL_SERVER_ERROR.code());
+        }
+
+        return ((Optional<DefaultMutableHttpResponse>) future.getNow())
+                .orElseGet(() -> newResponse(request, deadline.getStatus()));
+    }
+
+    private static Client clientOf(final Channel channel) {
+        Attribute<Client> attribute = channel.attr(CLIENT);
+        Client client = attribute.get();
+        if (client == null) {
+            client = Client.client(channel.remoteAddress());
+            attribute.set(client);
+        }
+
+        return client;
+    }
+
+    private ChannelFuture writeResponse(final ChannelHandlerContext ctx, final FullHttpRequest message,
+                                        final DefaultMutableHttpResponse httpResponse) {
+        MessageContent content = httpResponse.getContent();
+        Optional<Chunking> chunking = httpResponse.getChunking();
+        if (content != null && chunking.isPresent()) {
+            return writeChunkedResponse(ctx, message, httpResponse, content, chunking.get());
+        }
+
+        Optional<String> encoding = compressor.encodingFor(message, httpResponse);
+        if (encoding.isPresent()) {
+            return writeCompressedResponse(ctx, message, httpResponse, content, encoding.get());
+        }
+
+        if (content != null && content.getFile().isPresent()) {
+            return writeFileResponse(ctx, message, httpResponse, content.getFile().get());
+        }
+
         FullHttpResponse response = httpResponse.toFullResponse();
         prepareForKeepAlive(message, response);
-        return response;
+        return ctx.write(response);
+    }
+
+    private ChannelFuture writeChunkedResponse(final ChannelHandlerContext ctx, final FullHttpRequest message,
+                                               final DefaultMutableHttpResponse httpResponse,
+                                               final MessageContent content, final Chunking chunking) {
+        HttpResponse response = httpResponse.toHttpResponse();
+        setTransferEncodingChunked(response, true);
+        if (isKeepAlive(message)) {
+            setKeepAlive(response, true);
+        }
+
+        ctx.write(response);
+        return new ChunkedContentWriter(ctx, content, chunking).write();
+    }
+
+    private ChannelFuture writeCompressedResponse(final ChannelHandlerContext ctx, final FullHttpRequest message,
+                                                  final DefaultMutableHttpResponse httpResponse,
+                                                  final MessageContent content, final String encoding) {
+        FullHttpResponse response = httpResponse.toFullResponse(
+                Unpooled.wrappedBuffer(compressor.compress(content, encoding)));
+        response.headers().set(HttpHeaderNames.CONTENT_ENCODING, encoding);
+        response.headers().add(HttpHeaderNames.VARY, HttpHeaderNames.ACCEPT_ENCODING);
+        setContentLength(response, response.content().readableBytes());
+        prepareForKeepAlive(message, response);
+        return ctx.write(response);
+    }
+
+    private ChannelFuture writeFileResponse(final ChannelHandlerContext ctx, final FullHttpRequest message,
+                                            final DefaultMutableHttpResponse httpResponse, final File file) {
+        HttpResponse response = httpResponse.toHttpResponse();
+        long length = file.length();
+        if (!isContentLengthSet(response)) {
+            setContentLength(response, length);
+        }
+
+        if (isKeepAlive(message)) {
+            setKeepAlive(response, true);
+        }
+
+        ctx.write(response);
+        if (isZeroCopySupported(ctx)) {
+            ctx.write(new DefaultFileRegion(file, 0, length));
+            return ctx.write(LastHttpContent.EMPTY_LAST_CONTENT);
+        }
+
+        ensureChunkedWriteHandler(ctx);
+        try {
+            return ctx.write(new HttpChunkedInput(new ChunkedNioFile(file)));
+        } catch (IOException e) {
+            throw new MocoException(e);
+        }
     }
 
-    private DefaultMutableHttpResponse getHttpResponse(final HttpRequest request) {
+    private boolean isZeroCopySupported(final ChannelHandlerContext ctx) {
+        return ctx.pipeline().get(SslHandler.class) == null && !(ctx.channel() instanceof Http2StreamChannel);
+    }
+
+    private void ensureChunkedWriteHandler(final ChannelHandlerContext ctx) {
+        if (ctx.pipeline().get(ChunkedWriteHandler.class) == null) {
+            ctx.pipeline().addBefore(ctx.name(), "chunked", new ChunkedWriteHandler());
+        }
+    }
+
+    private DefaultMutableHttpResponse doGetHttpResponse(final HttpRequest request) {
         DefaultMutableHttpResponse httpResponse = newResponse(request, DEFAULT_STATUS);
         SessionContext context = new SessionContext(request, httpResponse);
         return doGetResponse(request, context);
@@ -44,8 +235,11 @@ public class HttpHandler {
 
     private DefaultMutableHttpResponse doGetResponse(final HttpRequest request, final SessionContext context) {
         try {
-            return (DefaultMutableHttpResponse) server.getResponse(context)
-                    .orElse(newResponse(request, HttpResponseStatus.BAD_REQUEST.code()));
+            if (server.writeResponse(context)) {
+                return (DefaultMutableHttpResponse) context.getResponse();
+            }
+
+            return newResponse(request, HttpResponseStatus.BAD_REQUEST.code());
         } catch (RuntimeException e) {
             return newResponse(request, HttpResponseStatus.BAD_REQUEST.code());
         } catch (Exception e) {
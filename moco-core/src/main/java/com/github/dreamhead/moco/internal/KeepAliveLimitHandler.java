@@ -0,0 +1,102 @@
+package com.github.dreamhead.moco.internal;
+
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpStatusClass;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.util.concurrent.ScheduledFuture;
+
+import java.util.concurrent.TimeUnit;
+
+public final class KeepAliveLimitHandler extends ChannelDuplexHandler {
+    private final int maxRequests;
+    private final long maxAge;
+    private final ConnectionStats stats;
+    private ScheduledFuture<?> expiration;
+    private int requests;
+    private int pending;
+    private boolean exhausted;
+
+    public KeepAliveLimitHandler(final ServerConfig config, final ConnectionStats stats) {
+        this.maxRequests = config.getMaxRequestsPerConnection();
+        this.maxAge = config.getMaxConnectionAge();
+        this.stats = stats;
+    }
+
+    @Override
+    public void handlerAdded(final ChannelHandlerContext ctx) {
+        if (maxAge > 0) {
+            expiration = ctx.executor().schedule(() -> expire(ctx), maxAge, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public void handlerRemoved(final ChannelHandlerContext ctx) {
+        if (expiration != null) {
+            expiration.cancel(false);
+            expiration = null;
+        }
+    }
+
+    @Override
+    public void channelRead(final ChannelHandlerContext ctx, final Object msg) {
+        if (msg instanceof HttpRequest) {
+            pending++;
+            requests++;
+            if (maxRequests > 0 && requests >= maxRequests) {
+                exhausted = true;
+            }
+        }
+
+        ctx.fireChannelRead(msg);
+    }
+
+    @Override
+    public void write(final ChannelHandlerContext ctx, final Object msg, final ChannelPromise promise) {
+        if (msg instanceof HttpResponse) {
+            HttpResponse response = (HttpResponse) msg;
+            if (isInformational(response)) {
+                ctx.write(msg, promise);
+                return;
+            }
+
+            if (exhausted && pending == 1) {
+                HttpUtil.setKeepAlive(response, false);
+            }
+        }
+
+        if (!(msg instanceof LastHttpContent) || pending == 0) {
+            ctx.write(msg, promise);
+            return;
+        }
+
+        pending--;
+        if (!exhausted || pending > 0) {
+            ctx.write(msg, promise);
+            return;
+        }
+
+        stats.keepAliveClosed();
+        ChannelPromise closePromise = promise.unvoid();
+        ctx.write(msg, closePromise);
+        closePromise.addListener(ChannelFutureListener.CLOSE);
+    }
+
+    private boolean isInformational(final HttpResponse response) {
+        return response.status().codeClass() == HttpStatusClass.INFORMATIONAL;
+    }
+
+    private void expire(final ChannelHandlerContext ctx) {
+        expiration = null;
+        exhausted = true;
+        if (pending == 0 && ctx.channel().isActive()) {
+            stats.keepAliveClosed();
+            ctx.close();
+        }
+    }
+}
@@ -1,16 +1,23 @@
 package com.github.dreamhead.moco.internal;
 
 import com.github.dreamhead.moco.util.Strings;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
 import io.netty.channel.SimpleChannelInboundHandler;
-import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
 import io.netty.handler.codec.http.FullHttpRequest;
 import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpUtil;
 import io.netty.handler.codec.http.HttpVersion;
 import io.netty.handler.codec.http.websocketx.WebSocketFrame;
+import io.netty.util.concurrent.Future;
+
+import java.util.Optional;
 
 import static com.google.common.net.HttpHeaders.UPGRADE;
 import static io.netty.channel.ChannelHandler.Sharable;
@@ -21,11 +28,13 @@ public final class MocoHandler extends SimpleChannelInboundHandler<Object> {
     private final ActualHttpServer server;
     private final HttpHandler httpHandler;
     private final WebSocketHandler websocketHandler;
+    private final AdmissionController admissionController;
 
-    public MocoHandler(final ActualHttpServer server) {
+    public MocoHandler(final ActualHttpServer server, final ResponseCompressor compressor) {
         this.server = server;
-        this.httpHandler = new HttpHandler(server);
+        this.httpHandler = new HttpHandler(server, compressor);
         this.websocketHandler = new WebSocketHandler(server.getWebsocketServer());
+        this.admissionController = server.getAdmissionController();
     }
 
     @Override
@@ -46,18 +55,94 @@ public final class MocoHandler extends SimpleChannelInboundHandler<Object> {
     }
 
     private void handleHttpRequest(final ChannelHandlerContext ctx, final FullHttpRequest request) {
+        Future<Void> turn = turnOf(ctx);
         if (!request.decoderResult().isSuccess()) {
-            ctx.writeAndFlush(new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.BAD_REQUEST));
+            writeInTurn(ctx, turn, new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.BAD_REQUEST));
+            return;
+        }
+
+        if (request instanceof RejectedHttpRequest) {
+            closeIfNotKeepAlive(request, writeInTurn(ctx, turn, ((RejectedHttpRequest) request).toResponse()));
+            return;
+        }
+
+        if (upgradeWebsocket(request)) {
+            connectInTurn(ctx, turn, request);
+            return;
+        }
+
+        if (!admissionController.tryAdmit()) {
+            closeIfNotKeepAlive(request, writeInTurn(ctx, turn, serviceUnavailable(request)));
             return;
         }
 
-        if (!upgradeWebsocket(request)) {
-            FullHttpResponse response = httpHandler.handleRequest(ctx, request);
-            closeIfNotKeepAlive(request, ctx.write(response));
+        closeIfNotKeepAlive(request, writeAdmittedResponse(ctx, request, turn));
+    }
+
+    private Future<Void> turnOf(final ChannelHandlerContext ctx) {
+        ResponseSequencer sequencer = ctx.pipeline().get(ResponseSequencer.class);
+        if (sequencer == null) {
+            return ctx.newSucceededFuture();
+        }
+
+        return sequencer.turn();
+    }
+
+    private ChannelFuture writeInTurn(final ChannelHandlerContext ctx, final Future<Void> turn,
+                                      final Object response) {
+        if (turn.isDone()) {
+            return ctx.writeAndFlush(response);
+        }
+
+        ChannelPromise promise = ctx.newPromise();
+        turn.addListener(ignored -> ctx.writeAndFlush(response, promise));
+        return promise;
+    }
+
+    private void connectInTurn(final ChannelHandlerContext ctx, final Future<Void> turn,
+                               final FullHttpRequest request) {
+        if (turn.isDone()) {
+            websocketHandler.connect(ctx, request);
             return;
         }
 
-        websocketHandler.connect(ctx, request);
+        request.retain();
+        turn.addListener(ignored -> {
+            try {
+                websocketHandler.connect(ctx, request);
+            } finally {
+                request.release();
+            }
+        });
+    }
+
+    private ChannelFuture writeAdmittedResponse(final ChannelHandlerContext ctx, final FullHttpRequest request,
+                                                final Future<Void> turn) {
+        if (!admissionController.isEnabled()) {
+            return httpHandler.writeResponse(ctx, request, turn);
+        }
+
+        final long start = System.nanoTime();
+        try {
+            ChannelFuture future = httpHandler.writeResponse(ctx, request, turn);
+            future.addListener(ignored -> admissionController.complete(System.nanoTime() - start));
+            return future;
+        } catch (RuntimeException e) {
+            admissionController.complete(System.nanoTime() - start);
+            throw e;
+        }
+    }
+
+    private FullHttpResponse serviceUnavailable(final FullHttpRequest request) {
+        FullHttpResponse response = new DefaultFullHttpResponse(request.protocolVersion(),
+                HttpResponseStatus.SERVICE_UNAVAILABLE, Unpooled.EMPTY_BUFFER);
+        response.headers().set(HttpHeaderNames.RETRY_AFTER, server.getServerConfig().getRetryAfter());
+        HttpUtil.setContentLength(response, 0);
+        if (isKeepAlive(request)) {
+            HttpUtil.setKeepAlive(response, true);
+        }
+
+        return response;
     }
 
     private boolean upgradeWebsocket(final FullHttpRequest request) {
@@ -83,5 +168,31 @@ public final class MocoHandler extends SimpleChannelInboundHandler<Object> {
     @Override
     public void exceptionCaught(final ChannelHandlerContext ctx, final Throwable cause) {
         server.onException(cause);
+
+        ResponseSequencer sequencer = ctx.pipeline().get(ResponseSequencer.class);
+        Optional<ResponseSequencer.Slot> current = sequencer == null ? Optional.empty() : sequencer.current();
+        if (!current.isPresent() || current.get().isResponseFinished()) {
+            return;
+        }
+
+        ResponseSequencer.Slot slot = current.get();
+        if (slot.isResponseStarted()) {
+            ctx.close();
+            return;
+        }
+
+        boolean keepAlive = slot.isKeepAlive();
+        ChannelFuture future = writeInTurn(ctx, slot.turn(), internalServerError(keepAlive));
+        if (!keepAlive) {
+            future.addListener(ChannelFutureListener.CLOSE);
+        }
+    }
+
+    private FullHttpResponse internalServerError(final boolean keepAlive) {
+        FullHttpResponse response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1,
+                HttpResponseStatus.INTERNAL_SERVER_ERROR, Unpooled.EMPTY_BUFFER);
+        HttpUtil.setContentLength(response, 0);
+        HttpUtil.setKeepAlive(response, keepAlive);
+        return response;
     }
 }
@@ -2,19 +2,36 @@ package com.github.dreamhead.moco.internal;
 
 import com.github.dreamhead.moco.server.ServerConfiguration;
 import com.github.dreamhead.moco.server.ServerSetting;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelPipeline;
-import io.netty.channel.socket.SocketChannel;
+import io.netty.handler.codec.http.FullHttpRequest;
 import io.netty.handler.codec.http.HttpObjectAggregator;
 import io.netty.handler.codec.http.HttpServerCodec;
+import io.netty.handler.codec.http.HttpServerUpgradeHandler;
+import io.netty.handler.codec.http2.CleartextHttp2ServerUpgradeHandler;
+import io.netty.handler.codec.http2.Http2CodecUtil;
+import io.netty.handler.codec.http2.Http2FrameCodec;
+import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
+import io.netty.handler.codec.http2.Http2MultiplexHandler;
+import io.netty.handler.codec.http2.Http2ServerUpgradeCodec;
+import io.netty.handler.codec.http2.Http2Settings;
+import io.netty.handler.codec.http2.Http2StreamFrameToHttpObjectCodec;
+import io.netty.handler.ssl.ApplicationProtocolNames;
+import io.netty.handler.ssl.ApplicationProtocolNegotiationHandler;
+import io.netty.handler.ssl.SslContext;
+import io.netty.util.AsciiString;
 
 public class MocoHttpServer implements ServerConfiguration {
     private static final int MAX_INITIAL_LINE_LENGTH = 4096;
     private static final int MAX_CHUNK_SIZE = 8192;
     private final ActualHttpServer serverSetting;
+    private final ResponseCompressor compressor;
 
     public MocoHttpServer(final ActualHttpServer serverSetting) {
         this.serverSetting = serverSetting;
+        this.compressor = new ResponseCompressor(serverSetting.getServerConfig());
     }
 
     @Override
@@ -23,23 +40,168 @@ public class MocoHttpServer implements ServerConfiguration {
     }
 
     @Override
-    public final ChannelInitializer<SocketChannel> channelInitializer() {
-        return new ChannelInitializer<SocketChannel>() {
+    public final ServerConfig serverConfig() {
+        return this.serverSetting.getServerConfig();
+    }
+
+    @Override
+    public final ChannelInitializer<Channel> channelInitializer() {
+        final SslContext sslContext = newSslContext();
+        return new ChannelInitializer<Channel>() {
             @Override
-            protected void initChannel(final SocketChannel ch) {
+            protected void initChannel(final Channel ch) {
                 ChannelPipeline pipeline = ch.pipeline();
+                MocoHandler handler = new MocoHandler(serverSetting, compressor);
+                pipeline.addLast("guard", new ConnectionGuard(serverConfig(), serverSetting.getConnectionStats()));
 
-                if (serverSetting.isSecure()) {
-                    pipeline.addFirst("ssl", serverSetting.getRequiredSslHandler());
+                if (sslContext != null) {
+                    pipeline.addLast("ssl", sslContext.newHandler(ch.alloc()));
+                    pipeline.addLast("negotiator", new ProtocolNegotiationHandler(handler));
+                    return;
                 }
 
-                ServerConfig serverConfig = serverSetting.getServerConfig();
-                pipeline.addLast("codec", new HttpServerCodec(MAX_INITIAL_LINE_LENGTH,
-                        serverConfig.getHeaderSize(),
-                        MAX_CHUNK_SIZE, false));
-                pipeline.addLast("aggregator", new HttpObjectAggregator(serverConfig.getContentLength()));
-                pipeline.addLast("handler", new MocoHandler(serverSetting));
+                HttpServerCodec codec = newHttpServerCodec();
+                HttpServerUpgradeHandler upgradeHandler = new HttpServerUpgradeHandler(codec,
+                        protocol -> upgradeCodec(protocol, handler), serverConfig().getContentLength());
+                pipeline.addLast("h2c", new CleartextHttp2ServerUpgradeHandler(codec, upgradeHandler,
+                        http2Handler(handler)));
+                addHttp1Handlers(pipeline, handler);
             }
         };
     }
+
+    private SslContext newSslContext() {
+        if (serverSetting.isSecure()) {
+            return serverSetting.newSslContext();
+        }
+
+        return null;
+    }
+
+    private HttpServerCodec newHttpServerCodec() {
+        return new HttpServerCodec(MAX_INITIAL_LINE_LENGTH, serverConfig().getHeaderSize(), MAX_CHUNK_SIZE, false);
+    }
+
+    private void addKeepAliveLimit(final ChannelPipeline pipeline) {
+        if (serverConfig().isKeepAliveLimited()) {
+            pipeline.addLast("keep-alive", new KeepAliveLimitHandler(serverConfig(),
+                    serverSetting.getConnectionStats()));
+        }
+    }
+
+    private void addHttp1Handlers(final ChannelPipeline pipeline, final MocoHandler handler) {
+        addKeepAliveLimit(pipeline);
+        addAggregators(pipeline);
+        pipeline.addLast("sequencer", new ResponseSequencer(serverConfig().getMaxPipelinedRequests()));
+        pipeline.addLast("handler", handler);
+    }
+
+    private void addHttpHandlers(final ChannelPipeline pipeline, final MocoHandler handler) {
+        addAggregators(pipeline);
+        pipeline.addLast("handler", handler);
+    }
+
+    private void addAggregators(final ChannelPipeline pipeline) {
+        if (serverConfig().isExpectationCheckEnabled()) {
+            pipeline.addLast("expectation", new ExpectationHandler(serverSetting,
+                    serverConfig().getExpectationFailedStatus()));
+        }
+
+        if (serverConfig().isRequestStreamingEnabled()) {
+            pipeline.addLast("streaming", new StreamingRequestHandler(serverSetting,
+                    serverConfig().getStreamingThreshold()));
+        }
+
+        if (serverConfig().isRequestSpoolingEnabled()) {
+            pipeline.addLast("spooling", new SpoolingRequestHandler(serverConfig().getSpoolThreshold(),
+                    serverConfig().getMaxSpoolSize(), serverConfig().getSpoolDirectory()));
+        }
+
+        pipeline.addLast("aggregator", new HttpObjectAggregator(serverConfig().getContentLength()));
+    }
+
+    private void removeHttpHandlers(final ChannelPipeline pipeline) {
+        if (pipeline.get("keep-alive") != null) {
+            pipeline.remove("keep-alive");
+        }
+
+        if (pipeline.get("expectation") != null) {
+            pipeline.remove("expectation");
+        }
+
+        if (pipeline.get("streaming") != null) {
+            pipeline.remove("streaming");
+        }
+
+        if (pipeline.get("spooling") != null) {
+            pipeline.remove("spooling");
+        }
+
+        pipeline.remove("aggregator");
+        pipeline.remove("sequencer");
+        pipeline.remove("handler");
+    }
+
+    private HttpServerUpgradeHandler.UpgradeCodec upgradeCodec(final CharSequence protocol,
+                                                               final MocoHandler handler) {
+        if (AsciiString.contentEquals(Http2CodecUtil.HTTP_UPGRADE_PROTOCOL_NAME, protocol)) {
+            return new Http2ServerUpgradeCodec(newHttp2FrameCodec(),
+                    new Http2MultiplexHandler(streamInitializer(handler))) {
+                @Override
+                public void upgradeTo(final ChannelHandlerContext ctx, final FullHttpRequest upgradeRequest) {
+                    removeHttpHandlers(ctx.pipeline());
+                    super.upgradeTo(ctx, upgradeRequest);
+                }
+            };
+        }
+
+        return null;
+    }
+
+    private ChannelInitializer<Channel> http2Handler(final MocoHandler handler) {
+        return new ChannelInitializer<Channel>() {
+            @Override
+            protected void initChannel(final Channel ch) {
+                removeHttpHandlers(ch.pipeline());
+                ch.pipeline().addLast(newHttp2FrameCodec(), new Http2MultiplexHandler(streamInitializer(handler)));
+            }
+        };
+    }
+
+    private Http2FrameCodec newHttp2FrameCodec() {
+        return Http2FrameCodecBuilder.forServer()
+                .initialSettings(Http2Settings.defaultSettings().maxHeaderListSize(serverConfig().getHeaderSize()))
+                .build();
+    }
+
+    private ChannelInitializer<Channel> streamInitializer(final MocoHandler handler) {
+        return new ChannelInitializer<Channel>() {
+            @Override
+            protected void initChannel(final Channel ch) {
+                ch.pipeline().addLast("codec", new Http2StreamFrameToHttpObjectCodec(true));
+                addHttpHandlers(ch.pipeline(), handler);
+            }
+        };
+    }
+
+    private final class ProtocolNegotiationHandler extends ApplicationProtocolNegotiationHandler {
+        private final MocoHandler handler;
+
+        ProtocolNegotiationHandler(final MocoHandler handler) {
+            super(ApplicationProtocolNames.HTTP_1_1);
+            this.handler = handler;
+        }
+
+        @Override
+        protected void configurePipeline(final ChannelHandlerContext ctx, final String protocol) {
+            ChannelPipeline pipeline = ctx.pipeline();
+            if (ApplicationProtocolNames.HTTP_2.equals(protocol)) {
+                pipeline.addLast(newHttp2FrameCodec(), new Http2MultiplexHandler(streamInitializer(handler)));
+                return;
+            }
+
+            pipeline.addLast("codec", newHttpServerCodec());
+            addHttp1Handlers(pipeline, handler);
+        }
+    }
 }
@@ -8,11 +8,9 @@ import com.github.dreamhead.moco.model.DefaultSocketResponse;
 import com.github.dreamhead.moco.model.MessageContent;
 import com.github.dreamhead.moco.util.ByteBufs;
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.ByteBufInputStream;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
 
-import java.net.InetSocketAddress;
 import java.util.Optional;
 
 import static com.github.dreamhead.moco.model.MessageContent.content;
@@ -29,14 +27,18 @@ public final class MocoSocketHandler extends SimpleChannelInboundHandler<ByteBuf
 
     @Override
     protected void channelRead0(final ChannelHandlerContext ctx, final ByteBuf msg) {
-        final InetSocketAddress address = (InetSocketAddress) ctx.channel().remoteAddress();
-        MessageContent content = content().withContent(new ByteBufInputStream(msg)).build();
-        SocketRequest request = new DefaultSocketRequest(content, new Client(address));
-        SessionContext context = new SessionContext(request, new DefaultSocketResponse());
-        Optional<Response> response = server.getResponse(context);
-        Response actual = response.orElseThrow(() ->
-                new MocoException(format("No handler found for request: %s", context.getRequest().getContent())));
-        ctx.write(ByteBufs.toByteBuf(actual.getContent().getContent()));
+        MessageContent content = content().withContent(msg).build();
+        try {
+            SocketRequest request = new DefaultSocketRequest(content, Client.client(ctx.channel().remoteAddress()));
+            SessionContext context = new SessionContext(request, new DefaultSocketResponse());
+            Optional<Response> response = server.getResponse(context);
+            Response actual = response.orElseThrow(() ->
+                    new MocoException(format("No handler found for request: %s", context.getRequest().getContent())));
+            ctx.write(ByteBufs.toByteBuf(actual.getContent().getContent())).addListener(ignored -> content.release());
+        } catch (RuntimeException e) {
+            content.release();
+            throw e;
+        }
     }
 
     @Override
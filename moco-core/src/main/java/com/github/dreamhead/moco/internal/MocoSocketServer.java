@@ -2,9 +2,9 @@ package com.github.dreamhead.moco.internal;
 
 import com.github.dreamhead.moco.server.ServerConfiguration;
 import com.github.dreamhead.moco.server.ServerSetting;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelPipeline;
-import io.netty.channel.socket.SocketChannel;
 
 public final class MocoSocketServer implements ServerConfiguration {
     private final ActualSocketServer serverSetting;
@@ -19,10 +19,15 @@ public final class MocoSocketServer implements ServerConfiguration {
     }
 
     @Override
-    public ChannelInitializer<SocketChannel> channelInitializer() {
-        return new ChannelInitializer<SocketChannel>() {
+    public ServerConfig serverConfig() {
+        return ServerConfig.builder().build();
+    }
+
+    @Override
+    public ChannelInitializer<Channel> channelInitializer() {
+        return new ChannelInitializer<Channel>() {
             @Override
-            protected void initChannel(final SocketChannel ch) {
+            protected void initChannel(final Channel ch) {
                 ChannelPipeline pipeline = ch.pipeline();
                 pipeline.addLast("aggregator", new MocoAggregator());
                 pipeline.addLast("handler", new MocoSocketHandler(serverSetting));
@@ -0,0 +1,27 @@
+package com.github.dreamhead.moco.internal;
+
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpUtil;
+
+public final class RejectedHttpRequest extends DefaultFullHttpRequest {
+    private final HttpResponseStatus status;
+
+    public RejectedHttpRequest(final HttpRequest request, final HttpResponseStatus status) {
+        super(request.protocolVersion(), request.method(), request.uri(), Unpooled.EMPTY_BUFFER);
+        this.headers().set(request.headers());
+        this.status = status;
+        HttpUtil.setContentLength(this, 0);
+    }
+
+    public FullHttpResponse toResponse() {
+        FullHttpResponse response = new DefaultFullHttpResponse(protocolVersion(), status, Unpooled.EMPTY_BUFFER);
+        HttpUtil.setContentLength(response, 0);
+        HttpUtil.setKeepAlive(response, HttpUtil.isKeepAlive(this));
+        return response;
+    }
+}
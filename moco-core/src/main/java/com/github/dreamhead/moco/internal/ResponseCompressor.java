@@ -0,0 +1,223 @@
+package com.github.dreamhead.moco.internal;
+
+import com.github.dreamhead.moco.MocoException;
+import com.github.dreamhead.moco.model.DefaultMutableHttpResponse;
+import com.github.dreamhead.moco.model.MessageContent;
+import com.google.common.base.Splitter;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpMethod;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+public final class ResponseCompressor {
+    private static final long MAX_CACHE_WEIGHT = 64 * 1024 * 1024;
+    private static final String GZIP = HttpHeaderValues.GZIP.toString();
+    private static final String DEFLATE = HttpHeaderValues.DEFLATE.toString();
+    private static final Splitter CODING_SPLITTER = Splitter.on(',').trimResults().omitEmptyStrings();
+    private static final Splitter PARAMETER_SPLITTER = Splitter.on(';').trimResults();
+
+    private final boolean enabled;
+    private final int minSize;
+    private final Cache<CompressionKey, byte[]> cache = CacheBuilder.newBuilder()
+            .maximumWeight(MAX_CACHE_WEIGHT)
+            .weigher((CompressionKey key, byte[] value) -> key.weight() + value.length)
+            .build();
+
+    public ResponseCompressor(final ServerConfig serverConfig) {
+        this.enabled = serverConfig.isCompressionEnabled();
+        this.minSize = serverConfig.getCompressionMinSize();
+    }
+
+    public Optional<String> encodingFor(final FullHttpRequest request, final DefaultMutableHttpResponse response) {
+        if (!enabled || HttpMethod.HEAD.equals(request.method())) {
+            return Optional.empty();
+        }
+
+        MessageContent content = response.getContent();
+        if (content == null || content.getLength() < minSize || isEncoded(response)) {
+            return Optional.empty();
+        }
+
+        return negotiate(request.headers().get(HttpHeaderNames.ACCEPT_ENCODING));
+    }
+
+    private boolean isEncoded(final DefaultMutableHttpResponse response) {
+        return response.getMessageHeaders().contains(HttpHeaderNames.CONTENT_ENCODING.toString());
+    }
+
+    static Optional<String> negotiate(final String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return Optional.empty();
+        }
+
+        String selected = null;
+        float selectedQuality = 0;
+        for (String coding : CODING_SPLITTER.split(acceptEncoding)) {
+            String candidate = supportedEncoding(codingName(coding));
+            float quality = quality(coding);
+            if (candidate == null || quality <= 0) {
+                continue;
+            }
+
+            if (quality > selectedQuality || (quality == selectedQuality && GZIP.equals(candidate))) {
+                selected = candidate;
+                selectedQuality = quality;
+            }
+        }
+
+        return Optional.ofNullable(selected);
+    }
+
+    private static String supportedEncoding(final String name) {
+        if (GZIP.equals(name) || "*".equals(name)) {
+            return GZIP;
+        }
+
+        if (DEFLATE.equals(name)) {
+            return DEFLATE;
+        }
+
+        return null;
+    }
+
+    private static String codingName(final String coding) {
+        return PARAMETER_SPLITTER.split(coding).iterator().next().toLowerCase();
+    }
+
+    private static float quality(final String coding) {
+        for (String parameter : PARAMETER_SPLITTER.split(coding)) {
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Float.parseFloat(parameter.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+
+        return 1;
+    }
+
+    public byte[] compress(final MessageContent content, final String encoding) {
+        try {
+            Optional<CompressionKey> key = keyOf(content, encoding);
+            if (!key.isPresent()) {
+                return doCompress(content.getContent(), encoding);
+            }
+
+            return cache.get(key.get(), () -> doCompress(content.getContent(), encoding));
+        } catch (IOException e) {
+            throw new MocoException(e);
+        } catch (ExecutionException e) {
+            throw new MocoException(e.getCause());
+        }
+    }
+
+    private Optional<CompressionKey> keyOf(final MessageContent content, final String encoding) {
+        Optional<File> file = content.getFile();
+        if (file.isPresent()) {
+            return Optional.of(new FileKey(file.get(), encoding));
+        }
+
+        return content.getSource().map(source -> new SourceKey(source, encoding));
+    }
+
+    private static byte[] doCompress(final byte[] content, final String encoding) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(content.length / 2);
+        try (OutputStream stream = compressingStream(bytes, encoding)) {
+            stream.write(content);
+        }
+
+        return bytes.toByteArray();
+    }
+
+    private static OutputStream compressingStream(final OutputStream stream,
+                                                  final String encoding) throws IOException {
+        if (GZIP.equals(encoding)) {
+            return new GZIPOutputStream(stream);
+        }
+
+        return new DeflaterOutputStream(stream);
+    }
+
+    private interface CompressionKey {
+        int weight();
+    }
+
+    private static final class FileKey implements CompressionKey {
+        private final String path;
+        private final long lastModified;
+        private final long length;
+        private final String encoding;
+
+        FileKey(final File file, final String encoding) {
+            this.path = file.getAbsolutePath();
+            this.lastModified = file.lastModified();
+            this.length = file.length();
+            this.encoding = encoding;
+        }
+
+        @Override
+        public int weight() {
+            return path.length();
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (!(obj instanceof FileKey)) {
+                return false;
+            }
+
+            FileKey that = (FileKey) obj;
+            return this.lastModified == that.lastModified && this.length == that.length
+                    && this.path.equals(that.path) && this.encoding.equals(that.encoding);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(path, lastModified, length, encoding);
+        }
+    }
+
+    private static final class SourceKey implements CompressionKey {
+        private final Object source;
+        private final String encoding;
+
+        SourceKey(final Object source, final String encoding) {
+            this.source = source;
+            this.encoding = encoding;
+        }
+
+        @Override
+        public int weight() {
+            return 0;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (!(obj instanceof SourceKey)) {
+                return false;
+            }
+
+            SourceKey that = (SourceKey) obj;
+            return this.source == that.source && this.encoding.equals(that.encoding);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(source) + encoding.hashCode();
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.github.dreamhead.moco.internal;
+
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.Promise;
+
+import java.util.ArrayDeque;
+import java.util.Optional;
+import java.util.Queue;
+
+public final class ResponseSequencer extends ChannelDuplexHandler {
+    private final int maxDepth;
+    private final Queue<Slot> slots = new ArrayDeque<>();
+    private Slot dispatching;
+    private boolean paused;
+    private long idleSince = System.nanoTime();
+
+    public ResponseSequencer(final int maxDepth) {
+        this.maxDepth = maxDepth;
+    }
+
+    @Override
+    public void channelRead(final ChannelHandlerContext ctx, final Object msg) {
+        if (!(msg instanceof FullHttpRequest)) {
+            ctx.fireChannelRead(msg);
+            return;
+        }
+
+        Slot slot = new Slot(ctx.executor().newPromise(), HttpUtil.isKeepAlive((FullHttpRequest) msg));
+        slots.add(slot);
+        if (slots.size() == 1) {
+            slot.turn.setSuccess(null);
+        }
+
+        if (slots.size() >= maxDepth && !paused) {
+            paused = true;
+            ctx.channel().config().setAutoRead(false);
+        }
+
+        dispatching = slot;
+        try {
+            ctx.fireChannelRead(msg);
+        } finally {
+            dispatching = null;
+        }
+    }
+
+    @Override
+    public void write(final ChannelHandlerContext ctx, final Object msg, final ChannelPromise promise) {
+        Slot head = slots.peek();
+        if (head != null && msg instanceof HttpResponse) {
+            head.started = true;
+        }
+
+        ctx.write(msg, promise);
+        if (head == null || !(msg instanceof LastHttpContent)) {
+            return;
+        }
+
+        slots.poll().finished = true;
+        Slot next = slots.peek();
+        if (next != null) {
+            ctx.executor().execute(() -> next.turn.trySuccess(null));
+        } else {
+            idleSince = System.nanoTime();
+        }
+
+        if (paused && slots.size() < maxDepth) {
+            paused = false;
+            ctx.channel().config().setAutoRead(true);
+        }
+    }
+
+    @Override
+    public void channelInactive(final ChannelHandlerContext ctx) {
+        releaseSlots();
+        ctx.fireChannelInactive();
+    }
+
+    @Override
+    public void handlerRemoved(final ChannelHandlerContext ctx) {
+        releaseSlots();
+    }
+
+    public boolean isIdleFor(final long nanos) {
+        return slots.isEmpty() && System.nanoTime() - idleSince >= nanos;
+    }
+
+    public Future<Void> turn() {
+        return dispatching.turn;
+    }
+
+    public Optional<Slot> current() {
+        if (dispatching != null) {
+            return Optional.of(dispatching);
+        }
+
+        return Optional.ofNullable(slots.peek());
+    }
+
+    private void releaseSlots() {
+        Slot slot;
+        while ((slot = slots.poll()) != null) {
+            slot.turn.trySuccess(null);
+        }
+    }
+
+    public static final class Slot {
+        private final Promise<Void> turn;
+        private final boolean keepAlive;
+        private boolean started;
+        private boolean finished;
+
+        private Slot(final Promise<Void> turn, final boolean keepAlive) {
+            this.turn = turn;
+            this.keepAlive = keepAlive;
+        }
+
+        public Future<Void> turn() {
+            return turn;
+        }
+
+        public boolean isKeepAlive() {
+            return keepAlive;
+        }
+
+        public boolean isResponseStarted() {
+            return started;
+        }
+
+        public boolean isResponseFinished() {
+            return finished;
+        }
+    }
+}
@@ -3,40 +3,77 @@ package com.github.dreamhead.moco.internal;
 import com.github.dreamhead.moco.Request;
 import com.github.dreamhead.moco.Response;
 import com.github.dreamhead.moco.ResponseSetting;
+import com.github.dreamhead.moco.jfr.FlightRecorders;
+import com.github.dreamhead.moco.server.EventLoopActivity;
 import com.github.dreamhead.moco.setting.Setting;
 import com.google.common.collect.ImmutableList;
 
 import java.util.Optional;
 
 public class Responser<T extends ResponseSetting<T>> {
+    private static final int ANY_SETTING_INDEX = -1;
+
     private final SettingFetcher<T> fetcher;
+    private final int dispatchCacheSize;
+    private volatile DispatchCache<T> dispatchCache;
 
     public Responser(final SettingFetcher<T> fetcher) {
+        this(fetcher, 0);
+    }
+
+    public Responser(final SettingFetcher<T> fetcher, final int dispatchCacheSize) {
         this.fetcher = fetcher;
+        this.dispatchCacheSize = dispatchCacheSize;
     }
 
     public final Optional<Response> getResponse(final SessionContext context) {
-        Request request = context.getRequest();
-        ImmutableList<Setting<T>> settings = fetcher.getSettings();
-        final Optional<Setting<T>> firstSetting = settings.stream()
-                .filter(setting -> setting.match(request))
-                .findFirst();
-        if (firstSetting.isPresent()) {
-            firstSetting.get().writeToResponse(context);
+        if (writeResponse(context)) {
             return Optional.of(context.getResponse());
         }
 
-        return getAnyResponse(context);
+        return Optional.empty();
+    }
+
+    public final boolean writeResponse(final SessionContext context) {
+        ImmutableList<Setting<T>> settings = fetcher.getSettings();
+        int index = dispatchCache(settings).indexOf(context.getRequest());
+        if (index == DispatchCache.NO_SETTING) {
+            return writeAnyResponse(context);
+        }
+
+        writeToResponse(index, settings.get(index), context);
+        return true;
+    }
+
+    private DispatchCache<T> dispatchCache(final ImmutableList<Setting<T>> settings) {
+        DispatchCache<T> current = this.dispatchCache;
+        if (current == null || !current.isFor(settings)) {
+            current = DispatchCache.of(settings, dispatchCacheSize);
+            this.dispatchCache = current;
+        }
+
+        return current;
     }
 
-    private Optional<Response> getAnyResponse(final SessionContext context) {
+    private boolean writeAnyResponse(final SessionContext context) {
         Request request = context.getRequest();
         Setting<T> anySetting = fetcher.getAnySetting();
         if (anySetting.match(request)) {
-            anySetting.writeToResponse(context);
-            return Optional.of(context.getResponse());
+            writeToResponse(ANY_SETTING_INDEX, anySetting, context);
+            return true;
         }
 
-        return Optional.empty();
+        return false;
+    }
+
+    private void writeToResponse(final int index, final Setting<T> setting, final SessionContext context) {
+        FlightRecorders.recorder().settingMatched(index, setting.getMatcher());
+        EventLoopActivity activity = EventLoopActivity.current();
+        activity.enter(index, setting);
+        try {
+            setting.writeToResponse(context);
+        } finally {
+            activity.exit();
+        }
     }
 }
@@ -1,12 +1,83 @@
 package com.github.dreamhead.moco.internal;
 
+import com.github.dreamhead.moco.dumper.DumpPolicy;
+import com.google.common.collect.ImmutableList;
+
+import java.io.File;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
 public class ServerConfig {
+    private static final int DEFAULT_HEADER_SIZE = 8192;
+    private static final int DEFAULT_CONTENT_LENGTH = 1048576;
+    private static final int DEFAULT_COMPRESSION_MIN_SIZE = 1024;
+    private static final int DEFAULT_RETRY_AFTER = 1;
+    private static final int DEFAULT_PIPELINING_DEPTH = 16;
+    private static final int DEFAULT_TIMEOUT_STATUS = 504;
+    private static final long DEFAULT_MAX_SPOOL_SIZE = 1024L * 1024 * 1024;
+
+    private static final ServerConfig DEFAULT = builder().build();
+
     private final int headerSize;
     private final int contentLength;
+    private final long stallThreshold;
+    private final DumpPolicy dumpPolicy;
+    private final long streamingThreshold;
+    private final long spoolThreshold;
+    private final File spoolDirectory;
+    private final long maxSpoolSize;
+    private final int expectationFailedStatus;
+    private final boolean compression;
+    private final int compressionMinSize;
+    private final long decompressionLimit;
+    private final ImmutableList<String> tlsProtocols;
+    private final ImmutableList<String> tlsCiphers;
+    private final int maxConnections;
+    private final long readIdleTimeout;
+    private final long writeIdleTimeout;
+    private final int maxRequestsPerConnection;
+    private final long maxConnectionAge;
+    private final int maxInFlightRequests;
+    private final long latencyTarget;
+    private final int retryAfter;
+    private final int maxPipelinedRequests;
+    private final long handlerTimeout;
+    private final int timeoutStatus;
+    private final boolean matcherCompilation;
+    private final int dispatchCacheSize;
 
     public ServerConfig(final int maxHeaderSize, final int maxContentLength) {
-        this.headerSize = maxHeaderSize;
-        this.contentLength = maxContentLength;
+        this(builder().withHeaderSize(maxHeaderSize).withContentLength(maxContentLength));
+    }
+
+    private ServerConfig(final Builder builder) {
+        this.headerSize = builder.headerSize;
+        this.contentLength = builder.contentLength;
+        this.stallThreshold = builder.stallThreshold;
+        this.dumpPolicy = builder.dumpPolicy;
+        this.streamingThreshold = builder.streamingThreshold;
+        this.spoolThreshold = builder.spoolThreshold;
+        this.spoolDirectory = builder.spoolDirectory;
+        this.maxSpoolSize = builder.maxSpoolSize;
+        this.expectationFailedStatus = builder.expectationFailedStatus;
+        this.compression = builder.compression;
+        this.compressionMinSize = builder.compressionMinSize;
+        this.decompressionLimit = builder.decompressionLimit;
+        this.tlsProtocols = builder.tlsProtocols;
+        this.tlsCiphers = builder.tlsCiphers;
+        this.maxConnections = builder.maxConnections;
+        this.readIdleTimeout = builder.readIdleTimeout;
+        this.writeIdleTimeout = builder.writeIdleTimeout;
+        this.maxRequestsPerConnection = builder.maxRequestsPerConnection;
+        this.maxConnectionAge = builder.maxConnectionAge;
+        this.maxInFlightRequests = builder.maxInFlightRequests;
+        this.latencyTarget = builder.latencyTarget;
+        this.retryAfter = builder.retryAfter;
+        this.maxPipelinedRequests = builder.maxPipelinedRequests;
+        this.handlerTimeout = builder.handlerTimeout;
+        this.timeoutStatus = builder.timeoutStatus;
+        this.matcherCompilation = builder.matcherCompilation;
+        this.dispatchCacheSize = builder.dispatchCacheSize;
     }
 
     public final int getHeaderSize() {
@@ -16,4 +87,390 @@ public class ServerConfig {
     public final int getContentLength() {
         return contentLength;
     }
+
+    public final long getStallThreshold() {
+        return stallThreshold;
+    }
+
+    public final boolean isStallDetectionEnabled() {
+        return stallThreshold > 0;
+    }
+
+    public final DumpPolicy getDumpPolicy() {
+        return dumpPolicy;
+    }
+
+    public final long getStreamingThreshold() {
+        return streamingThreshold;
+    }
+
+    public final boolean isRequestStreamingEnabled() {
+        return streamingThreshold > 0;
+    }
+
+    public final long getSpoolThreshold() {
+        return spoolThreshold;
+    }
+
+    public final File getSpoolDirectory() {
+        return spoolDirectory;
+    }
+
+    public final long getMaxSpoolSize() {
+        return maxSpoolSize;
+    }
+
+    public final boolean isRequestSpoolingEnabled() {
+        return spoolThreshold > 0;
+    }
+
+    public final int getExpectationFailedStatus() {
+        return expectationFailedStatus;
+    }
+
+    public final boolean isExpectationCheckEnabled() {
+        return expectationFailedStatus > 0;
+    }
+
+    public final boolean isCompressionEnabled() {
+        return compression;
+    }
+
+    public final int getCompressionMinSize() {
+        return compressionMinSize;
+    }
+
+    public final long getDecompressionLimit() {
+        return decompressionLimit;
+    }
+
+    public final boolean isRequestDecompressionEnabled() {
+        return decompressionLimit > 0;
+    }
+
+    public final ImmutableList<String> getTlsProtocols() {
+        return tlsProtocols;
+    }
+
+    public final ImmutableList<String> getTlsCiphers() {
+        return tlsCiphers;
+    }
+
+    public final int getMaxConnections() {
+        return maxConnections;
+    }
+
+    public final long getReadIdleTimeout() {
+        return readIdleTimeout;
+    }
+
+    public final long getWriteIdleTimeout() {
+        return writeIdleTimeout;
+    }
+
+    public final int getMaxRequestsPerConnection() {
+        return maxRequestsPerConnection;
+    }
+
+    public final long getMaxConnectionAge() {
+        return maxConnectionAge;
+    }
+
+    public final boolean isKeepAliveLimited() {
+        return maxRequestsPerConnection > 0 || maxConnectionAge > 0;
+    }
+
+    public final int getMaxInFlightRequests() {
+        return maxInFlightRequests;
+    }
+
+    public final long getLatencyTarget() {
+        return latencyTarget;
+    }
+
+    public final int getRetryAfter() {
+        return retryAfter;
+    }
+
+    public final boolean isAdmissionControlEnabled() {
+        return maxInFlightRequests > 0 || latencyTarget > 0;
+    }
+
+    public final int getMaxPipelinedRequests() {
+        return maxPipelinedRequests;
+    }
+
+    public final long getHandlerTimeout() {
+        return handlerTimeout;
+    }
+
+    public final int getTimeoutStatus() {
+        return timeoutStatus;
+    }
+
+    public final boolean isMatcherCompilationEnabled() {
+        return matcherCompilation;
+    }
+
+    public final int getDispatchCacheSize() {
+        return dispatchCacheSize;
+    }
+
+    public final boolean isDispatchCacheEnabled() {
+        return dispatchCacheSize > 0;
+    }
+
+    public final ServerConfig merge(final ServerConfig that) {
+        return new Builder()
+                .withHeaderSize(pick(headerSize, that.headerSize, DEFAULT.headerSize))
+                .withContentLength(pick(contentLength, that.contentLength, DEFAULT.contentLength))
+                .withStallThreshold(pick(stallThreshold, that.stallThreshold, DEFAULT.stallThreshold),
+                        TimeUnit.MILLISECONDS)
+                .withDumpPolicy(pick(dumpPolicy, that.dumpPolicy, DEFAULT.dumpPolicy))
+                .withStreamingThreshold(pick(streamingThreshold, that.streamingThreshold, DEFAULT.streamingThreshold))
+                .withSpoolThreshold(pick(spoolThreshold, that.spoolThreshold, DEFAULT.spoolThreshold))
+                .withSpoolDirectory(pick(spoolDirectory, that.spoolDirectory, DEFAULT.spoolDirectory))
+                .withMaxSpoolSize(pick(maxSpoolSize, that.maxSpoolSize, DEFAULT.maxSpoolSize))
+                .withExpectationFailedStatus(pick(expectationFailedStatus, that.expectationFailedStatus,
+                        DEFAULT.expectationFailedStatus))
+                .withCompression(pick(compression, that.compression, DEFAULT.compression))
+                .withCompressionMinSize(pick(compressionMinSize, that.compressionMinSize, DEFAULT.compressionMinSize))
+                .withDecompressionLimit(pick(decompressionLimit, that.decompressionLimit, DEFAULT.decompressionLimit))
+                .withTlsProtocols(pick(tlsProtocols, that.tlsProtocols, DEFAULT.tlsProtocols).toArray(new String[0]))
+                .withTlsCiphers(pick(tlsCiphers, that.tlsCiphers, DEFAULT.tlsCiphers).toArray(new String[0]))
+                .withMaxConnections(pick(maxConnections, that.maxConnections, DEFAULT.maxConnections))
+                .withReadIdleTimeout(pick(readIdleTimeout, that.readIdleTimeout, DEFAULT.readIdleTimeout),
+                        TimeUnit.MILLISECONDS)
+                .withWriteIdleTimeout(pick(writeIdleTimeout, that.writeIdleTimeout, DEFAULT.writeIdleTimeout),
+                        TimeUnit.MILLISECONDS)
+                .withMaxRequestsPerConnection(pick(maxRequestsPerConnection, that.maxRequestsPerConnection,
+                        DEFAULT.maxRequestsPerConnection))
+                .withMaxConnectionAge(pick(maxConnectionAge, that.maxConnectionAge, DEFAULT.maxConnectionAge),
+                        TimeUnit.MILLISECONDS)
+                .withMaxInFlightRequests(pick(maxInFlightRequests, that.maxInFlightRequests,
+                        DEFAULT.maxInFlightRequests))
+                .withLatencyTarget(pick(latencyTarget, that.latencyTarget, DEFAULT.latencyTarget),
+                        TimeUnit.MILLISECONDS)
+                .withRetryAfter(pick(retryAfter, that.retryAfter, DEFAULT.retryAfter))
+                .withMaxPipelinedRequests(pick(maxPipelinedRequests, that.maxPipelinedRequests,
+                        DEFAULT.maxPipelinedRequests))
+                .withHandlerTimeout(pick(handlerTimeout, that.handlerTimeout, DEFAULT.handlerTimeout),
+                        TimeUnit.MILLISECONDS)
+                .withTimeoutStatus(pick(timeoutStatus, that.timeoutStatus, DEFAULT.timeoutStatus))
+                .withMatcherCompilation(pick(matcherCompilation, that.matcherCompilation, DEFAULT.matcherCompilation))
+                .withDispatchCacheSize(pick(dispatchCacheSize, that.dispatchCacheSize, DEFAULT.dispatchCacheSize))
+                .build();
+    }
+
+    private static <T> T pick(final T mine, final T theirs, final T defaultValue) {
+        if (Objects.equals(mine, defaultValue)) {
+            return theirs;
+        }
+
+        return mine;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static Builder builder(final ServerConfig config) {
+        return new Builder()
+                .withHeaderSize(config.headerSize)
+                .withContentLength(config.contentLength)
+                .withStallThreshold(config.stallThreshold, TimeUnit.MILLISECONDS)
+                .withDumpPolicy(config.dumpPolicy)
+                .withStreamingThreshold(config.streamingThreshold)
+                .withSpoolThreshold(config.spoolThreshold)
+                .withSpoolDirectory(config.spoolDirectory)
+                .withMaxSpoolSize(config.maxSpoolSize)
+                .withExpectationFailedStatus(config.expectationFailedStatus)
+                .withCompression(config.compression)
+                .withCompressionMinSize(config.compressionMinSize)
+                .withDecompressionLimit(config.decompressionLimit)
+                .withTlsProtocols(config.tlsProtocols.toArray(new String[0]))
+                .withTlsCiphers(config.tlsCiphers.toArray(new String[0]))
+                .withMaxConnections(config.maxConnections)
+                .withReadIdleTimeout(config.readIdleTimeout, TimeUnit.MILLISECONDS)
+                .withWriteIdleTimeout(config.writeIdleTimeout, TimeUnit.MILLISECONDS)
+                .withMaxRequestsPerConnection(config.maxRequestsPerConnection)
+                .withMaxConnectionAge(config.maxConnectionAge, TimeUnit.MILLISECONDS)
+                .withMaxInFlightRequests(config.maxInFlightRequests)
+                .withLatencyTarget(config.latencyTarget, TimeUnit.MILLISECONDS)
+                .withRetryAfter(config.retryAfter)
+                .withMaxPipelinedRequests(config.maxPipelinedRequests)
+                .withHandlerTimeout(config.handlerTimeout, TimeUnit.MILLISECONDS)
+                .withTimeoutStatus(config.timeoutStatus)
+                .withMatcherCompilation(config.matcherCompilation)
+                .withDispatchCacheSize(config.dispatchCacheSize);
+    }
+
+    public static final class Builder {
+        private int headerSize = DEFAULT_HEADER_SIZE;
+        private int contentLength = DEFAULT_CONTENT_LENGTH;
+        private long stallThreshold;
+        private DumpPolicy dumpPolicy = DumpPolicy.full();
+        private long streamingThreshold;
+        private long spoolThreshold;
+        private File spoolDirectory;
+        private long maxSpoolSize = DEFAULT_MAX_SPOOL_SIZE;
+        private int expectationFailedStatus;
+        private boolean compression;
+        private int compressionMinSize = DEFAULT_COMPRESSION_MIN_SIZE;
+        private long decompressionLimit;
+        private ImmutableList<String> tlsProtocols = ImmutableList.of();
+        private ImmutableList<String> tlsCiphers = ImmutableList.of();
+        private int maxConnections;
+        private long readIdleTimeout;
+        private long writeIdleTimeout;
+        private int maxRequestsPerConnection;
+        private long maxConnectionAge;
+        private int maxInFlightRequests;
+        private long latencyTarget;
+        private int retryAfter = DEFAULT_RETRY_AFTER;
+        private int maxPipelinedRequests = DEFAULT_PIPELINING_DEPTH;
+        private long handlerTimeout;
+        private int timeoutStatus = DEFAULT_TIMEOUT_STATUS;
+        private boolean matcherCompilation;
+        private int dispatchCacheSize;
+
+        public Builder withHeaderSize(final int headerSize) {
+            this.headerSize = headerSize;
+            return this;
+        }
+
+        public Builder withContentLength(final int contentLength) {
+            this.contentLength = contentLength;
+            return this;
+        }
+
+        public Builder withStallThreshold(final long threshold, final TimeUnit unit) {
+            this.stallThreshold = unit.toMillis(threshold);
+            return this;
+        }
+
+        public Builder withDumpPolicy(final DumpPolicy dumpPolicy) {
+            this.dumpPolicy = dumpPolicy;
+            return this;
+        }
+
+        public Builder withStreamingThreshold(final long streamingThreshold) {
+            this.streamingThreshold = streamingThreshold;
+            return this;
+        }
+
+        public Builder withSpoolThreshold(final long spoolThreshold) {
+            this.spoolThreshold = spoolThreshold;
+            return this;
+        }
+
+        public Builder withSpoolDirectory(final File spoolDirectory) {
+            this.spoolDirectory = spoolDirectory;
+            return this;
+        }
+
+        public Builder withMaxSpoolSize(final long maxSpoolSize) {
+            this.maxSpoolSize = maxSpoolSize;
+            return this;
+        }
+
+        public Builder withExpectationFailedStatus(final int expectationFailedStatus) {
+            this.expectationFailedStatus = expectationFailedStatus;
+            return this;
+        }
+
+        public Builder withCompression(final boolean compression) {
+            this.compression = compression;
+            return this;
+        }
+
+        public Builder withCompressionMinSize(final int compressionMinSize) {
+            this.compressionMinSize = compressionMinSize;
+            return this;
+        }
+
+        public Builder withDecompressionLimit(final long decompressionLimit) {
+            this.decompressionLimit = decompressionLimit;
+            return this;
+        }
+
+        public Builder withTlsProtocols(final String... protocols) {
+            this.tlsProtocols = ImmutableList.copyOf(protocols);
+            return this;
+        }
+
+        public Builder withTlsCiphers(final String... ciphers) {
+            this.tlsCiphers = ImmutableList.copyOf(ciphers);
+            return this;
+        }
+
+        public Builder withMaxConnections(final int maxConnections) {
+            this.maxConnections = maxConnections;
+            return this;
+        }
+
+        public Builder withReadIdleTimeout(final long timeout, final TimeUnit unit) {
+            this.readIdleTimeout = unit.toMillis(timeout);
+            return this;
+        }
+
+        public Builder withWriteIdleTimeout(final long timeout, final TimeUnit unit) {
+            this.writeIdleTimeout = unit.toMillis(timeout);
+            return this;
+        }
+
+        public Builder withMaxRequestsPerConnection(final int maxRequests) {
+            this.maxRequestsPerConnection = maxRequests;
+            return this;
+        }
+
+        public Builder withMaxConnectionAge(final long age, final TimeUnit unit) {
+            this.maxConnectionAge = unit.toMillis(age);
+            return this;
+        }
+
+        public Builder withMaxInFlightRequests(final int maxInFlightRequests) {
+            this.maxInFlightRequests = maxInFlightRequests;
+            return this;
+        }
+
+        public Builder withLatencyTarget(final long target, final TimeUnit unit) {
+            this.latencyTarget = unit.toMillis(target);
+            return this;
+        }
+
+        public Builder withRetryAfter(final int seconds) {
+            this.retryAfter = seconds;
+            return this;
+        }
+
+        public Builder withMaxPipelinedRequests(final int maxPipelinedRequests) {
+            this.maxPipelinedRequests = maxPipelinedRequests;
+            return this;
+        }
+
+        public Builder withHandlerTimeout(final long timeout, final TimeUnit unit) {
+            this.handlerTimeout = unit.toMillis(timeout);
+            return this;
+        }
+
+        public Builder withTimeoutStatus(final int timeoutStatus) {
+            this.timeoutStatus = timeoutStatus;
+            return this;
+        }
+
+        public Builder withMatcherCompilation(final boolean matcherCompilation) {
+            this.matcherCompilation = matcherCompilation;
+            return this;
+        }
+
+        public Builder withDispatchCacheSize(final int dispatchCacheSize) {
+            this.dispatchCacheSize = dispatchCacheSize;
+            return this;
+        }
+
+        public ServerConfig build() {
+            return new ServerConfig(this);
+        }
+    }
 }
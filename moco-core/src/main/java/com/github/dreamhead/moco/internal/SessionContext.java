@@ -12,7 +12,7 @@ public final class SessionContext {
     private final Request request;
     private final Response response;
     private final SessionGroup group;
-    private final Map<ContextKey, Object> context = new HashMap<>();
+    private Map<ContextKey, Object> context;
 
     public SessionContext(final Request request, final Response response) {
         this.request = request;
@@ -26,6 +26,27 @@ public final class SessionContext {
         this.group = group;
     }
 
+    public SessionContext forResponse(final Response response) {
+        SessionContext derived = new SessionContext(this.request, response, this.group);
+        if (this.context != null) {
+            derived.context = new HashMap<>(this.context);
+        }
+
+        return derived;
+    }
+
+    public void merge(final SessionContext derived) {
+        if (derived.context == null || derived.context == this.context) {
+            return;
+        }
+
+        if (this.context == null) {
+            this.context = new HashMap<>();
+        }
+
+        this.context.putAll(derived.context);
+    }
+
     public Request getRequest() {
         return this.request;
     }
@@ -43,10 +64,18 @@ public final class SessionContext {
     }
 
     public <T> void register(final ContextKey key, final T value) {
+        if (this.context == null) {
+            this.context = new HashMap<>();
+        }
+
         this.context.put(key, value);
     }
 
     public <T> T get(final ContextKey key, final Class<T> clazz) {
+        if (this.context == null) {
+            return null;
+        }
+
         return clazz.cast(this.context.get(key));
     }
 }
@@ -0,0 +1,92 @@
+package com.github.dreamhead.moco.internal;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.buffer.UnpooledHeapByteBuf;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.util.AbstractReferenceCounted;
+import io.netty.util.ReferenceCounted;
+
+import java.io.File;
+
+public final class SpooledHttpRequest extends DefaultFullHttpRequest {
+    private final Spool spool;
+
+    public SpooledHttpRequest(final HttpRequest request, final HttpHeaders trailingHeaders, final File file) {
+        this(request, trailingHeaders, new Spool(file));
+        HttpUtil.setTransferEncodingChunked(this, false);
+        HttpUtil.setContentLength(this, file.length());
+    }
+
+    private SpooledHttpRequest(final HttpRequest request, final HttpHeaders trailingHeaders, final Spool spool) {
+        this(request, trailingHeaders, spool, new SpoolBuffer(spool));
+    }
+
+    private SpooledHttpRequest(final HttpRequest request, final HttpHeaders trailingHeaders, final Spool spool,
+                               final ByteBuf content) {
+        super(request.protocolVersion(), request.method(), request.uri(), content);
+        this.headers().set(request.headers());
+        this.trailingHeaders().set(trailingHeaders);
+        this.setDecoderResult(request.decoderResult());
+        this.spool = spool;
+    }
+
+    public File getFile() {
+        return spool.file;
+    }
+
+    @Override
+    public FullHttpRequest copy() {
+        spool.retain();
+        return new SpooledHttpRequest(this, trailingHeaders(), spool);
+    }
+
+    @Override
+    public FullHttpRequest duplicate() {
+        return new SpooledHttpRequest(this, trailingHeaders(), spool, content().duplicate());
+    }
+
+    @Override
+    public FullHttpRequest retainedDuplicate() {
+        return new SpooledHttpRequest(this, trailingHeaders(), spool, content().retainedDuplicate());
+    }
+
+    private static final class Spool extends AbstractReferenceCounted {
+        private final File file;
+
+        private Spool(final File file) {
+            this.file = file;
+        }
+
+        @Override
+        protected void deallocate() {
+            if (!file.delete()) {
+                file.deleteOnExit();
+            }
+        }
+
+        @Override
+        public ReferenceCounted touch(final Object hint) {
+            return this;
+        }
+    }
+
+    private static final class SpoolBuffer extends UnpooledHeapByteBuf {
+        private final Spool spool;
+
+        private SpoolBuffer(final Spool spool) {
+            super(UnpooledByteBufAllocator.DEFAULT, 0, 0);
+            this.spool = spool;
+        }
+
+        @Override
+        protected void deallocate() {
+            super.deallocate();
+            spool.release();
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package com.github.dreamhead.moco.internal;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpMessage;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.util.ReferenceCountUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class SpoolingRequestHandler extends ChannelInboundHandlerAdapter {
+    private static final String SPOOL_PREFIX = "moco-spool-";
+
+    private final long threshold;
+    private final long maxSize;
+    private final File directory;
+    private final List<HttpContent> buffered = new ArrayList<>();
+    private HttpRequest bufferingRequest;
+    private long bufferedLength;
+    private HttpRequest spoolingRequest;
+    private File file;
+    private FileChannel channel;
+    private long position;
+    private boolean discarding;
+
+    public SpoolingRequestHandler(final long threshold, final long maxSize, final File directory) {
+        this.threshold = threshold;
+        this.maxSize = maxSize;
+        this.directory = directory;
+    }
+
+    @Override
+    public void channelRead(final ChannelHandlerContext ctx, final Object msg) throws IOException {
+        if (discarding && msg instanceof HttpContent) {
+            skip((HttpContent) msg);
+            ReferenceCountUtil.release(msg);
+            return;
+        }
+
+        if (spoolingRequest == null && bufferingRequest == null) {
+            if (isLargeRequest(msg)) {
+                startOrReject(ctx, (HttpRequest) msg);
+                return;
+            }
+
+            if (isChunkedRequest(msg)) {
+                buffer(ctx, (HttpRequest) msg);
+                return;
+            }
+
+            ctx.fireChannelRead(msg);
+            return;
+        }
+
+        if (!(msg instanceof HttpContent)) {
+            ctx.fireChannelRead(msg);
+            return;
+        }
+
+        if (bufferingRequest != null) {
+            bufferContent(ctx, (HttpContent) msg);
+            return;
+        }
+
+        try {
+            spool(ctx, (HttpContent) msg);
+        } finally {
+            ReferenceCountUtil.release(msg);
+        }
+    }
+
+    @Override
+    public void channelInactive(final ChannelHandlerContext ctx) {
+        discard();
+        ctx.fireChannelInactive();
+    }
+
+    @Override
+    public void handlerRemoved(final ChannelHandlerContext ctx) {
+        discard();
+    }
+
+    private boolean isLargeRequest(final Object msg) {
+        if (!(msg instanceof HttpRequest) || msg instanceof FullHttpMessage) {
+            return false;
+        }
+
+        return HttpUtil.getContentLength((HttpRequest) msg, -1L) > threshold;
+    }
+
+    private boolean isChunkedRequest(final Object msg) {
+        if (!(msg instanceof HttpRequest) || msg instanceof FullHttpMessage) {
+            return false;
+        }
+
+        HttpRequest request = (HttpRequest) msg;
+        return HttpUtil.isTransferEncodingChunked(request) && !HttpUtil.isContentLengthSet(request);
+    }
+
+    private void buffer(final ChannelHandlerContext ctx, final HttpRequest request) {
+        bufferingRequest = request;
+        bufferedLength = 0;
+        continueIfExpected(ctx, request);
+    }
+
+    private void bufferContent(final ChannelHandlerContext ctx, final HttpContent content) throws IOException {
+        buffered.add(content);
+        bufferedLength += content.content().readableBytes();
+        if (bufferedLength > threshold) {
+            spoolBuffered(ctx);
+            return;
+        }
+
+        if (content instanceof LastHttpContent) {
+            HttpRequest request = bufferingRequest;
+            List<HttpContent> contents = new ArrayList<>(buffered);
+            bufferingRequest = null;
+            buffered.clear();
+
+            ctx.fireChannelRead(request);
+            for (HttpContent current : contents) {
+                ctx.fireChannelRead(current);
+            }
+        }
+    }
+
+    private void spoolBuffered(final ChannelHandlerContext ctx) throws IOException {
+        HttpRequest request = bufferingRequest;
+        List<HttpContent> contents = new ArrayList<>(buffered);
+        bufferingRequest = null;
+        buffered.clear();
+
+        try {
+            start(ctx, request);
+            for (HttpContent content : contents) {
+                if (discarding) {
+                    skip(content);
+                } else {
+                    spool(ctx, content);
+                }
+            }
+        } finally {
+            for (HttpContent content : contents) {
+                ReferenceCountUtil.release(content);
+            }
+        }
+    }
+
+    private void startOrReject(final ChannelHandlerContext ctx, final HttpRequest request) throws IOException {
+        if (HttpUtil.getContentLength(request, -1L) > maxSize) {
+            reject(ctx, request);
+            return;
+        }
+
+        start(ctx, request);
+    }
+
+    private void start(final ChannelHandlerContext ctx, final HttpRequest request) throws IOException {
+        file = File.createTempFile(SPOOL_PREFIX, null, directory);
+        channel = new RandomAccessFile(file, "rw").getChannel();
+        position = 0;
+        spoolingRequest = request;
+        continueIfExpected(ctx, request);
+    }
+
+    private void continueIfExpected(final ChannelHandlerContext ctx, final HttpRequest request) {
+        if (HttpUtil.is100ContinueExpected(request)) {
+            ctx.writeAndFlush(new DefaultFullHttpResponse(request.protocolVersion(), HttpResponseStatus.CONTINUE));
+            request.headers().remove(HttpHeaderNames.EXPECT);
+        }
+    }
+
+    private void spool(final ChannelHandlerContext ctx, final HttpContent content) throws IOException {
+        if (position + content.content().readableBytes() > maxSize) {
+            HttpRequest request = spoolingRequest;
+            discard();
+            reject(ctx, request);
+            skip(content);
+            return;
+        }
+
+        try {
+            write(content.content());
+            if (content instanceof LastHttpContent) {
+                ctx.fireChannelRead(finish((LastHttpContent) content));
+            }
+        } catch (IOException e) {
+            discard();
+            ctx.close();
+            throw e;
+        }
+    }
+
+    private void reject(final ChannelHandlerContext ctx, final HttpRequest request) {
+        discarding = true;
+        RejectedHttpRequest rejected = new RejectedHttpRequest(request, HttpResponseStatus.REQUEST_ENTITY_TOO_LARGE);
+        HttpUtil.setKeepAlive(rejected, false);
+        ctx.fireChannelRead(rejected);
+    }
+
+    private void skip(final HttpContent content) {
+        if (content instanceof LastHttpContent) {
+            discarding = false;
+        }
+    }
+
+    private void write(final ByteBuf content) throws IOException {
+        int length = content.readableBytes();
+        int written = 0;
+        while (written < length) {
+            written += content.getBytes(content.readerIndex() + written, channel, position + written,
+                    length - written);
+        }
+
+        position += length;
+    }
+
+    private SpooledHttpRequest finish(final LastHttpContent last) throws IOException {
+        channel.close();
+        SpooledHttpRequest request = new SpooledHttpRequest(spoolingRequest, last.trailingHeaders(), file);
+        reset();
+        return request;
+    }
+
+    private void discard() {
+        for (HttpContent content : buffered) {
+            ReferenceCountUtil.release(content);
+        }
+
+        buffered.clear();
+        bufferingRequest = null;
+
+        if (file == null) {
+            return;
+        }
+
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+        }
+
+        if (!file.delete()) {
+            file.deleteOnExit();
+        }
+
+        reset();
+    }
+
+    private void reset() {
+        spoolingRequest = null;
+        file = null;
+        channel = null;
+    }
+}
@@ -0,0 +1,34 @@
+package com.github.dreamhead.moco.internal;
+
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public final class StreamedHttpRequest extends DefaultFullHttpRequest {
+    private static final Logger logger = LoggerFactory.getLogger(StreamedHttpRequest.class);
+    private static final byte[] EMPTY_CONTENT = new byte[0];
+
+    private final long discardedLength;
+
+    public StreamedHttpRequest(final HttpRequest request, final HttpHeaders trailingHeaders,
+                               final long discardedLength) {
+        super(request.protocolVersion(), request.method(), request.uri(), Unpooled.EMPTY_BUFFER);
+        this.headers().set(request.headers());
+        this.trailingHeaders().set(trailingHeaders);
+        this.setDecoderResult(request.decoderResult());
+        this.discardedLength = discardedLength;
+    }
+
+    public long getDiscardedLength() {
+        return discardedLength;
+    }
+
+    public byte[] discardedContent() {
+        logger.warn("Request body of {} {} ({} bytes) was discarded by streaming, so it is read as empty",
+                method(), uri(), discardedLength);
+        return EMPTY_CONTENT;
+    }
+}
@@ -0,0 +1,172 @@
+package com.github.dreamhead.moco.internal;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpMessage;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.util.ReferenceCountUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class StreamingRequestHandler extends ChannelInboundHandlerAdapter {
+    private final ActualHttpServer server;
+    private final long threshold;
+    private final List<HttpContent> buffered = new ArrayList<>();
+    private HttpRequest bufferingRequest;
+    private HttpRequest streamingRequest;
+    private long discardedLength;
+
+    public StreamingRequestHandler(final ActualHttpServer server, final long threshold) {
+        this.server = server;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void channelRead(final ChannelHandlerContext ctx, final Object msg) {
+        if (streamingRequest == null && bufferingRequest == null) {
+            if (isLargeRequest(msg) && !requiresContent(ctx, msg)) {
+                stream(ctx, (HttpRequest) msg);
+                return;
+            }
+
+            if (isChunkedRequest(msg) && !requiresContent(ctx, msg)) {
+                buffer(ctx, (HttpRequest) msg);
+                return;
+            }
+
+            ctx.fireChannelRead(msg);
+            return;
+        }
+
+        if (!(msg instanceof HttpContent)) {
+            ctx.fireChannelRead(msg);
+            return;
+        }
+
+        if (bufferingRequest != null) {
+            bufferContent(ctx, (HttpContent) msg);
+            return;
+        }
+
+        try {
+            discard(ctx, (HttpContent) msg);
+        } finally {
+            ReferenceCountUtil.release(msg);
+        }
+    }
+
+    @Override
+    public void channelInactive(final ChannelHandlerContext ctx) {
+        releaseBuffered();
+        ctx.fireChannelInactive();
+    }
+
+    @Override
+    public void handlerRemoved(final ChannelHandlerContext ctx) {
+        releaseBuffered();
+    }
+
+    private boolean isLargeRequest(final Object msg) {
+        if (!(msg instanceof HttpRequest) || msg instanceof FullHttpMessage) {
+            return false;
+        }
+
+        return HttpUtil.getContentLength((HttpRequest) msg, -1L) > threshold;
+    }
+
+    private boolean isChunkedRequest(final Object msg) {
+        if (!(msg instanceof HttpRequest) || msg instanceof FullHttpMessage) {
+            return false;
+        }
+
+        HttpRequest request = (HttpRequest) msg;
+        return HttpUtil.isTransferEncodingChunked(request) && !HttpUtil.isContentLengthSet(request);
+    }
+
+    private boolean requiresContent(final ChannelHandlerContext ctx, final Object msg) {
+        return new ContentProbe(server, ctx, (HttpRequest) msg).requiresContent();
+    }
+
+    private void stream(final ChannelHandlerContext ctx, final HttpRequest request) {
+        streamingRequest = request;
+        discardedLength = 0;
+        continueIfExpected(ctx, request);
+    }
+
+    private void buffer(final ChannelHandlerContext ctx, final HttpRequest request) {
+        bufferingRequest = request;
+        discardedLength = 0;
+        continueIfExpected(ctx, request);
+    }
+
+    private void bufferContent(final ChannelHandlerContext ctx, final HttpContent content) {
+        buffered.add(content);
+        discardedLength += content.content().readableBytes();
+        if (discardedLength > threshold) {
+            streamBuffered(ctx);
+            return;
+        }
+
+        if (content instanceof LastHttpContent) {
+            HttpRequest request = bufferingRequest;
+            List<HttpContent> contents = new ArrayList<>(buffered);
+            bufferingRequest = null;
+            buffered.clear();
+
+            ctx.fireChannelRead(request);
+            for (HttpContent current : contents) {
+                ctx.fireChannelRead(current);
+            }
+        }
+    }
+
+    private void streamBuffered(final ChannelHandlerContext ctx) {
+        HttpContent last = buffered.get(buffered.size() - 1);
+        streamingRequest = bufferingRequest;
+        bufferingRequest = null;
+
+        try {
+            if (last instanceof LastHttpContent) {
+                finish(ctx, (LastHttpContent) last);
+            }
+        } finally {
+            releaseBuffered();
+        }
+    }
+
+    private void discard(final ChannelHandlerContext ctx, final HttpContent content) {
+        discardedLength += content.content().readableBytes();
+        if (content instanceof LastHttpContent) {
+            finish(ctx, (LastHttpContent) content);
+        }
+    }
+
+    private void finish(final ChannelHandlerContext ctx, final LastHttpContent last) {
+        HttpRequest request = streamingRequest;
+        streamingRequest = null;
+        ctx.fireChannelRead(new StreamedHttpRequest(request, last.trailingHeaders(), discardedLength));
+    }
+
+    private void releaseBuffered() {
+        for (HttpContent content : buffered) {
+            ReferenceCountUtil.release(content);
+        }
+
+        buffered.clear();
+        bufferingRequest = null;
+    }
+
+    private void continueIfExpected(final ChannelHandlerContext ctx, final HttpRequest request) {
+        if (HttpUtil.is100ContinueExpected(request)) {
+            ctx.writeAndFlush(new DefaultFullHttpResponse(request.protocolVersion(), HttpResponseStatus.CONTINUE));
+            request.headers().remove(HttpHeaderNames.EXPECT);
+        }
+    }
+}
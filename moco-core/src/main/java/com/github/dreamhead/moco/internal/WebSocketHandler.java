@@ -10,9 +10,6 @@ import io.netty.handler.codec.http.websocketx.BinaryWebSocketFrame;
 import io.netty.handler.codec.http.websocketx.PingWebSocketFrame;
 import io.netty.handler.codec.http.websocketx.WebSocketFrame;
 
-import java.net.InetSocketAddress;
-import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
 import java.util.Optional;
 
 public class WebSocketHandler {
@@ -34,8 +31,7 @@ public class WebSocketHandler {
 
     private Optional<WebSocketFrame> getResponseFrame(final ChannelHandlerContext ctx,
                                                       final WebSocketFrame message) {
-        final InetSocketAddress address = (InetSocketAddress) ctx.channel().remoteAddress();
-        final Client client = new Client(address);
+        final Client client = Client.client(ctx.channel().remoteAddress());
         if (message instanceof PingWebSocketFrame) {
             return Optional.of(websocketServer.handlePingPong((PingWebSocketFrame) message,
                     client));
@@ -0,0 +1,20 @@
+package com.github.dreamhead.moco.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.github.dreamhead.moco.FailoverHit")
+@Label("Failover Hit")
+@Category("Moco")
+final class FailoverHitEvent extends Event {
+    @Label("Method")
+    String method;
+
+    @Label("URI")
+    String uri;
+
+    @Label("Playback")
+    boolean playback;
+}
@@ -0,0 +1,42 @@
+package com.github.dreamhead.moco.jfr;
+
+import com.github.dreamhead.moco.HttpRequest;
+import com.github.dreamhead.moco.Request;
+import com.github.dreamhead.moco.RequestMatcher;
+import com.github.dreamhead.moco.ResponseHandler;
+
+public interface FlightRecorder {
+    FlightSpan requestReceived(Request request);
+
+    void settingMatched(int index, RequestMatcher matcher);
+
+    FlightSpan handlerExecuting(ResponseHandler handler);
+
+    void proxyForwarded(String url, int status, long upstreamNanos);
+
+    void failoverHit(HttpRequest request, boolean playback);
+
+    FlightRecorder EMPTY_RECORDER = new FlightRecorder() {
+        @Override
+        public FlightSpan requestReceived(final Request request) {
+            return FlightSpan.EMPTY_SPAN;
+        }
+
+        @Override
+        public void settingMatched(final int index, final RequestMatcher matcher) {
+        }
+
+        @Override
+        public FlightSpan handlerExecuting(final ResponseHandler handler) {
+            return FlightSpan.EMPTY_SPAN;
+        }
+
+        @Override
+        public void proxyForwarded(final String url, final int status, final long upstreamNanos) {
+        }
+
+        @Override
+        public void failoverHit(final HttpRequest request, final boolean playback) {
+        }
+    };
+}
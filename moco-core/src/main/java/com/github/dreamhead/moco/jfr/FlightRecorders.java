@@ -0,0 +1,22 @@
+package com.github.dreamhead.moco.jfr;
+
+public final class FlightRecorders {
+    private static final String JFR_EVENT_CLASS = "jdk.jfr.Event";
+    private static final FlightRecorder RECORDER = createRecorder();
+
+    public static FlightRecorder recorder() {
+        return RECORDER;
+    }
+
+    private static FlightRecorder createRecorder() {
+        try {
+            Class.forName(JFR_EVENT_CLASS, false, FlightRecorders.class.getClassLoader());
+            return new JfrFlightRecorder();
+        } catch (ClassNotFoundException | LinkageError e) {
+            return FlightRecorder.EMPTY_RECORDER;
+        }
+    }
+
+    private FlightRecorders() {
+    }
+}
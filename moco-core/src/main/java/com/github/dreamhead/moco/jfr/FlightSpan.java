@@ -0,0 +1,8 @@
+package com.github.dreamhead.moco.jfr;
+
+public interface FlightSpan {
+    void end();
+
+    FlightSpan EMPTY_SPAN = () -> {
+    };
+}
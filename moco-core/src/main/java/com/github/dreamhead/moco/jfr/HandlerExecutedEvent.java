@@ -0,0 +1,14 @@
+package com.github.dreamhead.moco.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.github.dreamhead.moco.HandlerExecuted")
+@Label("Handler Executed")
+@Category("Moco")
+final class HandlerExecutedEvent extends Event {
+    @Label("Handler Type")
+    String handlerType;
+}
@@ -0,0 +1,73 @@
+package com.github.dreamhead.moco.jfr;
+
+import com.github.dreamhead.moco.HttpRequest;
+import com.github.dreamhead.moco.Request;
+import com.github.dreamhead.moco.RequestMatcher;
+import com.github.dreamhead.moco.ResponseHandler;
+
+final class JfrFlightRecorder implements FlightRecorder {
+    private static final String SOCKET_METHOD = "SOCKET";
+
+    @Override
+    public FlightSpan requestReceived(final Request request) {
+        RequestReceivedEvent event = new RequestReceivedEvent();
+        if (!event.isEnabled()) {
+            return FlightSpan.EMPTY_SPAN;
+        }
+
+        if (request instanceof HttpRequest) {
+            HttpRequest httpRequest = (HttpRequest) request;
+            event.method = httpRequest.getMethod().name();
+            event.uri = httpRequest.getUri();
+        } else {
+            event.method = SOCKET_METHOD;
+        }
+
+        event.begin();
+        return event::commit;
+    }
+
+    @Override
+    public void settingMatched(final int index, final RequestMatcher matcher) {
+        SettingMatchedEvent event = new SettingMatchedEvent();
+        if (event.isEnabled()) {
+            event.index = index;
+            event.matcherType = matcher.getClass().getName();
+            event.commit();
+        }
+    }
+
+    @Override
+    public FlightSpan handlerExecuting(final ResponseHandler handler) {
+        HandlerExecutedEvent event = new HandlerExecutedEvent();
+        if (!event.isEnabled()) {
+            return FlightSpan.EMPTY_SPAN;
+        }
+
+        event.handlerType = handler.getClass().getName();
+        event.begin();
+        return event::commit;
+    }
+
+    @Override
+    public void proxyForwarded(final String url, final int status, final long upstreamNanos) {
+        ProxyForwardedEvent event = new ProxyForwardedEvent();
+        if (event.isEnabled()) {
+            event.url = url;
+            event.status = status;
+            event.upstreamTime = upstreamNanos;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void failoverHit(final HttpRequest request, final boolean playback) {
+        FailoverHitEvent event = new FailoverHitEvent();
+        if (event.isEnabled()) {
+            event.method = request.getMethod().name();
+            event.uri = request.getUri();
+            event.playback = playback;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.github.dreamhead.moco.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+@Name("com.github.dreamhead.moco.ProxyForwarded")
+@Label("Proxy Forwarded")
+@Category("Moco")
+final class ProxyForwardedEvent extends Event {
+    @Label("URL")
+    String url;
+
+    @Label("Status")
+    int status;
+
+    @Label("Upstream Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long upstreamTime;
+}
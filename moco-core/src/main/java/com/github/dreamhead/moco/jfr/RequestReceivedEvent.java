@@ -0,0 +1,17 @@
+package com.github.dreamhead.moco.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.github.dreamhead.moco.RequestReceived")
+@Label("Request Received")
+@Category("Moco")
+final class RequestReceivedEvent extends Event {
+    @Label("Method")
+    String method;
+
+    @Label("URI")
+    String uri;
+}
@@ -0,0 +1,17 @@
+package com.github.dreamhead.moco.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.github.dreamhead.moco.SettingMatched")
+@Label("Setting Matched")
+@Category("Moco")
+final class SettingMatchedEvent extends Event {
+    @Label("Setting Index")
+    int index;
+
+    @Label("Matcher Type")
+    String matcherType;
+}
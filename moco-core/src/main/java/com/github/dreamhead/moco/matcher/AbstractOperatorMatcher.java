@@ -6,6 +6,7 @@ import com.github.dreamhead.moco.RequestExtractor;
 import com.github.dreamhead.moco.RequestMatcher;
 import com.github.dreamhead.moco.model.MessageContent;
 import com.github.dreamhead.moco.resource.Resource;
+import com.google.common.collect.ImmutableSet;
 
 import java.util.Arrays;
 import java.util.Objects;
@@ -13,6 +14,8 @@ import java.util.Optional;
 import java.util.function.Predicate;
 
 public abstract class AbstractOperatorMatcher<T> extends AbstractRequestMatcher {
+    private static final ImmutableSet<String> CONSTANT_RESOURCES = ImmutableSet.of(MocoConfig.URI_ID, "method", "text");
+
     protected abstract RequestMatcher newMatcher(RequestExtractor<T> extractor, Resource resource);
 
     private final RequestExtractor<T> extractor;
@@ -27,6 +30,14 @@ public abstract class AbstractOperatorMatcher<T> extends AbstractRequestMatcher
         this.expected = expected;
     }
 
+    final RequestExtractor<T> getExtractor() {
+        return extractor;
+    }
+
+    final boolean hasConstantExpectation() {
+        return CONSTANT_RESOURCES.contains(expected.id());
+    }
+
     protected final Resource getExpected() {
         return expected;
     }
@@ -48,13 +59,20 @@ public abstract class AbstractOperatorMatcher<T> extends AbstractRequestMatcher
         }
 
         if (target instanceof MessageContent) {
-            MessageContent actualTarget = (MessageContent) target;
-            return predicate.test(actualTarget.toString());
+            return matchMessageContent((MessageContent) target);
         }
 
         return false;
     }
 
+    protected boolean matchMessageContent(final MessageContent content) {
+        return predicate.test(content.toString());
+    }
+
+    protected final String expectedText() {
+        return expected.readFor((Request) null).toString();
+    }
+
     @Override
     public final RequestMatcher doApply(final MocoConfig config) {
         Resource appliedResource = expected.apply(config);
@@ -0,0 +1,46 @@
+package com.github.dreamhead.moco.matcher;
+
+import com.github.dreamhead.moco.MocoConfig;
+import com.github.dreamhead.moco.Request;
+import com.github.dreamhead.moco.RequestMatcher;
+import com.github.dreamhead.moco.internal.SessionContext;
+
+import java.util.function.Predicate;
+
+public final class CompiledRequestMatcher extends AbstractRequestMatcher {
+    private final RequestMatcher source;
+    private final Predicate<Request> predicate;
+
+    CompiledRequestMatcher(final RequestMatcher source, final Predicate<Request> predicate) {
+        this.source = source;
+        this.predicate = predicate;
+    }
+
+    RequestMatcher getSource() {
+        return source;
+    }
+
+    Predicate<Request> getPredicate() {
+        return predicate;
+    }
+
+    @Override
+    public boolean match(final Request request) {
+        return predicate.test(request);
+    }
+
+    @Override
+    public void attach(final SessionContext context) {
+        source.attach(context);
+    }
+
+    @Override
+    public RequestMatcher doApply(final MocoConfig config) {
+        RequestMatcher appliedMatcher = source.apply(config);
+        if (appliedMatcher == source) {
+            return this;
+        }
+
+        return RequestMatcherCompiler.compile(appliedMatcher);
+    }
+}
@@ -17,6 +17,10 @@ public abstract class CompositeRequestMatcher extends AbstractRequestMatcher {
         this.matchers = matchers;
     }
 
+    final Iterable<RequestMatcher> getMatchers() {
+        return matchers;
+    }
+
     private Iterable<RequestMatcher> applyToMatchers(final MocoConfig config) {
         Iterable<RequestMatcher> appliedMatchers = StreamSupport.stream(matchers.spliterator(), false)
                 .map(matcher -> matcher.apply(config))
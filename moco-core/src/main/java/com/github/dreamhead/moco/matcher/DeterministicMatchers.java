@@ -0,0 +1,103 @@
+package com.github.dreamhead.moco.matcher;
+
+import com.github.dreamhead.moco.RequestExtractor;
+import com.github.dreamhead.moco.RequestMatcher;
+import com.github.dreamhead.moco.extractor.HeaderRequestExtractor;
+import com.github.dreamhead.moco.extractor.HttpMethodExtractor;
+import com.github.dreamhead.moco.extractor.ParamRequestExtractor;
+import com.github.dreamhead.moco.extractor.UriRequestExtractor;
+import com.github.dreamhead.moco.extractor.VersionExtractor;
+import com.google.common.collect.ImmutableList;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.github.dreamhead.moco.RequestMatcher.ANY_REQUEST_MATCHER;
+
+public final class DeterministicMatchers {
+    public static Optional<ImmutableList<RequestExtractor<?>>> extractorsOf(final Iterable<RequestMatcher> matchers) {
+        Map<String, RequestExtractor<?>> extractors = new LinkedHashMap<>();
+        for (RequestMatcher matcher : matchers) {
+            if (!collect(matcher, extractors)) {
+                return Optional.empty();
+            }
+        }
+
+        return Optional.of(ImmutableList.copyOf(extractors.values()));
+    }
+
+    private static boolean collect(final RequestMatcher matcher, final Map<String, RequestExtractor<?>> extractors) {
+        if (matcher == ANY_REQUEST_MATCHER) {
+            return true;
+        }
+
+        if (matcher instanceof CompiledRequestMatcher) {
+            return collect(((CompiledRequestMatcher) matcher).getSource(), extractors);
+        }
+
+        if (matcher instanceof CompositeRequestMatcher) {
+            for (RequestMatcher child : ((CompositeRequestMatcher) matcher).getMatchers()) {
+                if (!collect(child, extractors)) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        if (matcher instanceof NotRequestMatcher) {
+            return collect(((NotRequestMatcher) matcher).getMatcher(), extractors);
+        }
+
+        if (matcher instanceof AbstractOperatorMatcher) {
+            AbstractOperatorMatcher<?> operator = (AbstractOperatorMatcher<?>) matcher;
+            return operator.hasConstantExpectation() && collect(operator.getExtractor(), extractors);
+        }
+
+        if (matcher instanceof ExistMatcher) {
+            return collect(((ExistMatcher<?>) matcher).getExtractor(), extractors);
+        }
+
+        return false;
+    }
+
+    private static boolean collect(final RequestExtractor<?> extractor,
+                                   final Map<String, RequestExtractor<?>> extractors) {
+        String key = keyOf(extractor);
+        if (key == null) {
+            return false;
+        }
+
+        extractors.putIfAbsent(key, extractor);
+        return true;
+    }
+
+    private static String keyOf(final RequestExtractor<?> extractor) {
+        if (extractor instanceof UriRequestExtractor) {
+            return "uri";
+        }
+
+        if (extractor instanceof HttpMethodExtractor) {
+            return "method";
+        }
+
+        if (extractor instanceof VersionExtractor) {
+            return "version";
+        }
+
+        if (extractor instanceof HeaderRequestExtractor) {
+            return "header:" + ((HeaderRequestExtractor) extractor).getName().toLowerCase(Locale.ROOT);
+        }
+
+        if (extractor instanceof ParamRequestExtractor) {
+            return "query:" + ((ParamRequestExtractor) extractor).getParam();
+        }
+
+        return null;
+    }
+
+    private DeterministicMatchers() {
+    }
+}
@@ -3,6 +3,7 @@ package com.github.dreamhead.moco.matcher;
 import com.github.dreamhead.moco.Request;
 import com.github.dreamhead.moco.RequestExtractor;
 import com.github.dreamhead.moco.RequestMatcher;
+import com.github.dreamhead.moco.model.MessageContent;
 import com.github.dreamhead.moco.resource.Resource;
 
 public final class EqRequestMatcher<T> extends AbstractOperatorMatcher<T> {
@@ -10,6 +11,11 @@ public final class EqRequestMatcher<T> extends AbstractOperatorMatcher<T> {
         super(extractor, expected, input -> input.equals(expected.readFor((Request) null).toString()));
     }
 
+    @Override
+    protected boolean matchMessageContent(final MessageContent content) {
+        return content.contentEquals(expectedText());
+    }
+
     @Override
     protected RequestMatcher newMatcher(final RequestExtractor<T> extractor, final Resource resource) {
         return new EqRequestMatcher<>(extractor, resource);
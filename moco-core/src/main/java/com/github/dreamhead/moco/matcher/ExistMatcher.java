@@ -14,6 +14,10 @@ public final class ExistMatcher<T> extends AbstractRequestMatcher {
         this.extractor = extractor;
     }
 
+    RequestExtractor<T> getExtractor() {
+        return extractor;
+    }
+
     @Override
     public boolean match(final Request request) {
         Optional<T> extractContent = extractor.extract(request);
@@ -11,6 +11,10 @@ public final class NotRequestMatcher extends AbstractRequestMatcher {
         this.matcher = matcher;
     }
 
+    RequestMatcher getMatcher() {
+        return matcher;
+    }
+
     @Override
     public boolean match(final Request request) {
         return !matcher.match(request);
@@ -3,8 +3,6 @@ package com.github.dreamhead.moco.matcher;
 import com.github.dreamhead.moco.Request;
 import com.github.dreamhead.moco.RequestMatcher;
 
-import java.util.stream.StreamSupport;
-
 public final class OrRequestMatcher extends CompositeRequestMatcher {
     public OrRequestMatcher(final Iterable<RequestMatcher> matchers) {
         super(matchers);
@@ -12,8 +10,13 @@ public final class OrRequestMatcher extends CompositeRequestMatcher {
 
     @Override
     protected boolean doMatch(final Request request, final Iterable<RequestMatcher> matchers) {
-        return StreamSupport.stream(matchers.spliterator(), false)
-                .anyMatch(requestMatcher -> requestMatcher.match(request));
+        for (RequestMatcher matcher : matchers) {
+            if (matcher.match(request)) {
+                return true;
+            }
+        }
+
+        return false;
     }
 
     @Override
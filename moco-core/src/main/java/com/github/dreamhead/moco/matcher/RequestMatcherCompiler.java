@@ -0,0 +1,204 @@
+package com.github.dreamhead.moco.matcher;
+
+import com.github.dreamhead.moco.HttpRequest;
+import com.github.dreamhead.moco.Request;
+import com.github.dreamhead.moco.RequestExtractor;
+import com.github.dreamhead.moco.RequestMatcher;
+import com.github.dreamhead.moco.extractor.HeaderRequestExtractor;
+import com.github.dreamhead.moco.extractor.HttpMethodExtractor;
+import com.github.dreamhead.moco.extractor.ParamRequestExtractor;
+import com.github.dreamhead.moco.extractor.UriRequestExtractor;
+import com.github.dreamhead.moco.model.DefaultHttpRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+public final class RequestMatcherCompiler {
+    public static RequestMatcher compile(final RequestMatcher matcher) {
+        if (matcher instanceof CompiledRequestMatcher || !isCompilable(matcher)) {
+            return matcher;
+        }
+
+        return new CompiledRequestMatcher(matcher, predicate(matcher));
+    }
+
+    private static boolean isCompilable(final RequestMatcher matcher) {
+        return matcher instanceof CompositeRequestMatcher
+                || matcher instanceof NotRequestMatcher
+                || specialize(matcher) != null;
+    }
+
+    private static Predicate<Request> predicate(final RequestMatcher matcher) {
+        if (matcher instanceof CompiledRequestMatcher) {
+            return ((CompiledRequestMatcher) matcher).getPredicate();
+        }
+
+        if (matcher instanceof AndRequestMatcher) {
+            List<Predicate<Request>> specialized = new ArrayList<>();
+            List<Predicate<Request>> others = new ArrayList<>();
+            collectConjuncts(matcher, specialized, others);
+            specialized.addAll(others);
+            return allOf(specialized);
+        }
+
+        if (matcher instanceof OrRequestMatcher) {
+            List<Predicate<Request>> predicates = new ArrayList<>();
+            collectDisjuncts(matcher, predicates);
+            return anyOf(predicates);
+        }
+
+        if (matcher instanceof NotRequestMatcher) {
+            Predicate<Request> predicate = predicate(((NotRequestMatcher) matcher).getMatcher());
+            return request -> !predicate.test(request);
+        }
+
+        Predicate<Request> specialized = specialize(matcher);
+        if (specialized != null) {
+            return specialized;
+        }
+
+        return matcher::match;
+    }
+
+    private static void collectConjuncts(final RequestMatcher matcher,
+                                         final List<Predicate<Request>> specialized,
+                                         final List<Predicate<Request>> others) {
+        if (matcher instanceof AndRequestMatcher) {
+            for (RequestMatcher child : ((AndRequestMatcher) matcher).getMatchers()) {
+                collectConjuncts(child, specialized, others);
+            }
+            return;
+        }
+
+        Predicate<Request> predicate = specialize(matcher);
+        if (predicate != null) {
+            specialized.add(predicate);
+            return;
+        }
+
+        others.add(predicate(matcher));
+    }
+
+    private static void collectDisjuncts(final RequestMatcher matcher, final List<Predicate<Request>> predicates) {
+        if (matcher instanceof OrRequestMatcher) {
+            for (RequestMatcher child : ((OrRequestMatcher) matcher).getMatchers()) {
+                collectDisjuncts(child, predicates);
+            }
+            return;
+        }
+
+        predicates.add(predicate(matcher));
+    }
+
+    private static Predicate<Request> allOf(final List<Predicate<Request>> predicates) {
+        switch (predicates.size()) {
+            case 0:
+                return request -> true;
+            case 1:
+                return predicates.get(0);
+            case 2:
+                Predicate<Request> first = predicates.get(0);
+                Predicate<Request> second = predicates.get(1);
+                return request -> first.test(request) && second.test(request);
+            default:
+                Predicate<Request>[] all = toArray(predicates);
+                return request -> {
+                    for (Predicate<Request> predicate : all) {
+                        if (!predicate.test(request)) {
+                            return false;
+                        }
+                    }
+
+                    return true;
+                };
+        }
+    }
+
+    private static Predicate<Request> anyOf(final List<Predicate<Request>> predicates) {
+        switch (predicates.size()) {
+            case 0:
+                return request -> false;
+            case 1:
+                return predicates.get(0);
+            case 2:
+                Predicate<Request> first = predicates.get(0);
+                Predicate<Request> second = predicates.get(1);
+                return request -> first.test(request) || second.test(request);
+            default:
+                Predicate<Request>[] any = toArray(predicates);
+                return request -> {
+                    for (Predicate<Request> predicate : any) {
+                        if (predicate.test(request)) {
+                            return true;
+                        }
+                    }
+
+                    return false;
+                };
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Predicate<Request>[] toArray(final List<Predicate<Request>> predicates) {
+        return predicates.toArray(new Predicate[0]);
+    }
+
+    private static Predicate<Request> specialize(final RequestMatcher matcher) {
+        if (!(matcher instanceof EqRequestMatcher)) {
+            return null;
+        }
+
+        EqRequestMatcher<?> eq = (EqRequestMatcher<?>) matcher;
+        if (!eq.hasConstantExpectation()) {
+            return null;
+        }
+
+        String text = eq.getExpected().readFor((Request) null).toString();
+        RequestExtractor<?> extractor = eq.getExtractor();
+        if (extractor instanceof UriRequestExtractor) {
+            return request -> request instanceof HttpRequest && text.equals(((HttpRequest) request).getUri());
+        }
+
+        if (extractor instanceof HttpMethodExtractor) {
+            return request -> request instanceof HttpRequest
+                    && text.equals(((HttpRequest) request).getMethod().name());
+        }
+
+        if (extractor instanceof HeaderRequestExtractor) {
+            String name = ((HeaderRequestExtractor) extractor).getName();
+            return request -> {
+                if (request instanceof DefaultHttpRequest) {
+                    return ((DefaultHttpRequest) request).getMessageHeaders().contains(name, text);
+                }
+
+                return matcher.match(request);
+            };
+        }
+
+        if (extractor instanceof ParamRequestExtractor) {
+            String param = ((ParamRequestExtractor) extractor).getParam();
+            return request -> request instanceof HttpRequest
+                    && contains(((HttpRequest) request).getQueries().get(param), text);
+        }
+
+        return null;
+    }
+
+    private static boolean contains(final String[] values, final String expected) {
+        if (values == null) {
+            return false;
+        }
+
+        for (String value : values) {
+            if (expected.equals(value)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private RequestMatcherCompiler() {
+    }
+}
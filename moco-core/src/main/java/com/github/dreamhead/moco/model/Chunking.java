@@ -0,0 +1,25 @@
+package com.github.dreamhead.moco.model;
+
+import java.util.concurrent.TimeUnit;
+
+public final class Chunking {
+    private final int size;
+    private final long interval;
+
+    private Chunking(final int size, final long interval) {
+        this.size = size;
+        this.interval = interval;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public long getInterval() {
+        return interval;
+    }
+
+    public static Chunking chunking(final int size, final long interval, final TimeUnit unit) {
+        return new Chunking(size, unit.toMillis(interval));
+    }
+}
@@ -1,30 +1,28 @@
 package com.github.dreamhead.moco.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.github.dreamhead.moco.HttpMessage;
 import com.github.dreamhead.moco.HttpProtocolVersion;
 import com.google.common.base.MoreObjects;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Iterables;
 import com.google.common.reflect.TypeToken;
+import io.netty.handler.codec.http.HttpHeaders;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 import static com.github.dreamhead.moco.model.MessageContent.content;
 import static com.github.dreamhead.moco.util.Maps.iterableValueToArray;
 import static com.github.dreamhead.moco.util.Maps.simpleValueToArray;
-import static com.google.common.collect.ImmutableMap.copyOf;
 
 public abstract class DefaultHttpMessage implements HttpMessage {
     private final HttpProtocolVersion version;
     private final MessageContent content;
-    private final ImmutableMap<String, String[]> headers;
+    private final MessageHeaders headers;
 
     protected DefaultHttpMessage(final HttpProtocolVersion version,
                                  final MessageContent content,
-                                 final ImmutableMap<String, String[]> headers) {
+                                 final MessageHeaders headers) {
         this.version = version;
         this.content = content;
         this.headers = headers;
@@ -37,17 +35,17 @@ public abstract class DefaultHttpMessage implements HttpMessage {
 
     @Override
     public final ImmutableMap<String, String[]> getHeaders() {
+        return this.headers.asMap();
+    }
+
+    @JsonIgnore
+    public final MessageHeaders getMessageHeaders() {
         return this.headers;
     }
 
     @Override
     public final String getHeader(final String name) {
-        if (!this.headers.containsKey(name)) {
-            return null;
-        }
-
-        String[] values = this.headers.get(name);
-        return values[0];
+        return this.headers.get(name);
     }
 
     @Override
@@ -68,35 +66,11 @@ public abstract class DefaultHttpMessage implements HttpMessage {
         return toStringHelper().toString();
     }
 
-    protected static Map<String, Iterable<String>> toHeaders(final io.netty.handler.codec.http.HttpMessage message) {
-        return toHeaders(message.headers());
-    }
-
-    private static Map<String, Iterable<String>> toHeaders(final Iterable<Map.Entry<String, String>> httpHeaders) {
-        Map<String, Iterable<String>> headers = new HashMap<>();
-        for (Map.Entry<String, String> entry : httpHeaders) {
-            String key = entry.getKey();
-            List<String> values = getValues(headers, key);
-            values.add(entry.getValue());
-            headers.put(key, values);
-        }
-
-        return headers;
-    }
-
-    private static List<String> getValues(final Map<String, Iterable<String>> headers, final String key) {
-        if (headers.containsKey(key)) {
-            return (List<String>) headers.get(key);
-        }
-
-        return new ArrayList<>();
-    }
-
     protected abstract static class Builder<T extends Builder> {
         private final Class<T> clazz;
         private HttpProtocolVersion version;
         private MessageContent content;
-        private Map<String, String[]> headers;
+        private MessageHeaders headers;
 
         @SuppressWarnings("unchecked")
         protected Builder() {
@@ -124,7 +98,16 @@ public abstract class DefaultHttpMessage implements HttpMessage {
 
         public final T withHeaders(final Map<String, ?> headers) {
             if (headers != null) {
-                this.headers = asHeaders(headers);
+                this.headers = MessageHeaders.of(asHeaders(headers));
+            }
+
+            return self();
+        }
+
+        @JsonIgnore
+        public final T withHttpHeaders(final HttpHeaders headers) {
+            if (headers != null) {
+                this.headers = MessageHeaders.wrap(headers);
             }
 
             return self();
@@ -160,12 +143,12 @@ public abstract class DefaultHttpMessage implements HttpMessage {
             return content;
         }
 
-        protected final ImmutableMap<String, String[]> getHeaders() {
+        protected final MessageHeaders getHeaders() {
             if (headers == null) {
-                return ImmutableMap.of();
+                return MessageHeaders.empty();
             }
 
-            return copyOf(headers);
+            return headers;
         }
     }
 }
@@ -7,54 +7,73 @@ import com.github.dreamhead.moco.HttpMethod;
 import com.github.dreamhead.moco.HttpProtocolVersion;
 import com.github.dreamhead.moco.HttpRequest;
 import com.github.dreamhead.moco.extractor.CookiesRequestExtractor;
-import com.github.dreamhead.moco.extractor.FormsRequestExtractor;
+import com.github.dreamhead.moco.extractor.FormBody;
+import com.github.dreamhead.moco.extractor.FormBodyRequestExtractor;
 import com.github.dreamhead.moco.internal.Client;
-import com.github.dreamhead.moco.util.Suppliers;
+import com.github.dreamhead.moco.internal.SpooledHttpRequest;
+import com.github.dreamhead.moco.internal.StreamedHttpRequest;
 import com.google.common.base.MoreObjects;
 import com.google.common.collect.ImmutableMap;
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.DefaultFullHttpRequest;
 import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpUtil;
 import io.netty.handler.codec.http.HttpVersion;
 import io.netty.handler.codec.http.QueryStringDecoder;
 import io.netty.handler.codec.http.QueryStringEncoder;
 
 import java.util.Map;
-import java.util.Optional;
-import java.util.function.Supplier;
 
 import static com.github.dreamhead.moco.model.MessageContent.content;
+import static com.github.dreamhead.moco.util.Compressions.decompress;
+import static com.github.dreamhead.moco.util.Compressions.isSupported;
 import static com.google.common.collect.ImmutableMap.copyOf;
 import static com.google.common.collect.ImmutableMap.toImmutableMap;
 
 @JsonDeserialize(builder = DefaultHttpRequest.Builder.class)
 public final class DefaultHttpRequest extends DefaultHttpMessage implements HttpRequest {
-    private final Supplier<ImmutableMap<String, String>> formSupplier;
-    private final Supplier<ImmutableMap<String, String>> cookieSupplier;
+    private volatile FormBody formBody;
+    private volatile ImmutableMap<String, String> cookies;
 
     private final HttpMethod method;
 
-    private final String uri;
-    private final ImmutableMap<String, String[]> queries;
+    @JsonIgnore
+    private final String rawUri;
+    private volatile String uri;
+    private volatile ImmutableMap<String, String[]> queries;
 
     @JsonIgnore
     private final Client client;
 
     private DefaultHttpRequest(final HttpProtocolVersion version, final MessageContent content,
                                final HttpMethod method, final String uri,
-                               final ImmutableMap<String, String[]> headers,
+                               final MessageHeaders headers,
+                               final ImmutableMap<String, String[]> queries,
+                               final Client client) {
+        this(version, content, method, null, uri, headers, queries, client);
+    }
+
+    private DefaultHttpRequest(final HttpProtocolVersion version, final MessageContent content,
+                               final HttpMethod method, final String rawUri,
+                               final MessageHeaders headers, final Client client) {
+        this(version, content, method, rawUri, null, headers, null, client);
+    }
+
+    private DefaultHttpRequest(final HttpProtocolVersion version, final MessageContent content,
+                               final HttpMethod method, final String rawUri, final String uri,
+                               final MessageHeaders headers,
                                final ImmutableMap<String, String[]> queries,
                                final Client client) {
         super(version, content, headers);
         this.method = method;
+        this.rawUri = rawUri;
         this.uri = uri;
         this.queries = queries;
         this.client = client;
-        this.formSupplier = formSupplier();
-        this.cookieSupplier = cookieSupplier();
     }
 
     @Override
@@ -64,39 +83,56 @@ public final class DefaultHttpRequest extends DefaultHttpMessage implements Http
 
     @Override
     public String getUri() {
-        return uri;
+        String current = uri;
+        if (current == null && rawUri != null) {
+            current = new QueryStringDecoder(rawUri).path();
+            uri = current;
+        }
+
+        return current;
     }
 
     @JsonIgnore
     public ImmutableMap<String, String> getForms() {
-        return formSupplier.get();
+        return getFormBody().getForms();
+    }
+
+    private FormBody getFormBody() {
+        FormBody current = formBody;
+        if (current == null) {
+            current = new FormBodyRequestExtractor().extract(this).orElse(FormBody.EMPTY);
+            formBody = current;
+        }
+
+        return current;
     }
 
     @JsonIgnore
     public ImmutableMap<String, String> getCookies() {
-        return cookieSupplier.get();
+        ImmutableMap<String, String> current = cookies;
+        if (current == null) {
+            current = new CookiesRequestExtractor().extract(this).orElseGet(ImmutableMap::of);
+            cookies = current;
+        }
+
+        return current;
+    }
+
+    @JsonIgnore
+    public ImmutableMap<String, UploadedFile> getUploads() {
+        return getFormBody().getUploads();
     }
 
     @Override
     @JsonSerialize(as = Map.class)
     public ImmutableMap<String, String[]> getQueries() {
-        return queries;
-    }
-
-    private Supplier<ImmutableMap<String, String>> formSupplier() {
-        return Suppliers.memoize(() -> {
-            Optional<ImmutableMap<String, String>> forms =
-                    new FormsRequestExtractor().extract(DefaultHttpRequest.this);
-            return forms.orElseGet(ImmutableMap::of);
-        });
-    }
+        ImmutableMap<String, String[]> current = queries;
+        if (current == null && rawUri != null) {
+            current = toQueries(new QueryStringDecoder(rawUri));
+            queries = current;
+        }
 
-    private Supplier<ImmutableMap<String, String>> cookieSupplier() {
-        return Suppliers.memoize(() -> {
-            Optional<ImmutableMap<String, String>> cookies =
-                    new CookiesRequestExtractor().extract(DefaultHttpRequest.this);
-            return cookies.orElseGet(ImmutableMap::of);
-        });
+        return current;
     }
 
     @Override
@@ -106,9 +142,9 @@ public final class DefaultHttpRequest extends DefaultHttpMessage implements Http
 
     protected MoreObjects.ToStringHelper toStringHelper() {
         return super.toStringHelper()
-                .add("uri", this.uri)
+                .add("uri", getUri())
                 .add("method", this.method)
-                .add("queries", this.queries)
+                .add("queries", getQueries())
                 .add("client", this.client);
     }
 
@@ -116,31 +152,64 @@ public final class DefaultHttpRequest extends DefaultHttpMessage implements Http
         return new Builder();
     }
 
-    private static MessageContent toMessageContent(final FullHttpRequest request) {
+    private static MessageContent toMessageContent(final FullHttpRequest request, final long decompressionLimit) {
+        if (request instanceof StreamedHttpRequest) {
+            return content().withContent(((StreamedHttpRequest) request)::discardedContent).build();
+        }
+
         long contentLength = HttpUtil.getContentLength(request, -1);
         if (contentLength <= 0) {
             return content().build();
         }
 
-        return content()
-                .withCharset(HttpUtil.getCharset(request))
-                .withContent(new ByteBufInputStream(request.content()))
-                .build();
+        MessageContent.Builder builder = content().withCharset(HttpUtil.getCharset(request));
+        if (request instanceof SpooledHttpRequest) {
+            return builder.withFile(((SpooledHttpRequest) request).getFile(), request.content()).build();
+        }
+
+        if (isDecompressible(request, decompressionLimit)) {
+            String encoding = request.headers().get(HttpHeaderNames.CONTENT_ENCODING);
+            byte[] compressed = ByteBufUtil.getBytes(request.content());
+            return builder.withContent(() -> decompress(compressed, encoding, decompressionLimit)).build();
+        }
+
+        return builder.withContent(request.content()).build();
+    }
+
+    private static boolean isDecompressible(final FullHttpRequest request, final long decompressionLimit) {
+        return decompressionLimit > 0 && request.content().isReadable()
+                && isSupported(request.headers().get(HttpHeaderNames.CONTENT_ENCODING));
+    }
+
+    private static HttpHeaders toHeaders(final FullHttpRequest request, final long decompressionLimit) {
+        if (isDecompressible(request, decompressionLimit)) {
+            return request.headers().copy().remove(HttpHeaderNames.CONTENT_ENCODING);
+        }
+
+        return request.headers();
     }
 
     public static HttpRequest newRequest(final FullHttpRequest request, final Client client) {
-        QueryStringDecoder decoder = new QueryStringDecoder(request.uri());
-        ImmutableMap<String, String[]> queries = toQueries(decoder);
+        return newRequest(request, client, 0);
+    }
+
+    public static HttpRequest newRequest(final FullHttpRequest request, final Client client,
+                                         final long decompressionLimit) {
+        return newRequest(request, toHeaders(request, decompressionLimit),
+                toMessageContent(request, decompressionLimit), client);
+    }
+
+    public static HttpRequest newRequest(final io.netty.handler.codec.http.HttpRequest request,
+                                         final MessageContent content, final Client client) {
+        return newRequest(request, request.headers(), content, client);
+    }
 
-        return builder()
-                .withVersion(HttpProtocolVersion.versionOf(request.protocolVersion().text()))
-                .withHeaders(toHeaders(request))
-                .withMethod(HttpMethod.valueOf(request.method().toString().toUpperCase()))
-                .withUri(decoder.path())
-                .withQueries(queries)
-                .withContent(toMessageContent(request))
-                .withClient(client)
-                .build();
+    private static HttpRequest newRequest(final io.netty.handler.codec.http.HttpRequest request,
+                                          final HttpHeaders headers,
+                                          final MessageContent content, final Client client) {
+        return new DefaultHttpRequest(HttpProtocolVersion.versionOf(request.protocolVersion().text()), content,
+                HttpMethod.valueOf(request.method().toString().toUpperCase()), request.uri(),
+                MessageHeaders.wrap(headers), client);
     }
 
     private static ImmutableMap<String, String[]> toQueries(final QueryStringDecoder decoder) {
@@ -155,8 +224,8 @@ public final class DefaultHttpRequest extends DefaultHttpMessage implements Http
             buffer.writeBytes(content.getContent());
         }
 
-        QueryStringEncoder encoder = new QueryStringEncoder(uri);
-        for (Map.Entry<String, String[]> entry : queries.entrySet()) {
+        QueryStringEncoder encoder = new QueryStringEncoder(getUri());
+        for (Map.Entry<String, String[]> entry : getQueries().entrySet()) {
             String[] values = entry.getValue();
             for (String value : values) {
                 encoder.addParam(entry.getKey(), value);
@@ -166,11 +235,10 @@ public final class DefaultHttpRequest extends DefaultHttpMessage implements Http
         FullHttpRequest request = new DefaultFullHttpRequest(HttpVersion.valueOf(getVersion().text()),
                 io.netty.handler.codec.http.HttpMethod.valueOf(method.name()), encoder.toString(), buffer);
 
-        for (Map.Entry<String, String[]> entry : getHeaders().entrySet()) {
-            String key = entry.getKey();
-            for (String value : entry.getValue()) {
-                request.headers().add(key, value);
-            }
+        getMessageHeaders().addTo(request.headers());
+
+        if (HttpUtil.isContentLengthSet(request)) {
+            HttpUtil.setContentLength(request, buffer.readableBytes());
         }
 
         return request;
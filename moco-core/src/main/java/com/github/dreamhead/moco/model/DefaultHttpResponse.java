@@ -19,6 +19,13 @@ public final class DefaultHttpResponse extends DefaultHttpMessage implements Htt
                                final int status,
                                final ImmutableMap<String, String[]> headers,
                                final MessageContent content) {
+        this(version, status, MessageHeaders.of(headers), content);
+    }
+
+    private DefaultHttpResponse(final HttpProtocolVersion version,
+                                final int status,
+                                final MessageHeaders headers,
+                                final MessageContent content) {
         super(version, content, headers);
         this.status = status;
     }
@@ -37,7 +44,7 @@ public final class DefaultHttpResponse extends DefaultHttpMessage implements Htt
         return builder()
                 .withVersion(toHttpProtocolVersion(response.protocolVersion()))
                 .withStatus(response.status().code())
-                .withHeaders(toHeaders(response))
+                .withHttpHeaders(response.headers())
                 .withContent(content()
                         .withContent(new ByteBufInputStream(response.content()))
                         .build())
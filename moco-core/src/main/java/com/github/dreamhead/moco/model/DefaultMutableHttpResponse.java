@@ -4,21 +4,24 @@ import com.github.dreamhead.moco.HttpProtocolVersion;
 import com.github.dreamhead.moco.HttpRequest;
 import com.github.dreamhead.moco.MutableHttpResponse;
 import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.Maps;
 import com.google.common.net.HttpHeaders;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.EmptyHttpHeaders;
 import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpVersion;
 
-import java.util.Arrays;
-import java.util.Map;
+import java.util.Optional;
 
 public final class DefaultMutableHttpResponse implements MutableHttpResponse {
     private HttpProtocolVersion version;
-    private Map<String, String[]> headers = Maps.newHashMap();
+    private final MessageHeaders headers = MessageHeaders.empty();
     private int status;
     private MessageContent content;
+    private Chunking chunking;
 
     private DefaultMutableHttpResponse() {
     }
@@ -42,48 +45,42 @@ public final class DefaultMutableHttpResponse implements MutableHttpResponse {
         this.content = content;
     }
 
+    @Override
+    public void setChunking(final Chunking chunking) {
+        this.chunking = chunking;
+    }
+
+    public Optional<Chunking> getChunking() {
+        return Optional.ofNullable(chunking);
+    }
+
     private static final String[] SINGLE_VALUE_HEADERS = new String[] {
             HttpHeaders.CONTENT_TYPE
     };
 
     @Override
     public void addHeader(final String name, final Object value) {
-        if (this.headers.containsKey(name) && isSingleValueHeader(name)) {
-            this.headers.remove(name);
+        if (isSingleValueHeader(name)) {
+            this.headers.set(name, value);
+            return;
         }
 
-        doAddHeader(name, value);
+        this.headers.add(name, value);
     }
 
     private boolean isSingleValueHeader(final String name) {
-        return Arrays.stream(SINGLE_VALUE_HEADERS)
-                .anyMatch(header -> header.equalsIgnoreCase(name));
-    }
-
-    private void doAddHeader(final String name, final Object value) {
-        this.headers.put(name, newValues(name, value));
-    }
-
-    private String[] newValues(final String name, final Object value) {
-        if (this.headers.containsKey(name)) {
-            String[] values = this.headers.get(name);
-            String[] newValues = new String[values.length + 1];
-            System.arraycopy(values, 0, newValues, 0, values.length);
-            newValues[values.length] = value.toString();
-            return newValues;
+        for (String header : SINGLE_VALUE_HEADERS) {
+            if (header.equalsIgnoreCase(name)) {
+                return true;
+            }
         }
 
-        return new String[]{value.toString()};
+        return false;
     }
 
     @Override
     public String getHeader(final String name) {
-        if (!this.headers.containsKey(name)) {
-            return null;
-        }
-
-        String[] values = this.headers.get(name);
-        return values[0];
+        return this.headers.get(name);
     }
 
     @Override
@@ -93,7 +90,11 @@ public final class DefaultMutableHttpResponse implements MutableHttpResponse {
 
     @Override
     public ImmutableMap<String, String[]> getHeaders() {
-        return ImmutableMap.copyOf(this.headers);
+        return this.headers.asMap();
+    }
+
+    public MessageHeaders getMessageHeaders() {
+        return this.headers;
     }
 
     @Override
@@ -114,20 +115,21 @@ public final class DefaultMutableHttpResponse implements MutableHttpResponse {
     }
 
     public FullHttpResponse toFullResponse() {
-        FullHttpResponse response = new DefaultFullHttpResponse(HttpVersion.valueOf(this.version.text()),
-                HttpResponseStatus.valueOf(this.status));
-
-        for (Map.Entry<String, String[]> entry : getHeaders().entrySet()) {
-            String key = entry.getKey();
-            for (String value : entry.getValue()) {
-                response.headers().add(key, value);
-            }
+        if (this.content == null) {
+            return toFullResponse(Unpooled.EMPTY_BUFFER);
         }
 
-        if (this.content != null) {
-            response.content().writeBytes(this.content.getContent());
-        }
+        return toFullResponse(Unpooled.wrappedBuffer(this.content.getContent()));
+    }
+
+    public FullHttpResponse toFullResponse(final ByteBuf content) {
+        return new DefaultFullHttpResponse(HttpVersion.valueOf(this.version.text()),
+                HttpResponseStatus.valueOf(this.status), content, this.headers.share(),
+                EmptyHttpHeaders.INSTANCE);
+    }
 
-        return response;
+    public HttpResponse toHttpResponse() {
+        return new io.netty.handler.codec.http.DefaultHttpResponse(HttpVersion.valueOf(this.version.text()),
+                HttpResponseStatus.valueOf(this.status), this.headers.share());
     }
 }
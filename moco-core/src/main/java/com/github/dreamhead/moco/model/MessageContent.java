@@ -6,26 +6,110 @@ import com.github.dreamhead.moco.MocoException;
 import com.github.dreamhead.moco.dumper.MessageContentDeserializer;
 import com.github.dreamhead.moco.dumper.MessageContentSerializer;
 import com.google.common.base.Objects;
+import com.google.common.io.ByteStreams;
+import com.google.common.io.Files;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.util.ReferenceCounted;
 
 import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 import static com.google.common.io.ByteStreams.toByteArray;
 
 @JsonSerialize(using = MessageContentSerializer.class)
 @JsonDeserialize(using = MessageContentDeserializer.class)
 public class MessageContent {
+    private static final byte[] EMPTY_CONTENT = new byte[0];
+
     private byte[] content;
+    private ByteBuf buffer;
+    private String text;
+    private File file;
+    private ReferenceCounted resource;
+    private Supplier<byte[]> supplier;
     private Charset charset;
+    private Object source;
+    private int holders;
+
+    public final synchronized byte[] getContent() {
+        if (content == null) {
+            content = buffer != null ? ByteBufUtil.getBytes(buffer) : bytesOf();
+        }
 
-    public final byte[] getContent() {
         return content;
     }
 
+    private byte[] bytesOf() {
+        if (supplier != null) {
+            return supplier.get();
+        }
+
+        return text.getBytes();
+    }
+
+    private static byte[] readFile(final File file) {
+        try {
+            return Files.toByteArray(file);
+        } catch (IOException e) {
+            throw new MocoException(e);
+        }
+    }
+
+    public final synchronized long getLength() {
+        if (content == null && buffer != null) {
+            return buffer.readableBytes();
+        }
+
+        if (content == null && file != null) {
+            return file.length();
+        }
+
+        return getContent().length;
+    }
+
+    public final synchronized byte[] getPrefix(final int limit) {
+        if (content != null) {
+            return content.length <= limit ? content : Arrays.copyOf(content, limit);
+        }
+
+        if (buffer != null) {
+            return ByteBufUtil.getBytes(buffer, buffer.readerIndex(), Math.min(limit, buffer.readableBytes()));
+        }
+
+        try (InputStream stream = toInputStream()) {
+            return toByteArray(ByteStreams.limit(stream, limit));
+        } catch (IOException e) {
+            throw new MocoException(e);
+        }
+    }
+
+    public final synchronized ByteBuf retainedBuffer() {
+        if (content == null && buffer != null) {
+            return buffer.retainedDuplicate();
+        }
+
+        return Unpooled.wrappedBuffer(getContent());
+    }
+
+    public final Optional<File> getFile() {
+        return Optional.ofNullable(file);
+    }
+
+    public final Optional<Object> getSource() {
+        return Optional.ofNullable(source);
+    }
+
     public final Charset getCharset() {
         if (hasCharset()) {
             return charset;
@@ -39,12 +123,109 @@ public class MessageContent {
     }
 
     public final boolean hasContent() {
-        return content.length > 0;
+        return getLength() > 0;
     }
 
     @Override
-    public final String toString() {
-        return new String(content, getCharset());
+    public final synchronized String toString() {
+        if (text == null) {
+            text = content == null && buffer != null
+                    ? buffer.toString(getCharset())
+                    : new String(getContent(), getCharset());
+        }
+
+        return text;
+    }
+
+    public final synchronized boolean contentEquals(final String expected) {
+        ByteBuf bytes = comparableBytes();
+        if (bytes == null) {
+            return toString().equals(expected);
+        }
+
+        return ByteBufUtil.equals(bytes, Unpooled.wrappedBuffer(expected.getBytes(getCharset())));
+    }
+
+    public final synchronized boolean startsWith(final String expected) {
+        ByteBuf bytes = comparableBytes();
+        if (bytes == null) {
+            return toString().startsWith(expected);
+        }
+
+        byte[] target = expected.getBytes(getCharset());
+        return target.length <= bytes.readableBytes()
+                && ByteBufUtil.equals(bytes, bytes.readerIndex(), Unpooled.wrappedBuffer(target), 0, target.length);
+    }
+
+    public final synchronized boolean endsWith(final String expected) {
+        ByteBuf bytes = comparableBytes();
+        if (bytes == null) {
+            return toString().endsWith(expected);
+        }
+
+        byte[] target = expected.getBytes(getCharset());
+        return target.length <= bytes.readableBytes()
+                && ByteBufUtil.equals(bytes, bytes.writerIndex() - target.length,
+                Unpooled.wrappedBuffer(target), 0, target.length);
+    }
+
+    public final synchronized boolean contains(final String expected) {
+        ByteBuf bytes = comparableBytes();
+        if (bytes == null) {
+            return toString().contains(expected);
+        }
+
+        return expected.isEmpty() || ByteBufUtil.indexOf(Unpooled.wrappedBuffer(expected.getBytes(getCharset())), bytes) >= 0;
+    }
+
+    private ByteBuf comparableBytes() {
+        if (text != null || !isByteComparable(getCharset())) {
+            return null;
+        }
+
+        if (content != null) {
+            return Unpooled.wrappedBuffer(content);
+        }
+
+        return buffer;
+    }
+
+    private static boolean isByteComparable(final Charset charset) {
+        return StandardCharsets.UTF_8.equals(charset) || StandardCharsets.US_ASCII.equals(charset)
+                || StandardCharsets.ISO_8859_1.equals(charset);
+    }
+
+    public final synchronized MessageContent detach() {
+        if (buffer != null) {
+            getContent();
+        }
+
+        if (resource != null) {
+            holders++;
+        }
+
+        return this;
+    }
+
+    public final synchronized void release() {
+        if (resource != null && holders > 0) {
+            holders--;
+        } else if (resource != null) {
+            resource.release();
+            resource = null;
+        }
+
+        if (buffer == null) {
+            return;
+        }
+
+        buffer.release();
+        buffer = null;
+        if (content == null) {
+            supplier = () -> {
+                throw new IllegalStateException("Content has been released");
+            };
+        }
     }
 
     @Override
@@ -58,12 +239,12 @@ public class MessageContent {
         }
 
         MessageContent that = (MessageContent) obj;
-        return Objects.equal(this.charset, that.charset) && Arrays.equals(content, that.content);
+        return Objects.equal(this.charset, that.charset) && Arrays.equals(getContent(), that.getContent());
     }
 
     @Override
     public final int hashCode() {
-        return Objects.hashCode(Arrays.hashCode(this.content), this.charset);
+        return Objects.hashCode(Arrays.hashCode(getContent()), this.charset);
     }
 
     public static Builder content() {
@@ -74,22 +255,38 @@ public class MessageContent {
         return content().withContent(content).build();
     }
 
-    public final InputStream toInputStream() {
-        return new ByteArrayInputStream(this.content);
+    public final synchronized InputStream toInputStream() {
+        if (content == null && file != null) {
+            try {
+                return new FileInputStream(file);
+            } catch (IOException e) {
+                throw new MocoException(e);
+            }
+        }
+
+        return new ByteArrayInputStream(getContent());
     }
 
     public static class Builder {
+        private String text;
         private byte[] content;
+        private ByteBuf buffer;
+        private File file;
+        private ReferenceCounted resource;
+        private Supplier<byte[]> supplier;
         private Charset charset;
+        private Object source;
 
         public final Builder withContent(final String content) {
-            this.content = content.getBytes();
+            this.text = content;
+            this.content = null;
             return this;
         }
 
         public final Builder withContent(final InputStream is) {
             try {
                 this.content = toByteArray(is);
+                this.text = null;
                 return this;
             } catch (IOException e) {
                 throw new MocoException(e);
@@ -98,11 +295,39 @@ public class MessageContent {
 
         public final Builder withContent(final ByteBuffer byteBuffer) {
             this.content = byteBuffer.array();
+            this.text = null;
             return this;
         }
 
         public final Builder withContent(final byte[] content) {
             this.content = content;
+            this.text = null;
+            return this;
+        }
+
+        public final Builder withContent(final ByteBuf buffer) {
+            this.buffer = buffer.retainedSlice();
+            return this;
+        }
+
+        public final Builder withContent(final Supplier<byte[]> supplier) {
+            this.supplier = supplier;
+            return this;
+        }
+
+        public final Builder withFile(final File file) {
+            this.file = file;
+            return this;
+        }
+
+        public final Builder withFile(final File file, final ReferenceCounted resource) {
+            this.file = file;
+            this.resource = resource.retain();
+            return this;
+        }
+
+        public final Builder withSource(final Object source) {
+            this.source = source;
             return this;
         }
 
@@ -114,13 +339,45 @@ public class MessageContent {
         public final MessageContent build() {
             MessageContent messageContent = new MessageContent();
             messageContent.charset = charset;
+            messageContent.source = source;
+            if (file != null) {
+                messageContent.file = file;
+                messageContent.resource = resource;
+                messageContent.supplier = () -> readFile(file);
+                return messageContent;
+            }
+
+            if (buffer != null) {
+                messageContent.buffer = buffer;
+                return messageContent;
+            }
+
+            if (supplier != null) {
+                messageContent.supplier = supplier;
+                return messageContent;
+            }
+
+            if (text != null) {
+                return textContent(messageContent);
+            }
+
             messageContent.content = targetContent(content);
             return messageContent;
         }
 
+        private MessageContent textContent(final MessageContent messageContent) {
+            if (charset == null) {
+                messageContent.text = text;
+                return messageContent;
+            }
+
+            messageContent.content = text.getBytes();
+            return messageContent;
+        }
+
         private byte[] targetContent(final byte[] content) {
             if (content == null) {
-                return new byte[0];
+                return EMPTY_CONTENT;
             }
 
             return this.content;
@@ -0,0 +1,153 @@
+package com.github.dreamhead.moco.model;
+
+import com.google.common.collect.ImmutableMap;
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.util.AsciiString;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.google.common.collect.ImmutableMap.toImmutableMap;
+
+public final class MessageHeaders implements Iterable<Map.Entry<String, String>> {
+    private static final String[] NO_VALUES = new String[0];
+
+    private HttpHeaders headers;
+    private volatile ImmutableMap<String, String[]> view;
+    private volatile boolean shared;
+
+    private MessageHeaders(final HttpHeaders headers, final ImmutableMap<String, String[]> view) {
+        this.headers = headers;
+        this.view = view;
+    }
+
+    public String get(final String name) {
+        if (name == null || headers == null) {
+            return null;
+        }
+
+        return headers.get(name);
+    }
+
+    public String[] getAll(final String name) {
+        if (name == null || headers == null) {
+            return NO_VALUES;
+        }
+
+        return headers.getAll(name).toArray(NO_VALUES);
+    }
+
+    public boolean contains(final String name) {
+        return name != null && headers != null && headers.contains(name);
+    }
+
+    public boolean contains(final String name, final String value) {
+        return name != null && headers != null && headers.contains(name, value, false);
+    }
+
+    public boolean isEmpty() {
+        return headers == null || headers.isEmpty();
+    }
+
+    public void addTo(final HttpHeaders target) {
+        if (headers != null) {
+            target.add(headers);
+        }
+    }
+
+    public ImmutableMap<String, String[]> asMap() {
+        if (shared) {
+            return toMap(headers);
+        }
+
+        ImmutableMap<String, String[]> current = view;
+        if (current == null) {
+            current = toMap(headers);
+            view = current;
+        }
+
+        return current;
+    }
+
+    @Override
+    public Iterator<Map.Entry<String, String>> iterator() {
+        if (headers == null) {
+            return Collections.emptyIterator();
+        }
+
+        return headers.iteratorAsString();
+    }
+
+    @Override
+    public String toString() {
+        return httpHeaders().toString();
+    }
+
+    void add(final String name, final Object value) {
+        httpHeaders().add(name, value.toString());
+        view = null;
+    }
+
+    void set(final String name, final Object value) {
+        httpHeaders().set(name, value.toString());
+        view = null;
+    }
+
+    // Hands the backing headers to an outgoing Netty message, which may still change them, so asMap() stops caching.
+    HttpHeaders share() {
+        HttpHeaders current = httpHeaders();
+        shared = true;
+        view = null;
+        return current;
+    }
+
+    private HttpHeaders httpHeaders() {
+        if (headers == null) {
+            headers = new DefaultHttpHeaders(false);
+        }
+
+        return headers;
+    }
+
+    private static ImmutableMap<String, String[]> toMap(final HttpHeaders headers) {
+        if (headers == null || headers.isEmpty()) {
+            return ImmutableMap.of();
+        }
+
+        Map<AsciiString, String> names = new LinkedHashMap<>();
+        Map<AsciiString, List<String>> values = new LinkedHashMap<>();
+        for (Map.Entry<String, String> entry : headers) {
+            AsciiString key = AsciiString.of(entry.getKey()).toLowerCase();
+            names.putIfAbsent(key, entry.getKey());
+            values.computeIfAbsent(key, name -> new ArrayList<>()).add(entry.getValue());
+        }
+
+        return values.entrySet().stream()
+                .collect(toImmutableMap(entry -> names.get(entry.getKey()),
+                        entry -> entry.getValue().toArray(NO_VALUES)));
+    }
+
+    public static MessageHeaders wrap(final HttpHeaders headers) {
+        return new MessageHeaders(headers, null);
+    }
+
+    public static MessageHeaders of(final Map<String, String[]> headers) {
+        DefaultHttpHeaders httpHeaders = new DefaultHttpHeaders(false);
+        for (Map.Entry<String, String[]> entry : headers.entrySet()) {
+            for (String value : entry.getValue()) {
+                httpHeaders.add(entry.getKey(), value);
+            }
+        }
+
+        return new MessageHeaders(httpHeaders, ImmutableMap.copyOf(headers));
+    }
+
+    public static MessageHeaders empty() {
+        return new MessageHeaders(null, null);
+    }
+}
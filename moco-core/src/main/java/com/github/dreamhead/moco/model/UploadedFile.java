@@ -0,0 +1,51 @@
+package com.github.dreamhead.moco.model;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Suppliers;
+
+import java.util.function.Supplier;
+
+public final class UploadedFile {
+    private final String filename;
+    private final String contentType;
+    private final long size;
+    private final Supplier<String> digest;
+
+    public UploadedFile(final String filename, final String contentType, final long size, final String digest) {
+        this(filename, contentType, size, () -> digest);
+    }
+
+    public UploadedFile(final String filename, final String contentType, final long size,
+                        final Supplier<String> digest) {
+        this.filename = filename;
+        this.contentType = contentType;
+        this.size = size;
+        this.digest = Suppliers.memoize(digest::get);
+    }
+
+    public String getFilename() {
+        return filename;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public String getDigest() {
+        return digest.get();
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("filename", filename)
+                .add("contentType", contentType)
+                .add("size", size)
+                .add("digest", digest.get())
+                .toString();
+    }
+}
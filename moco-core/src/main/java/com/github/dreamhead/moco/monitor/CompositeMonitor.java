@@ -32,6 +32,13 @@ public final class CompositeMonitor implements MocoMonitor {
         }
     }
 
+    @Override
+    public void onMessageLeave(final Request request, final Response response) {
+        for (MocoMonitor monitor : monitors) {
+            monitor.onMessageLeave(request, response);
+        }
+    }
+
     @Override
     public void onUnexpectedMessage(final Request request) {
         for (MocoMonitor monitor : monitors) {
@@ -6,6 +6,7 @@ import com.github.dreamhead.moco.Request;
 import com.github.dreamhead.moco.Response;
 import com.github.dreamhead.moco.SocketRequest;
 import com.github.dreamhead.moco.SocketResponse;
+import com.github.dreamhead.moco.dumper.DumpPolicy;
 import com.github.dreamhead.moco.dumper.Dumper;
 import com.github.dreamhead.moco.dumper.HttpRequestDumper;
 import com.github.dreamhead.moco.dumper.HttpResponseDumper;
@@ -18,24 +19,32 @@ import java.io.StringWriter;
 import java.util.Optional;
 
 public final class DefaultLogFormatter implements LogFormatter {
-    private static final ImmutableMap<Class<? extends Request>, Dumper<Request>> REQUEST_DUMPERS = ImmutableMap.of(
-            HttpRequest.class, new HttpRequestDumper(),
-            SocketRequest.class, new SocketRequestDumper()
-    );
+    private final ImmutableMap<Class<? extends Request>, Dumper<Request>> requestDumpers;
+    private final ImmutableMap<Class<? extends Response>, Dumper<Response>> responseDumpers;
 
-    private static final ImmutableMap<Class<? extends Response>, Dumper<Response>> RESPONSE_DUMPERS = ImmutableMap.of(
-            HttpResponse.class, new HttpResponseDumper(),
-            SocketResponse.class, new SocketResponseDumper()
-    );
+    public DefaultLogFormatter() {
+        this(DumpPolicy.full());
+    }
+
+    public DefaultLogFormatter(final DumpPolicy policy) {
+        this.requestDumpers = ImmutableMap.of(
+                HttpRequest.class, new HttpRequestDumper(policy),
+                SocketRequest.class, new SocketRequestDumper()
+        );
+        this.responseDumpers = ImmutableMap.of(
+                HttpResponse.class, new HttpResponseDumper(policy),
+                SocketResponse.class, new SocketResponseDumper()
+        );
+    }
 
     @Override
     public String format(final Request request) {
-        return String.format("Request received:\n\n%s\n", findDumper(request, REQUEST_DUMPERS).dump(request));
+        return String.format("Request received:\n\n%s\n", findDumper(request, requestDumpers).dump(request));
     }
 
     @Override
     public String format(final Response response) {
-        return String.format("Response return:\n\n%s\n", findDumper(response, RESPONSE_DUMPERS).dump(response));
+        return String.format("Response return:\n\n%s\n", findDumper(response, responseDumpers).dump(response));
     }
 
     @Override
@@ -6,6 +6,7 @@ import com.github.dreamhead.moco.RequestMatcher;
 import com.github.dreamhead.moco.UnexpectedRequestMatcher;
 import com.github.dreamhead.moco.VerificationData;
 import com.github.dreamhead.moco.VerificationMode;
+import com.github.dreamhead.moco.model.MessageContent;
 
 import java.util.List;
 
@@ -18,12 +19,21 @@ public final class DefaultRequestHit extends AbstractMonitor implements RequestH
 
     @Override
     public void onMessageArrived(final Request request) {
-        this.requests.add(request);
+        this.requests.add(detach(request));
     }
 
     @Override
     public void onUnexpectedMessage(final Request request) {
-        this.unexpectedRequests.add(request);
+        this.unexpectedRequests.add(detach(request));
+    }
+
+    private Request detach(final Request request) {
+        MessageContent content = request.getContent();
+        if (content != null) {
+            content.detach();
+        }
+
+        return request;
     }
 
     @Override
@@ -0,0 +1,64 @@
+package com.github.dreamhead.moco.monitor;
+
+import com.github.dreamhead.moco.MocoMonitor;
+import com.github.dreamhead.moco.Request;
+import com.github.dreamhead.moco.Response;
+import com.github.dreamhead.moco.dumper.DumpPolicy;
+
+public final class SampledMonitor implements MocoMonitor {
+    private final MocoMonitor monitor;
+    private final DumpPolicy policy;
+
+    public SampledMonitor(final MocoMonitor monitor, final DumpPolicy policy) {
+        this.monitor = monitor;
+        this.policy = policy;
+    }
+
+    @Override
+    public void onMessageArrived(final Request request) {
+        if (isSampled(request)) {
+            monitor.onMessageArrived(request);
+        }
+    }
+
+    @Override
+    public void onException(final Throwable t) {
+        monitor.onException(t);
+    }
+
+    @Override
+    public void onMessageLeave(final Response response) {
+        monitor.onMessageLeave(response);
+    }
+
+    @Override
+    public void onMessageLeave(final Request request, final Response response) {
+        if (isSampled(request)) {
+            monitor.onMessageLeave(request, response);
+        }
+    }
+
+    @Override
+    public void onUnexpectedMessage(final Request request) {
+        if (isSampled(request)) {
+            monitor.onUnexpectedMessage(request);
+        }
+    }
+
+    @Override
+    public boolean isQuiet() {
+        return monitor.isQuiet();
+    }
+
+    private boolean isSampled(final Request request) {
+        return policy.sample(System.identityHashCode(request));
+    }
+
+    public static MocoMonitor sampled(final MocoMonitor monitor, final DumpPolicy policy) {
+        if (policy.isSampled()) {
+            return new SampledMonitor(monitor, policy);
+        }
+
+        return monitor;
+    }
+}
@@ -18,7 +18,9 @@ public final class Slf4jMonitor extends AbstractMonitor {
 
     @Override
     public void onMessageArrived(final Request request) {
-        logger.info("Request received:\n\n{}\n", requestDumper.dump(request));
+        if (logger.isInfoEnabled()) {
+            logger.info("Request received:\n\n{}\n", requestDumper.dump(request));
+        }
     }
 
     @Override
@@ -28,7 +30,9 @@ public final class Slf4jMonitor extends AbstractMonitor {
 
     @Override
     public void onMessageLeave(final Response response) {
-        logger.info("Response return:\n\n{}\n", responseDumper.dump(response));
+        if (logger.isInfoEnabled()) {
+            logger.info("Response return:\n\n{}\n", responseDumper.dump(response));
+        }
     }
 
     @Override
@@ -7,8 +7,6 @@ import com.github.dreamhead.moco.Response;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
-import static com.github.dreamhead.moco.util.Locks.withLock;
-
 public final class ThreadSafeMonitor implements MocoMonitor {
     private final MocoMonitor monitor;
     private final Lock lock = new ReentrantLock();
@@ -19,22 +17,52 @@ public final class ThreadSafeMonitor implements MocoMonitor {
 
     @Override
     public void onMessageArrived(final Request request) {
-        withLock(lock, () -> monitor.onMessageArrived(request));
+        lock.lock();
+        try {
+            monitor.onMessageArrived(request);
+        } finally {
+            lock.unlock();
+        }
     }
 
     @Override
     public void onException(final Throwable t) {
-        withLock(lock, () -> monitor.onException(t));
+        lock.lock();
+        try {
+            monitor.onException(t);
+        } finally {
+            lock.unlock();
+        }
     }
 
     @Override
     public void onMessageLeave(final Response response) {
-        withLock(lock, () -> monitor.onMessageLeave(response));
+        lock.lock();
+        try {
+            monitor.onMessageLeave(response);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void onMessageLeave(final Request request, final Response response) {
+        lock.lock();
+        try {
+            monitor.onMessageLeave(request, response);
+        } finally {
+            lock.unlock();
+        }
     }
 
     @Override
     public void onUnexpectedMessage(final Request request) {
-        withLock(lock, () -> monitor.onUnexpectedMessage(request));
+        lock.lock();
+        try {
+            monitor.onUnexpectedMessage(request);
+        } finally {
+            lock.unlock();
+        }
     }
 
     @Override
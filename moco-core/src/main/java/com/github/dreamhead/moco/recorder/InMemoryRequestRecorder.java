@@ -1,18 +1,52 @@
 package com.github.dreamhead.moco.recorder;
 
 import com.github.dreamhead.moco.HttpRequest;
+import com.github.dreamhead.moco.model.DefaultHttpRequest;
 import com.github.dreamhead.moco.model.MessageContent;
 import com.google.common.net.HttpHeaders;
 import com.google.common.net.MediaType;
 
 public class InMemoryRequestRecorder implements RequestRecorder {
+    private static final int MAX_SPOOLED_CONTENT = 64 * 1024;
+
     private HttpRequest httpRequest;
 
     @Override
     public final void record(final HttpRequest httpRequest) {
+        MessageContent content = httpRequest.getContent();
+        if (content != null && content.getFile().isPresent()) {
+            this.httpRequest = withContent(httpRequest, spooledPrefix(content));
+            return;
+        }
+
+        if (content != null) {
+            content.detach();
+        }
+
         this.httpRequest = httpRequest;
     }
 
+    private static MessageContent spooledPrefix(final MessageContent content) {
+        MessageContent.Builder builder = MessageContent.content().withContent(content.getPrefix(MAX_SPOOLED_CONTENT));
+        if (content.hasCharset()) {
+            builder.withCharset(content.getCharset());
+        }
+
+        return builder.build();
+    }
+
+    private static HttpRequest withContent(final HttpRequest request, final MessageContent content) {
+        return DefaultHttpRequest.builder()
+                .withVersion(request.getVersion())
+                .withHeaders(request.getHeaders())
+                .withContent(content)
+                .withMethod(request.getMethod())
+                .withUri(request.getUri())
+                .withQueries(request.getQueries())
+                .withClient(request.getClient())
+                .build();
+    }
+
     @Override
     public final HttpRequest getRequest() {
         return httpRequest;
@@ -48,6 +48,34 @@ public final class ResourceFactory {
         });
     }
 
+    public static ContentResource textResource(final String text) {
+        return contentResource(id("text"), DO_NOTHING_APPLIER, new ContentResourceReader() {
+            @Override
+            public MediaType getContentType(final HttpRequest request) {
+                return FileContentType.DEFAULT_CONTENT_TYPE_WITH_CHARSET;
+            }
+
+            @Override
+            public MessageContent readFor(final Request request) {
+                return content().withContent(text).withSource(this).build();
+            }
+        });
+    }
+
+    public static ContentResource binaryResource(final byte[] binary) {
+        return contentResource(id("binary"), DO_NOTHING_APPLIER, new ContentResourceReader() {
+            @Override
+            public MediaType getContentType(final HttpRequest request) {
+                return APPLICATION_BINARY;
+            }
+
+            @Override
+            public MessageContent readFor(final Request request) {
+                return content().withContent(binary).withSource(this).build();
+            }
+        });
+    }
+
     public static ContentResource binaryResource(final Function<Request, Object> function) {
         return contentResource(id("binary"), DO_NOTHING_APPLIER, new ContentResourceReader() {
             @Override
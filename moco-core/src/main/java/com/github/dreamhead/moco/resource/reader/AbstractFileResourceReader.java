@@ -9,11 +9,9 @@ import com.google.common.net.MediaType;
 
 import java.nio.charset.Charset;
 
-import static com.github.dreamhead.moco.model.MessageContent.content;
-
 public abstract class AbstractFileResourceReader implements ContentResourceReader {
 
-    protected abstract byte[] doReadFor(Request request);
+    protected abstract MessageContent.Builder doReadFor(Request request);
 
     private final Resource filename;
     private final Charset charset;
@@ -28,8 +26,7 @@ public abstract class AbstractFileResourceReader implements ContentResourceReade
         return asMessageContent(doReadFor(request));
     }
 
-    private MessageContent asMessageContent(final byte[] content) {
-        MessageContent.Builder builder = content().withContent(content);
+    private MessageContent asMessageContent(final MessageContent.Builder builder) {
         if (charset != null) {
             builder.withCharset(charset);
         }
@@ -2,6 +2,7 @@ package com.github.dreamhead.moco.resource.reader;
 
 import com.github.dreamhead.moco.MocoException;
 import com.github.dreamhead.moco.Request;
+import com.github.dreamhead.moco.model.MessageContent;
 import com.github.dreamhead.moco.resource.Resource;
 import com.google.common.io.Resources;
 
@@ -9,6 +10,7 @@ import java.io.IOException;
 import java.net.URL;
 import java.nio.charset.Charset;
 
+import static com.github.dreamhead.moco.model.MessageContent.content;
 import static com.google.common.io.ByteStreams.toByteArray;
 import static java.lang.String.format;
 
@@ -17,14 +19,14 @@ public final class ClasspathFileResourceReader extends AbstractFileResourceReade
         super(filename, charset);
     }
 
-    protected byte[] doReadFor(final Request request) {
+    protected MessageContent.Builder doReadFor(final Request request) {
         String actualFilename = this.filename(request);
         URL resource = Resources.getResource(actualFilename);
         if (resource == null) {
             throw new IllegalArgumentException(format("%s does not exist", actualFilename));
         }
         try {
-            return toByteArray(resource.openStream());
+            return content().withContent(toByteArray(resource.openStream()));
         } catch (IOException e) {
             throw new MocoException(e);
         }
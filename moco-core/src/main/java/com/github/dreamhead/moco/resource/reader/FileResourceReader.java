@@ -1,16 +1,16 @@
 package com.github.dreamhead.moco.resource.reader;
 
 import com.github.dreamhead.moco.MocoConfig;
-import com.github.dreamhead.moco.MocoException;
 import com.github.dreamhead.moco.Request;
+import com.github.dreamhead.moco.model.MessageContent;
 import com.github.dreamhead.moco.resource.Resource;
 
-import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
+import static com.github.dreamhead.moco.model.MessageContent.content;
 import static java.lang.String.format;
 
 public final class FileResourceReader extends AbstractFileResourceReader {
@@ -26,7 +26,7 @@ public final class FileResourceReader extends AbstractFileResourceReader {
     }
 
     @Override
-    protected byte[] doReadFor(final Request request) {
+    protected MessageContent.Builder doReadFor(final Request request) {
         String pathname = targetFileName(request);
         Path path = Paths.get(pathname);
 
@@ -34,11 +34,7 @@ public final class FileResourceReader extends AbstractFileResourceReader {
             throw new IllegalArgumentException(format("%s does not exist", path.getFileName().toString()));
         }
 
-        try {
-            return Files.readAllBytes(path);
-        } catch (IOException e) {
-            throw new MocoException(e);
-        }
+        return content().withFile(path.toFile());
     }
 
     @SuppressWarnings("unchecked")
@@ -0,0 +1,41 @@
+package com.github.dreamhead.moco.server;
+
+import com.github.dreamhead.moco.setting.Setting;
+
+public final class EventLoopActivity {
+    private static final ThreadLocal<EventLoopActivity> ACTIVITIES = ThreadLocal.withInitial(EventLoopActivity::new);
+    private static final int ANY_SETTING_INDEX = -1;
+
+    private volatile Setting<?> setting;
+    private volatile int index;
+
+    public static EventLoopActivity current() {
+        return ACTIVITIES.get();
+    }
+
+    public void enter(final int index, final Setting<?> setting) {
+        this.index = index;
+        this.setting = setting;
+    }
+
+    public void exit() {
+        this.setting = null;
+    }
+
+    public String describe() {
+        Setting<?> current = this.setting;
+        if (current == null) {
+            return "no setting";
+        }
+
+        String matcher = current.getMatcher().getClass().getSimpleName();
+        if (index == ANY_SETTING_INDEX) {
+            return "any setting matched by " + matcher;
+        }
+
+        return "setting #" + index + " matched by " + matcher;
+    }
+
+    private EventLoopActivity() {
+    }
+}
@@ -0,0 +1,118 @@
+package com.github.dreamhead.moco.server;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.internal.StringUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+public final class EventLoopWatchdog {
+    private static final long MIN_INTERVAL = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final Logger logger;
+    private final long threshold;
+    private final long interval;
+    private final ImmutableList<Heartbeat> heartbeats;
+    private final List<ScheduledFuture<?>> beats = new ArrayList<>();
+    private ScheduledExecutorService checker;
+
+    public EventLoopWatchdog(final EventLoopGroup group, final long threshold, final TimeUnit unit) {
+        this(group, threshold, unit, LoggerFactory.getLogger(EventLoopWatchdog.class));
+    }
+
+    EventLoopWatchdog(final EventLoopGroup group, final long threshold, final TimeUnit unit, final Logger logger) {
+        this.logger = logger;
+        this.threshold = unit.toNanos(threshold);
+        this.interval = Math.max(this.threshold / 2, MIN_INTERVAL);
+        ImmutableList.Builder<Heartbeat> builder = ImmutableList.builder();
+        for (EventExecutor executor : group) {
+            builder.add(new Heartbeat(executor));
+        }
+        this.heartbeats = builder.build();
+    }
+
+    public void start() {
+        for (Heartbeat heartbeat : heartbeats) {
+            beats.add(heartbeat.executor.scheduleAtFixedRate(heartbeat, 0, interval, TimeUnit.NANOSECONDS));
+        }
+
+        checker = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                .setNameFormat("moco-event-loop-watchdog-%d")
+                .setDaemon(true)
+                .build());
+        checker.scheduleAtFixedRate(this::check, interval, interval, TimeUnit.NANOSECONDS);
+    }
+
+    public void stop() {
+        for (ScheduledFuture<?> beat : beats) {
+            beat.cancel(false);
+        }
+
+        beats.clear();
+
+        if (checker != null) {
+            checker.shutdownNow();
+            checker = null;
+        }
+    }
+
+    private void check() {
+        long now = System.nanoTime();
+        for (Heartbeat heartbeat : heartbeats) {
+            heartbeat.check(now);
+        }
+    }
+
+    private final class Heartbeat implements Runnable {
+        private final EventExecutor executor;
+        private volatile Thread thread;
+        private volatile EventLoopActivity activity;
+        private volatile long lastBeat = System.nanoTime();
+        private long reportedBeat;
+
+        private Heartbeat(final EventExecutor executor) {
+            this.executor = executor;
+        }
+
+        @Override
+        public void run() {
+            if (thread == null) {
+                activity = EventLoopActivity.current();
+                thread = Thread.currentThread();
+            }
+
+            lastBeat = System.nanoTime();
+        }
+
+        private void check(final long now) {
+            long beat = this.lastBeat;
+            long stalled = now - beat - interval;
+            if (stalled < threshold || beat == reportedBeat || thread == null) {
+                return;
+            }
+
+            reportedBeat = beat;
+            logger.warn("Event loop thread [{}] has been stalled for {} ms while executing {}{}",
+                    thread.getName(), TimeUnit.NANOSECONDS.toMillis(stalled), activity.describe(),
+                    stackTrace(thread));
+        }
+
+        private String stackTrace(final Thread stalledThread) {
+            StringBuilder buf = new StringBuilder();
+            for (StackTraceElement element : stalledThread.getStackTrace()) {
+                buf.append(StringUtil.NEWLINE).append("\tat ").append(element);
+            }
+
+            return buf.toString();
+        }
+    }
+}
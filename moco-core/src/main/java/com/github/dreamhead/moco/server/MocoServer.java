@@ -1,41 +1,83 @@
 package com.github.dreamhead.moco.server;
 
 import com.github.dreamhead.moco.MocoException;
-import com.github.dreamhead.moco.util.MocoExecutors;
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.EventLoopGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.ServerChannel;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollServerDomainSocketChannel;
+import io.netty.channel.group.ChannelGroup;
+import io.netty.channel.group.DefaultChannelGroup;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
-import io.netty.util.concurrent.Future;
+import io.netty.channel.unix.DomainSocketAddress;
+import io.netty.util.concurrent.GlobalEventExecutor;
 
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
+import java.nio.file.Path;
 import java.util.concurrent.TimeUnit;
 
 public final class MocoServer {
+    private final ChannelGroup channels = new DefaultChannelGroup(GlobalEventExecutor.INSTANCE);
+    private SharedEventLoopGroup sharedGroup;
     private EventLoopGroup group;
-    private ChannelFuture future;
+    private EventLoopWatchdog watchdog;
 
-    public MocoServer() {
-        group = new NioEventLoopGroup(0, MocoExecutors.executor());
+    public int start(final int port, final ChannelInitializer<? extends Channel> pipelineFactory) {
+        Channel channel = bind(SharedEventLoopGroup.nio(), NioServerSocketChannel.class,
+                new InetSocketAddress(port), pipelineFactory);
+        SocketAddress socketAddress = channel.localAddress();
+        return ((InetSocketAddress) socketAddress).getPort();
     }
 
-    public int start(final int port, final ChannelInitializer<? extends Channel> pipelineFactory) {
+    public void start(final Path socketPath, final ChannelInitializer<? extends Channel> pipelineFactory) {
+        if (!Epoll.isAvailable()) {
+            throw new MocoException("Unix domain socket is not supported on this platform",
+                    Epoll.unavailabilityCause());
+        }
+
+        bind(SharedEventLoopGroup.epoll(), EpollServerDomainSocketChannel.class,
+                new DomainSocketAddress(socketPath.toFile()), pipelineFactory);
+    }
+
+    private Channel bind(final SharedEventLoopGroup shared, final Class<? extends ServerChannel> channelClass,
+                         final SocketAddress address, final ChannelInitializer<? extends Channel> pipelineFactory) {
+        sharedGroup = shared;
+        group = shared.acquire();
         ServerBootstrap bootstrap = new ServerBootstrap();
         bootstrap.group(group)
-                .channel(NioServerSocketChannel.class)
+                .channel(channelClass)
+                .handler(new ChannelTracker())
                 .childHandler(pipelineFactory);
 
+        ChannelFuture future = bootstrap.bind(address);
         try {
-            future = bootstrap.bind(port).sync();
-            SocketAddress socketAddress = future.channel().localAddress();
-            return ((InetSocketAddress) socketAddress).getPort();
+            future.await();
         } catch (InterruptedException e) {
+            releaseGroup();
             throw new MocoException(e);
         }
+
+        if (!future.isSuccess()) {
+            releaseGroup();
+            throw new MocoException(future.cause());
+        }
+
+        channels.add(future.channel());
+        return future.channel();
+    }
+
+    public void detectStall(final long threshold) {
+        if (watchdog == null) {
+            watchdog = new EventLoopWatchdog(group, threshold, TimeUnit.MILLISECONDS);
+            watchdog.start();
+        }
     }
 
     public void stop() {
@@ -43,19 +85,28 @@ public final class MocoServer {
     }
 
     private void doStop() {
-        if (future != null) {
-            future.channel().close().syncUninterruptibly();
-            future = null;
+        if (watchdog != null) {
+            watchdog.stop();
+            watchdog = null;
         }
 
+        channels.close().awaitUninterruptibly();
+        releaseGroup();
+    }
+
+    private void releaseGroup() {
         if (group != null) {
-            Future<?> groupFuture = group.shutdownGracefully(0, 0, TimeUnit.SECONDS);
-            try {
-                groupFuture.get();
-            } catch (Exception e) {
-                throw new IllegalStateException(e);
-            }
             group = null;
+            sharedGroup.release();
+        }
+    }
+
+    @ChannelHandler.Sharable
+    private final class ChannelTracker extends ChannelInboundHandlerAdapter {
+        @Override
+        public void channelRead(final ChannelHandlerContext ctx, final Object msg) {
+            channels.add((Channel) msg);
+            ctx.fireChannelRead(msg);
         }
     }
 }
@@ -1,9 +1,11 @@
 package com.github.dreamhead.moco.server;
 
+import com.github.dreamhead.moco.internal.ServerConfig;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelInitializer;
 
 public interface ServerConfiguration {
     ServerSetting serverSetting();
+    ServerConfig serverConfig();
     ChannelInitializer<? extends Channel> channelInitializer();
 }
@@ -1,6 +1,10 @@
 package com.github.dreamhead.moco.server;
 
 import com.github.dreamhead.moco.Runner;
+import com.github.dreamhead.moco.internal.ServerConfig;
+
+import java.nio.file.Path;
+import java.util.Optional;
 
 public final class ServerRunner extends Runner {
     private final ServerConfiguration configuration;
@@ -14,8 +18,18 @@ public final class ServerRunner extends Runner {
     @Override
     public void start() {
         ServerSetting setting = configuration.serverSetting();
-        int port = this.server.start(setting.getPort().orElse(0), configuration.channelInitializer());
-        setting.setPort(port);
+        Optional<Path> socketPath = setting.getSocketPath();
+        if (socketPath.isPresent()) {
+            this.server.start(socketPath.get(), configuration.channelInitializer());
+        } else {
+            int port = this.server.start(setting.getPort().orElse(0), configuration.channelInitializer());
+            setting.setPort(port);
+        }
+
+        ServerConfig serverConfig = configuration.serverConfig();
+        if (serverConfig.isStallDetectionEnabled()) {
+            this.server.detectStall(serverConfig.getStallThreshold());
+        }
     }
 
     @Override
@@ -1,9 +1,12 @@
 package com.github.dreamhead.moco.server;
 
+import java.nio.file.Path;
 import java.util.Optional;
 
 public interface ServerSetting {
     Optional<Integer> getPort();
 
+    Optional<Path> getSocketPath();
+
     void setPort(int port);
 }
@@ -0,0 +1,86 @@
+package com.github.dreamhead.moco.server;
+
+import com.github.dreamhead.moco.util.MocoExecutors;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.Future;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+public final class SharedEventLoopGroup {
+    private static final SharedEventLoopGroup NIO =
+            new SharedEventLoopGroup(() -> new NioEventLoopGroup(0, MocoExecutors.executor()));
+    private static final SharedEventLoopGroup EPOLL =
+            new SharedEventLoopGroup(() -> new EpollEventLoopGroup(0, MocoExecutors.executor()));
+
+    private final Supplier<EventLoopGroup> factory;
+    private EventLoopGroup group;
+    private int references;
+
+    private SharedEventLoopGroup(final Supplier<EventLoopGroup> factory) {
+        this.factory = factory;
+    }
+
+    public synchronized EventLoopGroup acquire() {
+        if (references == 0) {
+            group = factory.get();
+        }
+
+        references++;
+        return group;
+    }
+
+    public void release() {
+        EventLoopGroup target = detach();
+        if (target == null) {
+            return;
+        }
+
+        Future<?> future = target.shutdownGracefully(0, 0, TimeUnit.SECONDS);
+        if (isInEventLoop(target)) {
+            return;
+        }
+
+        try {
+            future.get();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private synchronized EventLoopGroup detach() {
+        if (references == 0) {
+            throw new IllegalStateException("Event loop group has been released");
+        }
+
+        references--;
+        if (references > 0) {
+            return null;
+        }
+
+        EventLoopGroup target = group;
+        group = null;
+        return target;
+    }
+
+    private static boolean isInEventLoop(final EventLoopGroup target) {
+        for (EventExecutor executor : target) {
+            if (executor.inEventLoop()) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    public static SharedEventLoopGroup nio() {
+        return NIO;
+    }
+
+    public static SharedEventLoopGroup epoll() {
+        return EPOLL;
+    }
+}
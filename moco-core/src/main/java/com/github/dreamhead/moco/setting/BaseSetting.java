@@ -2,11 +2,14 @@ package com.github.dreamhead.moco.setting;
 
 import com.github.dreamhead.moco.MocoConfig;
 import com.github.dreamhead.moco.MocoEvent;
+import com.github.dreamhead.moco.MocoEventTrigger;
 import com.github.dreamhead.moco.Request;
 import com.github.dreamhead.moco.RequestMatcher;
 import com.github.dreamhead.moco.ResponseSetting;
 import com.github.dreamhead.moco.internal.BaseResponseSettingConfiguration;
 import com.github.dreamhead.moco.internal.SessionContext;
+import com.github.dreamhead.moco.jfr.FlightRecorders;
+import com.github.dreamhead.moco.jfr.FlightSpan;
 
 import static com.github.dreamhead.moco.util.Configs.configItem;
 import static com.github.dreamhead.moco.util.Configs.configItems;
@@ -28,17 +31,29 @@ public abstract class BaseSetting<T extends ResponseSetting<T>>
         return this.matcher.match(request) && this.handler != null;
     }
 
+    @Override
+    public final RequestMatcher getMatcher() {
+        return this.matcher;
+    }
+
     @Override
     public final void writeToResponse(final SessionContext context) {
         this.matcher.attach(context);
-        this.handler.writeToResponse(context);
+        FlightSpan span = FlightRecorders.recorder().handlerExecuting(this.handler);
+        try {
+            this.handler.writeToResponse(context);
+        } finally {
+            span.end();
+        }
         this.fireCompleteEvent(context.getRequest());
     }
 
     private void fireCompleteEvent(final Request request) {
-        eventTriggers.stream()
-                .filter(trigger -> trigger.isFor(MocoEvent.COMPLETE))
-                .forEach(trigger -> trigger.fireEvent(request));
+        for (MocoEventTrigger trigger : eventTriggers) {
+            if (trigger.isFor(MocoEvent.COMPLETE)) {
+                trigger.fireEvent(request);
+            }
+        }
     }
 
     @Override
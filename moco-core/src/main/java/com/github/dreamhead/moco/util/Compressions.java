@@ -0,0 +1,58 @@
+package com.github.dreamhead.moco.util;
+
+import com.github.dreamhead.moco.MocoException;
+import com.google.common.io.ByteStreams;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+public final class Compressions {
+    private static final String GZIP = "gzip";
+    private static final String X_GZIP = "x-gzip";
+    private static final String DEFLATE = "deflate";
+
+    public static boolean isSupported(final String encoding) {
+        if (encoding == null) {
+            return false;
+        }
+
+        String target = encoding.trim();
+        return GZIP.equalsIgnoreCase(target) || X_GZIP.equalsIgnoreCase(target) || DEFLATE.equalsIgnoreCase(target);
+    }
+
+    public static byte[] decompress(final byte[] content, final String encoding, final long limit) {
+        try (InputStream stream = decompressingStream(new ByteArrayInputStream(content), encoding.trim())) {
+            byte[] result = ByteStreams.toByteArray(ByteStreams.limit(stream, readLimit(limit)));
+            if (result.length > limit) {
+                throw new MocoException("Decompressed content exceeds " + limit + " bytes");
+            }
+
+            return result;
+        } catch (IOException e) {
+            throw new MocoException(e);
+        }
+    }
+
+    private static long readLimit(final long limit) {
+        if (limit == Long.MAX_VALUE) {
+            return limit;
+        }
+
+        return limit + 1;
+    }
+
+    private static InputStream decompressingStream(final InputStream stream,
+                                                   final String encoding) throws IOException {
+        if (DEFLATE.equalsIgnoreCase(encoding)) {
+            return new InflaterInputStream(stream);
+        }
+
+        return new GZIPInputStream(stream);
+    }
+
+    private Compressions() {
+    }
+}
@@ -0,0 +1,56 @@
+package com.github.dreamhead.moco;
+
+import com.google.common.net.HttpHeaders;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.github.dreamhead.moco.Moco.by;
+import static com.github.dreamhead.moco.Moco.chunked;
+import static com.github.dreamhead.moco.Moco.file;
+import static com.github.dreamhead.moco.Moco.text;
+import static com.github.dreamhead.moco.Moco.uri;
+import static com.github.dreamhead.moco.Runner.running;
+import static com.github.dreamhead.moco.helper.RemoteTestUtils.remoteUrl;
+import static com.github.dreamhead.moco.helper.RemoteTestUtils.root;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class MocoChunkedTest extends AbstractMocoHttpTest {
+    @Test
+    public void should_return_chunked_content() throws Exception {
+        server.response(chunked(text("foobar"), 2));
+
+        running(server, () -> {
+            ClassicHttpResponse response = helper.getResponse(root());
+            assertThat(response.getFirstHeader(HttpHeaders.TRANSFER_ENCODING).getValue(), is("chunked"));
+            assertThat(response.getFirstHeader(HttpHeaders.CONTENT_LENGTH), nullValue());
+            assertThat(EntityUtils.toString(response.getEntity()), is("foobar"));
+        });
+    }
+
+    @Test
+    public void should_return_chunked_file_with_interval() throws Exception {
+        server.request(by(uri("/file"))).response(chunked(file("src/test/resources/foo.response"), 3, 10, TimeUnit.MILLISECONDS));
+
+        running(server, () -> assertThat(helper.get(remoteUrl("/file")), is("foo.response")));
+    }
+
+    @Test
+    public void should_return_chunked_content_for_keep_alive_requests() throws Exception {
+        server.response(chunked(text("foobar"), 4, 1, TimeUnit.MILLISECONDS));
+
+        running(server, () -> {
+            assertThat(helper.get(root()), is("foobar"));
+            assertThat(helper.get(root()), is("foobar"));
+        });
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void should_not_return_chunked_content_with_zero_size() {
+        chunked(text("foobar"), 0);
+    }
+}
@@ -0,0 +1,87 @@
+package com.github.dreamhead.moco;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollDomainSocketChannel;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.unix.DomainSocketAddress;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpClientCodec;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpVersion;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.dreamhead.moco.Moco.by;
+import static com.github.dreamhead.moco.Moco.httpServer;
+import static com.github.dreamhead.moco.Moco.uri;
+import static com.github.dreamhead.moco.Runner.running;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+public class MocoDomainSocketTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Before
+    public void setUp() {
+        assumeTrue(Epoll.isAvailable());
+    }
+
+    @Test
+    public void should_return_expected_response_from_domain_socket() throws Exception {
+        Path socketPath = folder.getRoot().toPath().resolve("moco.sock");
+        HttpServer server = httpServer(socketPath);
+        server.request(by(uri("/foo"))).response("bar");
+
+        running(server, () -> assertThat(get(socketPath, "/foo"), is("bar")));
+    }
+
+    private String get(final Path socketPath, final String uri) throws Exception {
+        EventLoopGroup group = new EpollEventLoopGroup(1);
+        CompletableFuture<String> result = new CompletableFuture<>();
+        try {
+            Channel channel = new Bootstrap().group(group)
+                    .channel(EpollDomainSocketChannel.class)
+                    .handler(new ChannelInitializer<Channel>() {
+                        @Override
+                        protected void initChannel(final Channel ch) {
+                            ch.pipeline().addLast(new HttpClientCodec(), new HttpObjectAggregator(1024 * 1024),
+                                    new SimpleChannelInboundHandler<FullHttpResponse>() {
+                                        @Override
+                                        protected void channelRead0(final ChannelHandlerContext ctx,
+                                                                    final FullHttpResponse msg) {
+                                            result.complete(msg.content().toString(StandardCharsets.UTF_8));
+                                        }
+                                    });
+                        }
+                    })
+                    .connect(new DomainSocketAddress(socketPath.toFile())).sync().channel();
+
+            DefaultFullHttpRequest request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET,
+                    uri, Unpooled.EMPTY_BUFFER);
+            request.headers().set(HttpHeaderNames.HOST, "localhost");
+            channel.writeAndFlush(request);
+            return result.get(5, TimeUnit.SECONDS);
+        } finally {
+            group.shutdownGracefully(0, 0, TimeUnit.SECONDS).sync();
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.github.dreamhead.moco;
+
+import com.google.common.primitives.Bytes;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.H2AsyncClientBuilder;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.ssl.ClientTlsStrategyBuilder;
+import org.apache.hc.client5.http.ssl.NoopHostnameVerifier;
+import org.apache.hc.client5.http.ssl.TrustAllStrategy;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpVersion;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.ssl.SSLContexts;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static com.github.dreamhead.moco.HttpsCertificate.certificate;
+import static com.github.dreamhead.moco.Moco.by;
+import static com.github.dreamhead.moco.Moco.file;
+import static com.github.dreamhead.moco.Moco.httpServer;
+import static com.github.dreamhead.moco.Moco.httpsServer;
+import static com.github.dreamhead.moco.Moco.pathResource;
+import static com.github.dreamhead.moco.Moco.uri;
+import static com.github.dreamhead.moco.Runner.running;
+import static com.github.dreamhead.moco.helper.RemoteTestUtils.httpsRoot;
+import static com.github.dreamhead.moco.helper.RemoteTestUtils.port;
+import static com.github.dreamhead.moco.helper.RemoteTestUtils.remoteUrl;
+import static com.github.dreamhead.moco.helper.RemoteTestUtils.root;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class MocoHttp2Test {
+    private static final HttpsCertificate DEFAULT_CERTIFICATE = certificate(pathResource("cert.jks"), "mocohttps", "mocohttps");
+    private static final byte[] CLIENT_PREFACE = Bytes.concat(
+            "PRI * HTTP/2.0\r\n\r\nSM\r\n\r\n".getBytes(StandardCharsets.US_ASCII),
+            new byte[]{0, 0, 0, 4, 0, 0, 0, 0, 0});
+
+    @Test
+    public void should_return_expected_response_with_prior_knowledge() throws Exception {
+        HttpServer server = httpServer(port());
+        server.request(by("foo")).response("bar");
+
+        running(server, () -> {
+            CloseableHttpAsyncClient client = start(HttpAsyncClients.customHttp2().build());
+            try {
+                SimpleHttpResponse response = client.execute(SimpleRequestBuilder.post(root())
+                        .setBody("foo", ContentType.TEXT_PLAIN)
+                        .build(), null).get();
+
+                assertThat(response.getVersion(), is(HttpVersion.HTTP_2));
+                assertThat(response.getBodyText(), is("bar"));
+            } finally {
+                client.close(CloseMode.IMMEDIATE);
+            }
+        });
+    }
+
+    @Test
+    public void should_return_file_content_with_prior_knowledge() throws Exception {
+        HttpServer server = httpServer(port());
+        server.response(file("src/test/resources/foo.response"));
+
+        running(server, () -> {
+            CloseableHttpAsyncClient client = start(HttpAsyncClients.customHttp2().build());
+            try {
+                SimpleHttpResponse response = client.execute(SimpleRequestBuilder.get(root()).build(), null).get();
+
+                assertThat(response.getBodyText(), is("foo.response"));
+            } finally {
+                client.close(CloseMode.IMMEDIATE);
+            }
+        });
+    }
+
+    @Test
+    public void should_return_expected_responses_for_multiplexed_streams() throws Exception {
+        HttpServer server = httpServer(port());
+        server.request(by(uri("/foo"))).response("foo");
+        server.request(by(uri("/bar"))).response("bar");
+
+        running(server, () -> {
+            CloseableHttpAsyncClient client = start(HttpAsyncClients.customHttp2().build());
+            try {
+                List<Future<SimpleHttpResponse>> responses = Stream.of("/foo", "/bar", "/foo", "/bar")
+                        .map(path -> client.execute(SimpleRequestBuilder.get(remoteUrl(path)).build(), null))
+                        .collect(toImmutableList());
+
+                assertThat(responses.get(0).get().getBodyText(), is("foo"));
+                assertThat(responses.get(1).get().getBodyText(), is("bar"));
+                assertThat(responses.get(2).get().getBodyText(), is("foo"));
+                assertThat(responses.get(3).get().getBodyText(), is("bar"));
+            } finally {
+                client.close(CloseMode.IMMEDIATE);
+            }
+        });
+    }
+
+    @Test
+    public void should_negotiate_http2_with_alpn() throws Exception {
+        HttpsServer server = httpsServer(port(), DEFAULT_CERTIFICATE);
+        server.response("foo");
+
+        running(server, () -> {
+            CloseableHttpAsyncClient client = start(H2AsyncClientBuilder.create()
+                    .setTlsStrategy(ClientTlsStrategyBuilder.create()
+                            .setSslContext(SSLContexts.custom().loadTrustMaterial(TrustAllStrategy.INSTANCE).build())
+                            .setHostnameVerifier(NoopHostnameVerifier.INSTANCE)
+                            .build())
+                    .build());
+            try {
+                SimpleHttpRequest request = SimpleRequestBuilder.get(httpsRoot()).build();
+                SimpleHttpResponse response = client.execute(request, null).get();
+
+                assertThat(response.getVersion(), is(HttpVersion.HTTP_2));
+                assertThat(response.getBodyText(), is("foo"));
+            } finally {
+                client.close(CloseMode.IMMEDIATE);
+            }
+        });
+    }
+
+    @Test
+    public void should_return_expected_response_after_h2c_upgrade() throws Exception {
+        HttpServer server = httpServer(port());
+        server.response("foo");
+
+        running(server, () -> {
+            try (Socket socket = new Socket("localhost", port())) {
+                socket.setSoTimeout(5000);
+                OutputStream output = socket.getOutputStream();
+                output.write(("GET / HTTP/1.1\r\nHost: localhost\r\n"
+                        + "Connection: Upgrade, HTTP2-Settings\r\nUpgrade: h2c\r\nHTTP2-Settings: \r\n\r\n")
+                        .getBytes(StandardCharsets.US_ASCII));
+                output.flush();
+
+                DataInputStream input = new DataInputStream(socket.getInputStream());
+                assertThat(readHead(input).startsWith("HTTP/1.1 101"), is(true));
+
+                output.write(CLIENT_PREFACE);
+                output.flush();
+                assertThat(readUpgradedBody(input), is("foo"));
+            }
+        });
+    }
+
+    private String readHead(final DataInputStream input) throws IOException {
+        StringBuilder head = new StringBuilder();
+        while (head.indexOf("\r\n\r\n") < 0) {
+            head.append((char) input.readUnsignedByte());
+        }
+
+        return head.toString();
+    }
+
+    private String readUpgradedBody(final DataInputStream input) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        while (true) {
+            int length = (input.readUnsignedShort() << 8) | input.readUnsignedByte();
+            int type = input.readUnsignedByte();
+            int flags = input.readUnsignedByte();
+            int stream = input.readInt() & Integer.MAX_VALUE;
+            byte[] payload = new byte[length];
+            input.readFully(payload);
+
+            if (type == 0 && stream == 1) {
+                body.write(payload);
+                if ((flags & 1) != 0) {
+                    return new String(body.toByteArray(), StandardCharsets.UTF_8);
+                }
+            }
+        }
+    }
+
+    private CloseableHttpAsyncClient start(final CloseableHttpAsyncClient client) {
+        client.start();
+        return client;
+    }
+}
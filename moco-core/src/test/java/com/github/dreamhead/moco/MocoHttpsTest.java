@@ -7,6 +7,7 @@ import org.junit.Test;
 import static com.github.dreamhead.moco.HttpsCertificate.certificate;
 import static com.github.dreamhead.moco.Moco.by;
 import static com.github.dreamhead.moco.Moco.context;
+import static com.github.dreamhead.moco.Moco.file;
 import static com.github.dreamhead.moco.Moco.httpsServer;
 import static com.github.dreamhead.moco.Moco.pathResource;
 import static com.github.dreamhead.moco.Moco.uri;
@@ -36,6 +37,14 @@ public class MocoHttpsTest {
         running(server, () -> assertThat(helper.get(httpsRoot()), is("foo")));
     }
 
+    @Test
+    public void should_return_file_content() throws Exception {
+        HttpsServer server = httpsServer(port(), DEFAULT_CERTIFICATE);
+        server.response(file("src/test/resources/foo.response"));
+
+        running(server, () -> assertThat(helper.get(httpsRoot()), is("foo.response")));
+    }
+
     @Test
     public void should_return_expected_result_for_specified_request() throws Exception {
         HttpsServer server = httpsServer(port(), DEFAULT_CERTIFICATE);
@@ -1,5 +1,6 @@
 package com.github.dreamhead.moco;
 
+import com.github.dreamhead.moco.dumper.DumpPolicy;
 import com.github.dreamhead.moco.helper.MocoTestHelper;
 import com.github.dreamhead.moco.internal.SessionContext;
 import org.junit.Before;
@@ -15,8 +16,11 @@ import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 
 import static com.github.dreamhead.moco.Moco.by;
+import static com.github.dreamhead.moco.Moco.header;
 import static com.github.dreamhead.moco.Moco.httpServer;
 import static com.github.dreamhead.moco.Moco.log;
+import static com.github.dreamhead.moco.Moco.text;
+import static com.github.dreamhead.moco.Moco.with;
 import static com.github.dreamhead.moco.Runner.running;
 import static com.github.dreamhead.moco.helper.RemoteTestUtils.port;
 import static com.github.dreamhead.moco.helper.RemoteTestUtils.remoteUrl;
@@ -67,6 +71,30 @@ public class MocoLogTest {
         assertThat(actual, containsString("0XCAFE"));
     }
 
+    @Test
+    public void should_not_log_request_and_response_out_of_sample() throws Exception {
+        File file = folder.newFile();
+        HttpServer server = httpServer(port(), log(file.getAbsolutePath(), DumpPolicy.builder().withSampleRate(0).build()));
+        server.request(by("0XCAFE")).response("0XBABE");
+
+        running(server, () -> assertThat(helper.postContent(root(), "0XCAFE"), is("0XBABE")));
+
+        String actual = asCharSource(file, Charset.defaultCharset()).read();
+        assertThat(actual, is(""));
+    }
+
+    @Test
+    public void should_log_truncated_content() throws Exception {
+        File file = folder.newFile();
+        HttpServer server = httpServer(port(), log(file.getAbsolutePath(), DumpPolicy.builder().withMaxContentLength(3).build()));
+        server.request(by("0XCAFE")).response(with(text("0XBABE")), header("Content-Type", "text/plain"));
+
+        running(server, () -> assertThat(helper.postContent(root(), "0XCAFE"), is("0XBABE")));
+
+        String actual = asCharSource(file, Charset.defaultCharset()).read();
+        assertThat(actual, containsString("0XB...<truncated, 3 of 6 bytes shown>"));
+    }
+
     @Test
     public void should_log_request_and_response_with_exception() throws Exception {
         File file = folder.newFile();
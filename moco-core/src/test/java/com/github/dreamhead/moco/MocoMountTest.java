@@ -1,12 +1,17 @@
 package com.github.dreamhead.moco;
 
 import com.google.common.io.CharStreams;
+import com.google.common.io.Files;
 import com.google.common.net.HttpHeaders;
 import org.apache.hc.client5.http.HttpResponseException;
 import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
+import java.io.File;
 import java.io.InputStreamReader;
+import java.util.Random;
 
 import static com.github.dreamhead.moco.Moco.header;
 import static com.github.dreamhead.moco.MocoMount.exclude;
@@ -19,6 +24,9 @@ import static org.hamcrest.MatcherAssert.assertThat;
 
 public class MocoMountTest extends AbstractMocoHttpTest {
 
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
     private static final String MOUNT_DIR = "src/test/resources/test";
 
     @Test
@@ -28,6 +36,17 @@ public class MocoMountTest extends AbstractMocoHttpTest {
         running(server, () -> assertThat(helper.get(remoteUrl("/dir/dir.response")), is("response from dir")));
     }
 
+    @Test
+    public void should_mount_large_file() throws Exception {
+        File dir = folder.newFolder();
+        byte[] content = new byte[4 * 1024 * 1024];
+        new Random().nextBytes(content);
+        Files.write(content, new File(dir, "large.bin"));
+        server.mount(dir.getAbsolutePath(), to("/dir"));
+
+        running(server, () -> assertThat(helper.getAsBytes(remoteUrl("/dir/large.bin")), is(content)));
+    }
+
     @Test(expected = HttpResponseException.class)
     public void should_return_bad_request_for_nonexistence_file() throws Exception {
         server.mount(MOUNT_DIR, to("/dir"));
@@ -0,0 +1,74 @@
+package com.github.dreamhead.moco;
+
+import com.github.dreamhead.moco.handler.AbstractResponseHandler;
+import com.github.dreamhead.moco.helper.MocoPipeliningHelper;
+import com.github.dreamhead.moco.internal.SessionContext;
+import com.google.common.collect.ImmutableList;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.dreamhead.moco.Moco.by;
+import static com.github.dreamhead.moco.Moco.chunked;
+import static com.github.dreamhead.moco.Moco.text;
+import static com.github.dreamhead.moco.Moco.uri;
+import static com.github.dreamhead.moco.Runner.running;
+import static com.github.dreamhead.moco.helper.RemoteTestUtils.port;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+
+public class MocoPipeliningTest extends AbstractMocoHttpTest {
+    private MocoPipeliningHelper pipelining;
+
+    @Before
+    public void setUpPipelining() {
+        pipelining = new MocoPipeliningHelper(port());
+    }
+
+    @Test
+    public void should_return_pipelined_responses_in_request_order() throws Exception {
+        server.request(by(uri("/slow"))).response(chunked(text("slow"), 1, 5, TimeUnit.MILLISECONDS));
+        server.request(by(uri("/foo"))).response("foo");
+        server.request(by(uri("/bar"))).response("bar");
+
+        running(server, () -> {
+            ImmutableList.Builder<String> uris = ImmutableList.builder();
+            ImmutableList.Builder<String> expected = ImmutableList.builder();
+            for (int i = 0; i < 20; i++) {
+                uris.add("/slow", "/foo", "/bar");
+                expected.add("slow", "foo", "bar");
+            }
+
+            assertThat(pipelining.pipeline(uris.build()).getBodies(), is(expected.build()));
+        });
+    }
+
+    @Test
+    public void should_serve_deep_pipeline() throws Exception {
+        server.response("foo");
+
+        running(server, () -> {
+            MocoPipeliningHelper.Result result = pipelining.pipeline(Collections.nCopies(2000, "/"));
+
+            assertThat(result.getBodies(), is(Collections.nCopies(2000, "foo")));
+            assertThat(result.getThroughput(), greaterThan(100.0));
+        });
+    }
+
+    @Test
+    public void should_answer_pipelined_request_after_failing_handler() throws Exception {
+        server.request(by(uri("/fail"))).response(new AbstractResponseHandler() {
+            @Override
+            public void writeToResponse(final SessionContext context) {
+                throw new AssertionError("fail");
+            }
+        });
+        server.request(by(uri("/foo"))).response("foo");
+
+        running(server, () -> assertThat(pipelining.pipeline(ImmutableList.of("/fail", "/foo")).getBodies(),
+                is(ImmutableList.of("", "foo"))));
+    }
+}
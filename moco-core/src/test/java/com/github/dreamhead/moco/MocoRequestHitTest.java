@@ -58,7 +58,7 @@ public class MocoRequestHitTest {
         running(server, () -> assertThat(helper.get(remoteUrl("/foo")), is("bar")));
 
         verify(monitor).onMessageArrived(any(HttpRequest.class));
-        verify(monitor).onMessageLeave(any(HttpResponse.class));
+        verify(monitor).onMessageLeave(any(HttpRequest.class), any(HttpResponse.class));
         verify(monitor, Mockito.never()).onException(any(Exception.class));
     }
 
@@ -71,7 +71,7 @@ public class MocoRequestHitTest {
         running(server, () -> assertThat(helper.get(remoteUrl(server.port(), "/foo")), is("bar")));
 
         verify(monitor).onMessageArrived(any(HttpRequest.class));
-        verify(monitor).onMessageLeave(any(HttpResponse.class));
+        verify(monitor).onMessageLeave(any(HttpRequest.class), any(HttpResponse.class));
         verify(monitor, Mockito.never()).onException(any(Exception.class));
     }
 
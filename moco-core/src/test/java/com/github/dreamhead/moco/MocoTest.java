@@ -62,6 +62,18 @@ public class MocoTest extends AbstractMocoHttpTest {
         running(server, () -> assertThat(helper.get(root()), is("foo")));
     }
 
+    @Test
+    public void should_return_response_for_setting_added_while_running() throws Exception {
+        server.request(by(uri("/foo"))).response("foo");
+
+        running(server, () -> {
+            assertThat(helper.get(remoteUrl("/foo")), is("foo"));
+
+            server.request(by(uri("/bar"))).response("bar");
+            assertThat(helper.get(remoteUrl("/bar")), is("bar"));
+        });
+    }
+
     @Test
     public void should_return_expected_response_with_text_api() throws Exception {
         server.response(text("foo"));
@@ -0,0 +1,110 @@
+package com.github.dreamhead.moco;
+
+import com.github.dreamhead.moco.handler.AbstractResponseHandler;
+import com.github.dreamhead.moco.internal.ActualHttpServer;
+import com.github.dreamhead.moco.internal.ContextKey;
+import com.github.dreamhead.moco.internal.ServerConfig;
+import com.github.dreamhead.moco.internal.SessionContext;
+import com.github.dreamhead.moco.resource.Resource;
+import com.github.dreamhead.moco.monitor.QuietMonitor;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.github.dreamhead.moco.Moco.and;
+import static com.github.dreamhead.moco.Moco.by;
+import static com.github.dreamhead.moco.Moco.header;
+import static com.github.dreamhead.moco.Moco.latency;
+import static com.github.dreamhead.moco.Moco.status;
+import static com.github.dreamhead.moco.Moco.text;
+import static com.github.dreamhead.moco.Moco.timeout;
+import static com.github.dreamhead.moco.Moco.uri;
+import static com.github.dreamhead.moco.Moco.with;
+import static com.github.dreamhead.moco.Runner.running;
+import static com.github.dreamhead.moco.helper.RemoteTestUtils.port;
+import static com.github.dreamhead.moco.helper.RemoteTestUtils.remoteUrl;
+import static com.github.dreamhead.moco.helper.RemoteTestUtils.root;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+
+public class MocoTimeoutTest extends AbstractMocoHttpTest {
+    @Test
+    public void should_return_response_within_timeout() throws Exception {
+        server.response(timeout(and(with("foo"), header("foo", "bar")), 1, TimeUnit.SECONDS));
+
+        running(server, () -> {
+            ClassicHttpResponse response = helper.getResponse(root());
+            assertThat(response.getCode(), is(200));
+            assertThat(response.getFirstHeader("foo").getValue(), is("bar"));
+            assertThat(helper.get(root()), is("foo"));
+        });
+    }
+
+    @Test
+    public void should_return_gateway_timeout_when_response_exceeds_timeout() throws Exception {
+        server.response(timeout(and(with(latency(5, TimeUnit.SECONDS)), with("foo")), 100, TimeUnit.MILLISECONDS));
+
+        running(server, () -> {
+            long start = System.currentTimeMillis();
+            assertThat(helper.getForStatus(root()), is(504));
+            assertThat(System.currentTimeMillis() - start, lessThan(TimeUnit.SECONDS.toMillis(5)));
+        });
+    }
+
+    @Test
+    public void should_return_specified_status_when_response_exceeds_timeout() throws Exception {
+        server.response(timeout(with(latency(5, TimeUnit.SECONDS)), 100, TimeUnit.MILLISECONDS, 503));
+
+        running(server, () -> assertThat(helper.getForStatus(root()), is(503)));
+    }
+
+    @Test
+    public void should_keep_status_set_before_timeout() throws Exception {
+        server.response(status(201), timeout(with("foo"), 1, TimeUnit.SECONDS));
+
+        running(server, () -> assertThat(helper.getForStatus(root()), is(201)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void should_not_create_timeout_with_non_positive_duration() {
+        timeout(with("foo"), 0, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void should_return_gateway_timeout_when_server_handler_exceeds_deadline() throws Exception {
+        ServerConfig serverConfig = ServerConfig.builder()
+                .withHandlerTimeout(100, TimeUnit.MILLISECONDS)
+                .build();
+        ActualHttpServer server = ActualHttpServer.createHttpServer(port(), null, new QuietMonitor(), serverConfig);
+        server.request(by(uri("/slow"))).response(latency(5, TimeUnit.SECONDS));
+        server.response("foo");
+
+        running(server, () -> {
+            assertThat(helper.getForStatus(remoteUrl("/slow")), is(504));
+            assertThat(helper.get(root()), is("foo"));
+            assertThat(server.getDeadline().getExpiredRequests(), is(1L));
+        });
+    }
+
+    @Test
+    public void should_keep_context_registered_within_timeout() throws Exception {
+        final Resource path = text("foo");
+        server.response(timeout(new AbstractResponseHandler() {
+            @Override
+            public void writeToResponse(final SessionContext context) {
+                context.register(ContextKey.PATH, path);
+            }
+        }, 1, TimeUnit.SECONDS), new AbstractResponseHandler() {
+            @Override
+            public void writeToResponse(final SessionContext context) {
+                boolean found = context.get(ContextKey.PATH, Resource.class) == path;
+                ((MutableHttpResponse) context.getResponse()).addHeader("path", found ? "found" : "missing");
+            }
+        });
+
+        running(server, () -> assertThat(helper.getResponse(root()).getFirstHeader("path").getValue(),
+                is("found")));
+    }
+}
@@ -1,8 +1,12 @@
 package com.github.dreamhead.moco;
 
+import com.google.common.base.Strings;
+import com.google.common.hash.Hashing;
 import com.google.common.net.HttpHeaders;
 import io.netty.handler.codec.http.cookie.ClientCookieDecoder;
 import io.netty.handler.codec.http.cookie.Cookie;
+import org.apache.hc.client5.http.entity.mime.MultipartEntityBuilder;
+import org.apache.hc.core5.http.ContentType;
 import org.apache.hc.core5.http.message.BasicNameValuePair;
 import org.junit.Test;
 
@@ -14,15 +18,20 @@ import static com.github.dreamhead.moco.CookieAttribute.httpOnly;
 import static com.github.dreamhead.moco.CookieAttribute.maxAge;
 import static com.github.dreamhead.moco.CookieAttribute.path;
 import static com.github.dreamhead.moco.CookieAttribute.secure;
+import static com.github.dreamhead.moco.Moco.and;
 import static com.github.dreamhead.moco.Moco.attachment;
 import static com.github.dreamhead.moco.Moco.by;
 import static com.github.dreamhead.moco.Moco.cookie;
 import static com.github.dreamhead.moco.Moco.eq;
+import static com.github.dreamhead.moco.Moco.exist;
 import static com.github.dreamhead.moco.Moco.file;
 import static com.github.dreamhead.moco.Moco.form;
 import static com.github.dreamhead.moco.Moco.httpServer;
 import static com.github.dreamhead.moco.Moco.log;
 import static com.github.dreamhead.moco.Moco.status;
+import static com.github.dreamhead.moco.Moco.uploadDigest;
+import static com.github.dreamhead.moco.Moco.uploadName;
+import static com.github.dreamhead.moco.Moco.uploadSize;
 import static com.github.dreamhead.moco.Moco.uri;
 import static com.github.dreamhead.moco.Runner.running;
 import static com.github.dreamhead.moco.helper.RemoteTestUtils.port;
@@ -63,6 +72,45 @@ public class MocoWebTest extends AbstractMocoHttpTest {
         running(server, () -> assertThat(helper.get(root()), is("foobar")));
     }
 
+    @Test
+    public void should_match_multipart_form_value() throws Exception {
+        server.post(eq(form("name"), "dreamhead")).response("foobar");
+
+        running(server, () -> {
+            org.apache.hc.client5.http.fluent.Request request = post(root()).body(MultipartEntityBuilder.create()
+                    .addTextBody("name", "dreamhead")
+                    .build());
+            assertThat(helper.executeAsString(request), is("foobar"));
+        });
+    }
+
+    @Test
+    public void should_match_uploaded_file() throws Exception {
+        byte[] content = Strings.repeat("foo", 10000).getBytes();
+        server.post(and(eq(uploadName("file"), "foo.txt"),
+                eq(uploadSize("file"), String.valueOf(content.length)),
+                eq(uploadDigest("file"), Hashing.sha256().hashBytes(content).toString()))).response("uploaded");
+
+        running(server, () -> {
+            org.apache.hc.client5.http.fluent.Request request = post(root()).body(MultipartEntityBuilder.create()
+                    .addTextBody("name", "dreamhead")
+                    .addBinaryBody("file", content, ContentType.TEXT_PLAIN, "foo.txt")
+                    .build());
+            assertThat(helper.executeAsString(request), is("uploaded"));
+        });
+    }
+
+    @Test
+    public void should_not_match_missing_uploaded_file() throws Exception {
+        server.post(exist(uploadName("file"))).response("uploaded");
+        server.response("foobar");
+
+        running(server, () -> {
+            org.apache.hc.client5.http.fluent.Request request = post(root()).bodyForm(new BasicNameValuePair("file", "foo.txt"));
+            assertThat(helper.executeAsString(request), is("foobar"));
+        });
+    }
+
     @Test
     public void should_set_and_recognize_cookie() throws Exception {
         server.request(eq(cookie("loggedIn"), "true")).response(status(200));
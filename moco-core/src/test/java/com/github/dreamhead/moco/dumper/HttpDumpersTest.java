@@ -2,11 +2,19 @@ package com.github.dreamhead.moco.dumper;
 
 import com.github.dreamhead.moco.HttpMessage;
 import com.github.dreamhead.moco.model.DefaultHttpResponse;
+import com.github.dreamhead.moco.model.MessageContent;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.hash.Hashing;
+import com.google.common.io.Files;
 import com.google.common.net.HttpHeaders;
+import io.netty.buffer.Unpooled;
 import io.netty.util.internal.StringUtil;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
+import java.io.File;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 
 import static com.github.dreamhead.moco.dumper.HttpDumpers.asContent;
@@ -14,10 +22,13 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 public class HttpDumpersTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
 
     private static final String MESSAGE_BODY = "test message body";
     private static final String EXPECTED_MESSAGE_BODY = StringUtil.NEWLINE + StringUtil.NEWLINE + MESSAGE_BODY;
-    private static final String BINARY_CONTENT_MESSAGE = StringUtil.NEWLINE + StringUtil.NEWLINE + "<content is binary>";
+    private static final String BINARY_CONTENT_MESSAGE = StringUtil.NEWLINE + StringUtil.NEWLINE
+            + "<content is binary, 17 bytes, crc32c " + Hashing.crc32c().hashString(MESSAGE_BODY, StandardCharsets.UTF_8) + ">";
 
     @Test
     public void should_parse_plain_text_media_type() {
@@ -82,6 +93,55 @@ public class HttpDumpersTest {
                 .build()), is(""));
     }
 
+    @Test
+    public void should_truncate_content_longer_than_max_content_length() {
+        DumpPolicy policy = DumpPolicy.builder().withMaxContentLength(4).build();
+        assertThat(asContent(messageWithHeaders(defaultHeadersFor("text/plain")), policy),
+                is(StringUtil.NEWLINE + StringUtil.NEWLINE + "test...<truncated, 4 of 17 bytes shown>"));
+    }
+
+    @Test
+    public void should_summarize_binary_buffer_content() {
+        HttpMessage message = DefaultHttpResponse.builder()
+                .withHeaders(ImmutableMap.of(HttpHeaders.CONTENT_TYPE, "image/jpeg"))
+                .withContent(MessageContent.content()
+                        .withContent(Unpooled.copiedBuffer(MESSAGE_BODY, StandardCharsets.UTF_8)).build())
+                .build();
+
+        assertThat(asContent(message), is(BINARY_CONTENT_MESSAGE));
+    }
+
+    @Test
+    public void should_truncate_content_on_character_boundary() {
+        DumpPolicy policy = DumpPolicy.builder().withMaxContentLength(4).build();
+        HttpMessage message = DefaultHttpResponse.builder()
+                .withHeaders(ImmutableMap.of(HttpHeaders.CONTENT_TYPE, "text/plain; charset=UTF-8"))
+                .withContent(MessageContent.content().withContent("a中文".getBytes(StandardCharsets.UTF_8))
+                        .withCharset(StandardCharsets.UTF_8).build())
+                .build();
+
+        assertThat(asContent(message, policy),
+                is(StringUtil.NEWLINE + StringUtil.NEWLINE + "a中...<truncated, 4 of 7 bytes shown>"));
+    }
+
+    @Test
+    public void should_not_truncate_content_within_max_content_length() {
+        DumpPolicy policy = DumpPolicy.builder().withMaxContentLength(17).build();
+        assertThat(asContent(messageWithHeaders(defaultHeadersFor("text/plain")), policy), is(EXPECTED_MESSAGE_BODY));
+    }
+
+    @Test
+    public void should_not_read_spooled_content() throws Exception {
+        File file = folder.newFile();
+        Files.write(MESSAGE_BODY.getBytes(StandardCharsets.UTF_8), file);
+        HttpMessage message = DefaultHttpResponse.builder()
+                .withHeaders(defaultHeadersFor("text/plain"))
+                .withContent(MessageContent.content().withFile(file).build())
+                .build();
+
+        assertThat(asContent(message), is(StringUtil.NEWLINE + StringUtil.NEWLINE + "<content is spooled, 17 bytes>"));
+    }
+
     private void assertMessageContent(final String mediaType, final String expectedContent) {
         assertThat(asContent(messageWithHeaders(defaultHeadersFor(mediaType))), is(expectedContent));
     }
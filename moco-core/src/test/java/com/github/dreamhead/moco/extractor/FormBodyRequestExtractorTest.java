@@ -0,0 +1,57 @@
+package com.github.dreamhead.moco.extractor;
+
+import com.github.dreamhead.moco.HttpRequest;
+import com.github.dreamhead.moco.model.UploadedFile;
+import com.google.common.hash.Hashing;
+import org.junit.Before;
+import org.junit.Test;
+
+import static com.github.dreamhead.moco.model.MessageContent.content;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class FormBodyRequestExtractorTest {
+    private static final String BODY = "--boundary\r\n"
+            + "Content-Disposition: form-data; name=\"name\"\r\n\r\n"
+            + "foo\r\n"
+            + "--boundary\r\n"
+            + "Content-Disposition: form-data; name=\"file\"; filename=\"foo.txt\"\r\n"
+            + "Content-Type: text/plain\r\n\r\n"
+            + "bar\r\n"
+            + "--boundary--\r\n";
+
+    private FormBodyRequestExtractor extractor;
+    private HttpRequest request;
+
+    @Before
+    public void setUp() {
+        extractor = new FormBodyRequestExtractor();
+        request = mock(HttpRequest.class);
+        when(request.getHeader("content-type")).thenReturn("multipart/form-data; boundary=boundary");
+        when(request.getContent()).thenReturn(content(BODY));
+    }
+
+    @Test
+    public void should_decode_forms_and_uploads_once() {
+        FormBody body = extractor.extract(request).get();
+
+        assertThat(body.getForms().get("name"), is("foo"));
+        UploadedFile file = body.getUploads().get("file");
+        assertThat(file.getFilename(), is("foo.txt"));
+        assertThat(file.getSize(), is(3L));
+        verify(request, times(1)).getContent();
+    }
+
+    @Test
+    public void should_compute_digest_only_when_asked() {
+        UploadedFile file = extractor.extract(request).get().getUploads().get("file");
+
+        assertThat(file.getDigest(), is(Hashing.sha256().hashBytes("bar".getBytes()).toString()));
+        assertThat(file.getDigest(), is(Hashing.sha256().hashBytes("bar".getBytes()).toString()));
+        verify(request, times(2)).getContent();
+    }
+}
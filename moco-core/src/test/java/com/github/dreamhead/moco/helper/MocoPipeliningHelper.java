@@ -0,0 +1,132 @@
+package com.github.dreamhead.moco.helper;
+
+import com.google.common.collect.ImmutableList;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+public final class MocoPipeliningHelper {
+    private static final int TIMEOUT = (int) TimeUnit.SECONDS.toMillis(10);
+
+    private final int port;
+
+    public MocoPipeliningHelper(final int port) {
+        this.port = port;
+    }
+
+    public Result pipeline(final Iterable<String> uris) throws IOException {
+        try (Socket socket = new Socket("localhost", port)) {
+            socket.setSoTimeout(TIMEOUT);
+            long start = System.nanoTime();
+            int count = send(socket.getOutputStream(), uris);
+
+            InputStream input = new BufferedInputStream(socket.getInputStream());
+            ImmutableList.Builder<String> bodies = ImmutableList.builder();
+            for (int i = 0; i < count; i++) {
+                bodies.add(readBody(input));
+            }
+
+            return new Result(bodies.build(), System.nanoTime() - start);
+        }
+    }
+
+    private int send(final OutputStream output, final Iterable<String> uris) throws IOException {
+        StringBuilder requests = new StringBuilder();
+        int count = 0;
+        for (String uri : uris) {
+            requests.append("GET ").append(uri).append(" HTTP/1.1\r\nHost: localhost\r\n\r\n");
+            count++;
+        }
+
+        output.write(requests.toString().getBytes(StandardCharsets.US_ASCII));
+        output.flush();
+        return count;
+    }
+
+    private String readBody(final InputStream input) throws IOException {
+        int length = 0;
+        boolean chunked = false;
+        String line = readLine(input);
+        while (!(line = readLine(input)).isEmpty()) {
+            String header = line.toLowerCase(Locale.ROOT);
+            if (header.startsWith("content-length:")) {
+                length = Integer.parseInt(header.substring("content-length:".length()).trim());
+            }
+
+            if (header.startsWith("transfer-encoding:") && header.contains("chunked")) {
+                chunked = true;
+            }
+        }
+
+        if (!chunked) {
+            return new String(readBytes(input, length), StandardCharsets.UTF_8);
+        }
+
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        int size;
+        while ((size = Integer.parseInt(readLine(input).trim(), 16)) > 0) {
+            body.write(readBytes(input, size));
+            readLine(input);
+        }
+
+        readLine(input);
+        return new String(body.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private byte[] readBytes(final InputStream input, final int length) throws IOException {
+        byte[] bytes = new byte[length];
+        int read = 0;
+        while (read < length) {
+            int current = input.read(bytes, read, length - read);
+            if (current < 0) {
+                throw new EOFException();
+            }
+
+            read += current;
+        }
+
+        return bytes;
+    }
+
+    private String readLine(final InputStream input) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int current;
+        while ((current = input.read()) != '\n') {
+            if (current < 0) {
+                throw new EOFException();
+            }
+
+            if (current != '\r') {
+                line.append((char) current);
+            }
+        }
+
+        return line.toString();
+    }
+
+    public static final class Result {
+        private final ImmutableList<String> bodies;
+        private final long elapsed;
+
+        private Result(final ImmutableList<String> bodies, final long elapsed) {
+            this.bodies = bodies;
+            this.elapsed = elapsed;
+        }
+
+        public ImmutableList<String> getBodies() {
+            return bodies;
+        }
+
+        public double getThroughput() {
+            return bodies.size() / (elapsed / (double) TimeUnit.SECONDS.toNanos(1));
+        }
+    }
+}
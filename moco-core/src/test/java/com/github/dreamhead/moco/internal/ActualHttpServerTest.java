@@ -1,12 +1,17 @@
 package com.github.dreamhead.moco.internal;
 
 import com.github.dreamhead.moco.AbstractMocoHttpTest;
+import com.github.dreamhead.moco.HttpResponseSetting;
 import com.github.dreamhead.moco.HttpServer;
 import com.github.dreamhead.moco.HttpsCertificate;
+import com.github.dreamhead.moco.setting.Setting;
+import com.google.common.collect.ImmutableList;
 import org.apache.hc.client5.http.HttpResponseException;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.concurrent.TimeUnit;
+
 import static com.github.dreamhead.moco.HttpsCertificate.certificate;
 import static com.github.dreamhead.moco.Moco.by;
 import static com.github.dreamhead.moco.Moco.context;
@@ -17,10 +22,13 @@ import static com.github.dreamhead.moco.Moco.httpsServer;
 import static com.github.dreamhead.moco.Moco.pathResource;
 import static com.github.dreamhead.moco.Moco.uri;
 import static com.github.dreamhead.moco.Runner.running;
+import static com.github.dreamhead.moco.helper.RemoteTestUtils.port;
 import static com.github.dreamhead.moco.helper.RemoteTestUtils.remoteHttpsUrl;
 import static com.github.dreamhead.moco.helper.RemoteTestUtils.remoteUrl;
 import static com.github.dreamhead.moco.helper.RemoteTestUtils.root;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 public class ActualHttpServerTest extends AbstractMocoHttpTest {
@@ -146,4 +154,66 @@ public class ActualHttpServerTest extends AbstractMocoHttpTest {
         final ActualHttpServer mergedServer = ((ActualHttpServer) anotherServer).mergeServer((ActualHttpServer) httpServer);
         assertThat(mergedServer.getPort().isPresent(), is(false));
     }
+
+    @Test
+    public void should_dispatch_with_compiled_matchers_and_dispatch_cache() throws Exception {
+        ServerConfig serverConfig = ServerConfig.builder()
+                .withMatcherCompilation(true)
+                .withDispatchCacheSize(16)
+                .build();
+        ActualHttpServer server = ActualHttpServer.createHttpServer(port(), true, serverConfig);
+        server.get(by(uri("/foo"))).response("foo");
+        server.response("any");
+
+        running(server, () -> {
+            assertThat(helper.get(remoteUrl("/foo")), is("foo"));
+            assertThat(helper.get(remoteUrl("/foo")), is("foo"));
+            assertThat(helper.get(remoteUrl("/bar")), is("any"));
+
+            server.request(by(uri("/bar"))).response("bar");
+            assertThat(helper.get(remoteUrl("/bar")), is("bar"));
+        });
+    }
+
+    @Test
+    public void should_keep_configured_settings_when_other_server_changes() {
+        ActualHttpServer server = (ActualHttpServer) httpServer(12306);
+        server.request(by(uri("/foo"))).response("foo");
+        ActualHttpServer otherServer = (ActualHttpServer) httpServer(12307);
+
+        ImmutableList<Setting<HttpResponseSetting>> settings = server.getSettings();
+        otherServer.request(by(uri("/bar"))).response("bar");
+        assertThat(server.getSettings(), sameInstance(settings));
+
+        server.request(by(uri("/bar"))).response("bar");
+        assertThat(server.getSettings().size(), is(2));
+    }
+
+    @Test
+    public void should_merge_server_config_while_merging() {
+        ActualHttpServer server = ActualHttpServer.createHttpServer(12306, false,
+                ServerConfig.builder().withStallThreshold(100, TimeUnit.MILLISECONDS).build());
+        ActualHttpServer other = ActualHttpServer.createHttpServer(12306, false,
+                ServerConfig.builder().withStallThreshold(200, TimeUnit.MILLISECONDS)
+                        .withMaxConnections(10).build());
+
+        ServerConfig config = server.mergeServer(other).getServerConfig();
+        assertThat(config.getStallThreshold(), is(100L));
+        assertThat(config.getMaxConnections(), is(10));
+    }
+
+    @Test
+    public void should_refresh_configured_settings_when_merged_setting_changes() {
+        ActualHttpServer server = (ActualHttpServer) httpServer(12306);
+        HttpResponseSetting setting = server.request(by(uri("/foo"))).response("foo");
+        ActualHttpServer otherServer = (ActualHttpServer) httpServer(12307);
+        ActualHttpServer mergedServer = server.mergeServer(otherServer);
+
+        ImmutableList<Setting<HttpResponseSetting>> settings = server.getSettings();
+        ImmutableList<Setting<HttpResponseSetting>> mergedSettings = mergedServer.getSettings();
+        setting.response("bar");
+
+        assertThat(server.getSettings(), not(sameInstance(settings)));
+        assertThat(mergedServer.getSettings(), not(sameInstance(mergedSettings)));
+    }
 }
@@ -0,0 +1,72 @@
+package com.github.dreamhead.moco.internal;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class AdmissionControllerTest {
+    @Test
+    public void should_admit_any_request_by_default() {
+        AdmissionController controller = new AdmissionController(ServerConfig.builder().build());
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(controller.tryAdmit(), is(true));
+        }
+
+        assertThat(controller.getAdmittedRequests(), is(0L));
+    }
+
+    @Test
+    public void should_shed_request_beyond_max_in_flight() {
+        AdmissionController controller = new AdmissionController(ServerConfig.builder()
+                .withMaxInFlightRequests(2).build());
+
+        assertThat(controller.tryAdmit(), is(true));
+        assertThat(controller.tryAdmit(), is(true));
+        assertThat(controller.tryAdmit(), is(false));
+
+        controller.complete(0);
+        assertThat(controller.tryAdmit(), is(true));
+        assertThat(controller.getAdmittedRequests(), is(3L));
+        assertThat(controller.getShedRequests(), is(1L));
+    }
+
+    @Test
+    public void should_adapt_limit_to_latency_target() {
+        AdmissionController controller = new AdmissionController(ServerConfig.builder()
+                .withMaxInFlightRequests(10)
+                .withLatencyTarget(10, TimeUnit.MILLISECONDS).build());
+
+        controller.tryAdmit();
+        controller.complete(TimeUnit.MILLISECONDS.toNanos(100));
+        assertThat(controller.getLimit(), is(9));
+
+        for (int i = 0; i < 9; i++) {
+            assertThat(controller.tryAdmit(), is(true));
+        }
+
+        assertThat(controller.tryAdmit(), is(false));
+        controller.complete(TimeUnit.MILLISECONDS.toNanos(1));
+        assertThat(controller.getLimit(), is(10));
+    }
+
+    @Test
+    public void should_back_off_once_for_burst_of_slow_responses() {
+        AdmissionController controller = new AdmissionController(ServerConfig.builder()
+                .withMaxInFlightRequests(10)
+                .withLatencyTarget(1, TimeUnit.HOURS).build());
+
+        for (int i = 0; i < 5; i++) {
+            controller.tryAdmit();
+        }
+
+        for (int i = 0; i < 5; i++) {
+            controller.complete(TimeUnit.HOURS.toNanos(2));
+        }
+
+        assertThat(controller.getLimit(), is(9));
+    }
+}
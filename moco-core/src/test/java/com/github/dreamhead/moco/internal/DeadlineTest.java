@@ -0,0 +1,71 @@
+package com.github.dreamhead.moco.internal;
+
+import io.netty.util.concurrent.DefaultEventExecutor;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.Future;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class DeadlineTest {
+    private final EventExecutor executor = new DefaultEventExecutor();
+
+    @After
+    public void tearDown() {
+        executor.shutdownGracefully(0, 0, TimeUnit.MILLISECONDS).syncUninterruptibly();
+    }
+
+    @Test
+    public void should_return_result_within_deadline() throws Exception {
+        Deadline deadline = new Deadline(1, TimeUnit.SECONDS, 504);
+        CountDownLatch finished = new CountDownLatch(1);
+
+        Future<Optional<String>> future = deadline.call(executor, () -> "foo", finished::countDown);
+
+        assertThat(future.get(), is(Optional.of("foo")));
+        assertThat(finished.await(1, TimeUnit.SECONDS), is(true));
+        assertThat(deadline.getExpiredRequests(), is(0L));
+    }
+
+    @Test
+    public void should_expire_without_waiting_for_worker() throws Exception {
+        Deadline deadline = new Deadline(50, TimeUnit.MILLISECONDS, 504);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(1);
+
+        Future<Optional<String>> future = deadline.call(executor, () -> {
+            awaitUninterruptibly(release);
+            return "foo";
+        }, finished::countDown);
+
+        assertThat(future.isDone(), is(false));
+        assertThat(future.get(), is(Optional.empty()));
+        assertThat(deadline.getExpiredRequests(), is(1L));
+        assertThat(finished.getCount(), is(1L));
+
+        release.countDown();
+        assertThat(finished.await(1, TimeUnit.SECONDS), is(true));
+    }
+
+    private static void awaitUninterruptibly(final CountDownLatch latch) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                latch.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
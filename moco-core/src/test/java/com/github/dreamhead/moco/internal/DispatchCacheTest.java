@@ -0,0 +1,79 @@
+package com.github.dreamhead.moco.internal;
+
+import com.github.dreamhead.moco.HttpMethod;
+import com.github.dreamhead.moco.HttpRequest;
+import com.github.dreamhead.moco.HttpResponseSetting;
+import com.github.dreamhead.moco.RequestMatcher;
+import com.github.dreamhead.moco.matcher.ConditionalRequestMatcher;
+import com.github.dreamhead.moco.setting.HttpSetting;
+import com.github.dreamhead.moco.setting.Setting;
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.github.dreamhead.moco.Moco.and;
+import static com.github.dreamhead.moco.Moco.by;
+import static com.github.dreamhead.moco.Moco.method;
+import static com.github.dreamhead.moco.Moco.text;
+import static com.github.dreamhead.moco.Moco.uri;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class DispatchCacheTest {
+    @Test
+    public void should_find_matched_setting_from_cache() {
+        DispatchCache<HttpResponseSetting> cache = DispatchCache.of(settings(
+                and(by(uri("/foo")), by(method("get"))), by(uri("/bar"))), 16);
+        HttpRequest request = request("/bar");
+
+        assertThat(cache.indexOf(request), is(1));
+        assertThat(cache.indexOf(request), is(1));
+        verify(request, times(4)).getUri();
+        assertThat(cache.indexOf(request("/foo")), is(0));
+        assertThat(cache.indexOf(request("/blah")), is(DispatchCache.NO_SETTING));
+    }
+
+    @Test
+    public void should_match_every_time_with_non_deterministic_matcher() {
+        AtomicInteger count = new AtomicInteger();
+        DispatchCache<HttpResponseSetting> cache = DispatchCache.of(settings(by(uri("/foo")),
+                new ConditionalRequestMatcher(request -> count.incrementAndGet() > 1)), 16);
+        HttpRequest request = request("/bar");
+
+        assertThat(cache.indexOf(request), is(DispatchCache.NO_SETTING));
+        assertThat(cache.indexOf(request), is(1));
+    }
+
+    @Test
+    public void should_match_every_time_without_cache_size() {
+        DispatchCache<HttpResponseSetting> cache = DispatchCache.of(settings(by(uri("/foo"))), 0);
+        HttpRequest request = request("/foo");
+
+        assertThat(cache.indexOf(request), is(0));
+        assertThat(cache.indexOf(request), is(0));
+        verify(request, times(2)).getUri();
+    }
+
+    private static ImmutableList<Setting<HttpResponseSetting>> settings(final RequestMatcher... matchers) {
+        ImmutableList.Builder<Setting<HttpResponseSetting>> builder = ImmutableList.builder();
+        for (RequestMatcher matcher : matchers) {
+            HttpSetting setting = new HttpSetting(matcher);
+            setting.response(text("foo"));
+            builder.add(setting);
+        }
+
+        return builder.build();
+    }
+
+    private static HttpRequest request(final String uri) {
+        HttpRequest request = mock(HttpRequest.class);
+        when(request.getUri()).thenReturn(uri);
+        when(request.getMethod()).thenReturn(HttpMethod.GET);
+        return request;
+    }
+}
@@ -1,11 +1,73 @@
 package com.github.dreamhead.moco.internal;
 
+import com.github.dreamhead.moco.MutableHttpResponse;
+import com.github.dreamhead.moco.RequestHit;
+import com.github.dreamhead.moco.ResponseHandler;
+import com.github.dreamhead.moco.handler.AbstractResponseHandler;
+import com.github.dreamhead.moco.helper.MocoTestHelper;
+import com.github.dreamhead.moco.model.MessageContent;
+import com.github.dreamhead.moco.monitor.QuietMonitor;
 import com.github.dreamhead.moco.server.ServerRunner;
+import com.google.common.base.Strings;
+import com.google.common.net.HttpHeaders;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import org.apache.hc.client5.http.entity.mime.MultipartEntityBuilder;
+import org.apache.hc.client5.http.fluent.Request;
+import org.apache.hc.client5.http.ssl.TrustAllStrategy;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.ssl.SSLContexts;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
+import javax.net.ssl.SSLSession;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSocketFactory;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.Socket;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static com.github.dreamhead.moco.HttpsCertificate.certificate;
+import static com.github.dreamhead.moco.Moco.and;
+import static com.github.dreamhead.moco.Moco.by;
+import static com.github.dreamhead.moco.Moco.eq;
+import static com.github.dreamhead.moco.Moco.form;
+import static com.github.dreamhead.moco.Moco.header;
+import static com.github.dreamhead.moco.Moco.latency;
+import static com.github.dreamhead.moco.Moco.pathResource;
+import static com.github.dreamhead.moco.Moco.uploadSize;
+import static com.github.dreamhead.moco.Moco.uri;
+import static com.github.dreamhead.moco.Moco.with;
+import static com.github.dreamhead.moco.MocoRequestHit.once;
+import static com.github.dreamhead.moco.MocoRequestHit.requestHit;
+import static com.github.dreamhead.moco.Runner.running;
 import static com.github.dreamhead.moco.helper.RemoteTestUtils.port;
+import static com.github.dreamhead.moco.helper.RemoteTestUtils.remoteUrl;
+import static com.github.dreamhead.moco.helper.RemoteTestUtils.root;
+import static com.google.common.io.ByteStreams.toByteArray;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
 
 public class MocoHttpServerTest {
+    @Rule
+    public TemporaryFolder spoolDirectory = new TemporaryFolder();
+
     @Test
     public void should_stop_stopped_server_without_exception() {
         MocoHttpServer server = new MocoHttpServer(ActualHttpServer.createLogServer(port()));
@@ -20,4 +82,537 @@ public class MocoHttpServerTest {
         serverRunner.stop();
         serverRunner.stop();
     }
+
+    @Test
+    public void should_keep_serving_after_another_server_stopped() throws Exception {
+        ActualHttpServer server = ActualHttpServer.createQuietServer(port());
+        server.response("foo");
+        ActualHttpServer another = ActualHttpServer.createQuietServer(0);
+        another.response("bar");
+
+        running(server, () -> {
+            ServerRunner anotherRunner = new ServerRunner(new MocoHttpServer(another));
+            anotherRunner.start();
+            assertThat(new MocoTestHelper().get("http://localhost:" + another.port()), is("bar"));
+            anotherRunner.stop();
+
+            assertThat(new MocoTestHelper().get(root()), is("foo"));
+        });
+    }
+
+    @Test
+    public void should_remove_http1_handlers_after_h2c_upgrade() {
+        ActualHttpServer server = ActualHttpServer.createQuietServer(port());
+        server.response("foo");
+        EmbeddedChannel channel = new EmbeddedChannel(new MocoHttpServer(server).channelInitializer());
+
+        channel.pipeline().fireChannelRead(Unpooled.copiedBuffer("GET / HTTP/1.1\r\nHost: localhost\r\n"
+                + "Connection: Upgrade, HTTP2-Settings\r\nUpgrade: h2c\r\nHTTP2-Settings: \r\n\r\n",
+                StandardCharsets.US_ASCII));
+
+        assertThat(channel.pipeline().get(ResponseSequencer.class), nullValue());
+        assertThat(channel.pipeline().get(MocoHandler.class), nullValue());
+        assertThat(channel.pipeline().get(HttpObjectAggregator.class), nullValue());
+        channel.close();
+    }
+
+    @Test
+    public void should_stream_request_larger_than_threshold() throws Exception {
+        ServerConfig serverConfig = ServerConfig.builder().withStreamingThreshold(1024).build();
+        ActualHttpServer server = ActualHttpServer.createHttpServer(port(), null, new QuietMonitor(), serverConfig);
+        server.request(by(uri("/upload"))).response("uploaded");
+
+        running(server, () -> assertThat(new MocoTestHelper().postBytes(remoteUrl("/upload"),
+                new byte[serverConfig.getContentLength() * 4]), is("uploaded")));
+    }
+
+    @Test
+    public void should_keep_content_length_of_streamed_request() throws Exception {
+        ServerConfig serverConfig = ServerConfig.builder().withStreamingThreshold(1024).build();
+        ActualHttpServer server = ActualHttpServer.createHttpServer(port(), null, new QuietMonitor(), serverConfig);
+        byte[] content = new byte[serverConfig.getContentLength() * 4];
+        server.request(and(by(uri("/upload")),
+                eq(header(HttpHeaders.CONTENT_LENGTH), String.valueOf(content.length)))).response("uploaded");
+
+        running(server, () -> assertThat(new MocoTestHelper().postBytes(remoteUrl("/upload"), content),
+                is("uploaded")));
+    }
+
+    @Test
+    public void should_stream_chunked_request_larger_than_threshold() throws Exception {
+        ServerConfig serverConfig = ServerConfig.builder().withStreamingThreshold(1024).build();
+        ActualHttpServer server = ActualHttpServer.createHttpServer(port(), null, new QuietMonitor(), serverConfig);
+        server.request(by(uri("/upload"))).response("uploaded");
+        byte[] content = new byte[serverConfig.getContentLength() * 4];
+
+        running(server, () -> assertThat(new MocoTestHelper().executeAsString(Request.post(remoteUrl("/upload"))
+                .bodyStream(new ByteArrayInputStream(content))), is("uploaded")));
+    }
+
+    @Test
+    public void should_not_stream_request_if_setting_reads_content() throws Exception {
+        ServerConfig serverConfig = ServerConfig.builder().withStreamingThreshold(1024).build();
+        ActualHttpServer server = ActualHttpServer.createHttpServer(port(), null, new QuietMonitor(), serverConfig);
+        String content = Strings.repeat("foo", 1024);
+        server.request(and(by(uri("/upload")), by(content))).response("uploaded");
+
+        running(server, () -> assertThat(new MocoTestHelper().postContent(remoteUrl("/upload"), content),
+                is("uploaded")));
+    }
+
+    @Test
+    public void should_spool_request_larger_than_threshold() throws Exception {
+        ServerConfig serverConfig = ServerConfig.builder()
+                .withSpoolThreshold(1024)
+                .withSpoolDirectory(spoolDirectory.getRoot())
+                .build();
+        ActualHttpServer server = ActualHttpServer.createHttpServer(port(), null, new QuietMonitor(), serverConfig);
+        String content = Strings.repeat("foo", serverConfig.getContentLength());
+        server.request(by(content)).response(spooledFiles());
+
+        running(server, () -> assertThat(new MocoTestHelper().postContent(remoteUrl("/upload"), content),
+                is("1")));
+
+        assertThat(spoolDirectory.getRoot().list().length, is(0));
+    }
+
+    @Test
+    public void should_verify_spooled_request_after_response() throws Exception {
+        ServerConfig serverConfig = ServerConfig.builder()
+                .withSpoolThreshold(1024)
+                .withSpoolDirectory(spoolDirectory.getRoot())
+                .build();
+        RequestHit hit = requestHit();
+        ActualHttpServer server = ActualHttpServer.createHttpServer(port(), null, hit, serverConfig);
+        String content = Strings.repeat("foo", serverConfig.getContentLength());
+        server.request(by(uri("/upload"))).response("uploaded");
+
+        running(server, () -> assertThat(new MocoTestHelper().postContent(remoteUrl("/upload"), content),
+                is("uploaded")));
+
+        hit.verify(by(content), once());
+    }
+
+    @Test
+    public void should_spool_chunked_request_larger_than_threshold() throws Exception {
+        ServerConfig serverConfig = ServerConfig.builder()
+                .withSpoolThreshold(1024)
+                .withSpoolDirectory(spoolDirectory.getRoot())
+                .build();
+        ActualHttpServer server = ActualHttpServer.createHttpServer(port(), null, new QuietMonitor(), serverConfig);
+        String content = Strings.repeat("foo", serverConfig.getContentLength());
+        server.request(by(content)).response(spooledFiles());
+
+        running(server, () -> assertThat(new MocoTestHelper().executeAsString(Request.post(remoteUrl("/upload"))
+                .bodyStream(new ByteArrayInputStream(content.getBytes()))), is("1")));
+
+        assertThat(spoolDirectory.getRoot().list().length, is(0));
+    }
+
+    @Test
+    public void should_not_spool_chunked_request_within_threshold() throws Exception {
+        ServerConfig serverConfig = ServerConfig.builder()
+                .withSpoolThreshold(1024)
+                .withSpoolDirectory(spoolDirectory.getRoot())
+                .build();
+        ActualHttpServer server = ActualHttpServer.createHttpServer(port(), null, new QuietMonitor(), serverConfig);
+        server.request(by("foo")).response(spooledFiles());
+
+        running(server, () -> assertThat(new MocoTestHelper().executeAsString(Request.post(remoteUrl("/upload"))
+                .bodyStream(new ByteArrayInputStream("foo".getBytes()))), is("0")));
+    }
+
+    @Test
+    public void should_reject_request_larger_than_max_spool_size() throws Exception {
+        ServerConfig serverConfig = ServerConfig.builder()
+                .withSpoolThreshold(1024)
+                .withMaxSpoolSize(4096)
+                .withSpoolDirectory(spoolDirectory.getRoot())
+                .build();
+        ActualHttpServer server = ActualHttpServer.createHttpServer(port(), null, new QuietMonitor(), serverConfig);
+        server.request(by(uri("/upload"))).response("uploaded");
+
+        running(server, () -> {
+            try (Socket socket = connect()) {
+                String response = exchange(socket, "POST /upload HTTP/1.1\r\nHost: localhost\r\n"
+                        + "Content-Length: 8192\r\nExpect: 100-continue\r\n\r\n");
+                assertThat(response.startsWith("http/1.1 413"), is(true));
+            }
+        });
+
+        assertThat(spoolDirectory.getRoot().list().length, is(0));
+    }
+
+    @Test
+    public void should_reject_chunked_request_larger_than_max_spool_size() throws Exception {
+        ServerConfig serverConfig = ServerConfig.builder()
+                .withSpoolThreshold(1024)
+                .withMaxSpoolSize(4096)
+                .withSpoolDirectory(spoolDirectory.getRoot())
+                .build();
+        ActualHttpServer server = ActualHttpServer.createHttpServer(port(), null, new QuietMonitor(), serverConfig);
+        server.request(by(uri("/upload"))).response("uploaded");
+        String chunk = Strings.repeat("f", 2048);
+
+        running(server, () -> {
+            try (Socket socket = connect()) {
+                String response = exchange(socket, "POST /upload HTTP/1.1\r\nHost: localhost\r\n"
+                        + "Transfer-Encoding: chunked\r\n\r\n"
+                        + "800\r\n" + chunk + "\r\n800\r\n" + chunk + "\r\n800\r\n" + chunk + "\r\n0\r\n\r\n");
+                assertThat(response.startsWith("http/1.1 413"), is(true));
+            }
+        });
+
+        assertThat(spoolDirectory.getRoot().list().length, is(0));
+    }
+
+    @Test
+    public void should_match_uploaded_file_in_spooled_request() throws Exception {
+        ServerConfig serverConfig = ServerConfig.builder().withSpoolThreshold(1024).build();
+        ActualHttpServer server = ActualHttpServer.createHttpServer(port(), null, new QuietMonitor(), serverConfig);
+        byte[] content = new byte[serverConfig.getContentLength() * 2];
+        server.request(and(eq(form("name"), "dreamhead"),
+                eq(uploadSize("file"), String.valueOf(content.length)))).response("uploaded");
+
+        running(server, () -> assertThat(new MocoTestHelper().executeAsString(Request.post(root())
+                .body(MultipartEntityBuilder.create()
+                        .addTextBody("name", "dreamhead")
+                        .addBinaryBody("file", content, ContentType.APPLICATION_OCTET_STREAM, "foo.bin")
+                        .build())), is("uploaded")));
+    }
+
+    private ResponseHandler spooledFiles() {
+        return new AbstractResponseHandler() {
+            @Override
+            public void writeToResponse(final SessionContext context) {
+                MutableHttpResponse response = (MutableHttpResponse) context.getResponse();
+                response.addHeader(HttpHeaders.CONTENT_TYPE, "text/plain");
+                response.setContent(MessageContent.content(String.valueOf(spoolDirectory.getRoot().list().length)));
+            }
+        };
+    }
+
+    @Test
+    public void should_reject_expectation_without_reading_body_if_no_setting_matches() throws Exception {
+        ServerConfig serverConfig = ServerConfig.builder().withExpectationFailedStatus(417).build();
+        ActualHttpServer server = ActualHttpServer.createHttpServer(port(), null, new QuietMonitor(), serverConfig);
+        server.request(by(uri("/upload"))).response("uploaded");
+
+        running(server, () -> {
+            try (Socket socket = connect()) {
+                String response = exchange(socket, "POST /unknown HTTP/1.1\r\nHost: localhost\r\n"
+                        + "Expect: 100-continue\r\nContent-Length: 1000000000\r\n\r\n");
+                assertThat(response.startsWith("http/1.1 417"), is(true));
+                assertThat(exchange(socket).startsWith("http/1.1 400"), is(true));
+            }
+        });
+    }
+
+    @Test
+    public void should_handle_pipelined_requests_concurrently_and_respond_in_order() throws Exception {
+        ServerConfig serverConfig = ServerConfig.builder()
+                .withHandlerTimeout(5, TimeUnit.SECONDS)
+                .build();
+        ActualHttpServer server = ActualHttpServer.createHttpServer(port(), null, new QuietMonitor(), serverConfig);
+        server.request(by(uri("/first"))).response(with(latency(1, TimeUnit.SECONDS)), with("first"));
+        server.request(by(uri("/second"))).response(with(latency(500, TimeUnit.MILLISECONDS)), with("second"));
+
+        running(server, () -> {
+            try (Socket socket = connect()) {
+                long start = System.nanoTime();
+                String first = exchange(socket, "GET /first HTTP/1.1\r\nHost: localhost\r\n\r\n"
+                        + "GET /second HTTP/1.1\r\nHost: localhost\r\n\r\n");
+                String second = readResponse(socket);
+                long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+                assertThat(first.endsWith("first"), is(true));
+                assertThat(second.endsWith("second"), is(true));
+                assertThat(elapsed < 1400, is(true));
+            }
+        });
+    }
+
+    @Test
+    public void should_reject_expectation_after_pipelined_response() throws Exception {
+        ServerConfig serverConfig = ServerConfig.builder()
+                .withExpectationFailedStatus(417)
+                .withHandlerTimeout(5, TimeUnit.SECONDS)
+                .build();
+        ActualHttpServer server = ActualHttpServer.createHttpServer(port(), null, new QuietMonitor(), serverConfig);
+        server.request(by(uri("/slow"))).response(with(latency(300, TimeUnit.MILLISECONDS)), with("slow"));
+
+        running(server, () -> {
+            try (Socket socket = connect()) {
+                String response = exchange(socket, "GET /slow HTTP/1.1\r\nHost: localhost\r\n\r\n"
+                        + "POST /unknown HTTP/1.1\r\nHost: localhost\r\n"
+                        + "Expect: 100-continue\r\nContent-Length: 1000000000\r\n\r\n");
+                assertThat(response.endsWith("slow"), is(true));
+                assertThat(readResponse(socket).startsWith("http/1.1 417"), is(true));
+            }
+        });
+    }
+
+    @Test
+    public void should_continue_expectation_if_setting_may_match() throws Exception {
+        ServerConfig serverConfig = ServerConfig.builder().withExpectationFailedStatus(417).build();
+        ActualHttpServer server = ActualHttpServer.createHttpServer(port(), null, new QuietMonitor(), serverConfig);
+        server.request(by(uri("/upload"))).response("uploaded");
+        server.request(by("foo")).response("content");
+
+        running(server, () -> {
+            try (Socket socket = connect()) {
+                String head = "HTTP/1.1\r\nHost: localhost\r\nExpect: 100-continue\r\nContent-Length: 3\r\n\r\n";
+                assertThat(exchange(socket, "POST /upload " + head).startsWith("http/1.1 100"), is(true));
+                assertThat(exchange(socket, "foo").endsWith("uploaded"), is(true));
+
+                assertThat(exchange(socket, "POST /other " + head).startsWith("http/1.1 100"), is(true));
+                assertThat(exchange(socket, "foo").endsWith("content"), is(true));
+            }
+        });
+    }
+
+    @Test
+    public void should_compress_response_if_client_accepts() throws Exception {
+        ServerConfig serverConfig = ServerConfig.builder().withCompression(true).withCompressionMinSize(16).build();
+        ActualHttpServer server = ActualHttpServer.createHttpServer(port(), null, new QuietMonitor(), serverConfig);
+        String content = Strings.repeat("foo", 100);
+        server.response(content);
+
+        running(server, () -> {
+            HttpURLConnection connection = (HttpURLConnection) new URL(root()).openConnection();
+            connection.setRequestProperty(HttpHeaders.ACCEPT_ENCODING, "gzip");
+            try (InputStream stream = new GZIPInputStream(connection.getInputStream())) {
+                assertThat(connection.getHeaderField(HttpHeaders.CONTENT_ENCODING), is("gzip"));
+                assertThat(connection.getContentLength() < content.length(), is(true));
+                assertThat(new String(toByteArray(stream)), is(content));
+            }
+        });
+    }
+
+    @Test
+    public void should_not_compress_small_response() throws Exception {
+        ServerConfig serverConfig = ServerConfig.builder().withCompression(true).build();
+        ActualHttpServer server = ActualHttpServer.createHttpServer(port(), null, new QuietMonitor(), serverConfig);
+        server.response("foo");
+
+        running(server, () -> {
+            HttpURLConnection connection = (HttpURLConnection) new URL(root()).openConnection();
+            connection.setRequestProperty(HttpHeaders.ACCEPT_ENCODING, "gzip");
+            try (InputStream stream = connection.getInputStream()) {
+                assertThat(connection.getHeaderField(HttpHeaders.CONTENT_ENCODING), nullValue());
+                assertThat(new String(toByteArray(stream)), is("foo"));
+            }
+        });
+    }
+
+    @Test
+    public void should_match_decompressed_request() throws Exception {
+        ServerConfig serverConfig = ServerConfig.builder().withDecompressionLimit(1024).build();
+        ActualHttpServer server = ActualHttpServer.createHttpServer(port(), null, new QuietMonitor(), serverConfig);
+        server.request(by("foo")).response("bar");
+
+        running(server, () -> {
+            Request request = Request.post(root())
+                    .addHeader(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .bodyByteArray(gzip("foo".getBytes()));
+            assertThat(new MocoTestHelper().executeAsString(request), is("bar"));
+        });
+    }
+
+    @Test
+    public void should_reject_request_decompressed_beyond_limit() throws Exception {
+        ServerConfig serverConfig = ServerConfig.builder().withDecompressionLimit(16).build();
+        ActualHttpServer server = ActualHttpServer.createHttpServer(port(), null, new QuietMonitor(), serverConfig);
+        server.request(by(Strings.repeat("foo", 100))).response("foo");
+        server.response("bar");
+
+        running(server, () -> {
+            Request request = Request.post(root())
+                    .addHeader(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .bodyByteArray(gzip(Strings.repeat("foo", 100).getBytes()));
+            assertThat(new MocoTestHelper().execute(request).getCode(), is(400));
+        });
+    }
+
+    @Test
+    public void should_resume_tls_session_with_configured_protocol() throws Exception {
+        ServerConfig serverConfig = ServerConfig.builder().withTlsProtocols("TLSv1.2").build();
+        ActualHttpServer server = ActualHttpServer.createHttpsServer(port(), true,
+                certificate(pathResource("cert.jks"), "mocohttps", "mocohttps"), serverConfig);
+        server.response("foo");
+
+        running(server, () -> {
+            SSLSocketFactory factory = SSLContexts.custom().loadTrustMaterial(TrustAllStrategy.INSTANCE).build()
+                    .getSocketFactory();
+            SSLSession first = handshake(factory);
+            SSLSession second = handshake(factory);
+
+            assertThat(first.getProtocol(), is("TLSv1.2"));
+            assertThat(second.getId(), is(first.getId()));
+        });
+    }
+
+    private static SSLSession handshake(final SSLSocketFactory factory) throws IOException {
+        try (SSLSocket socket = (SSLSocket) factory.createSocket("localhost", port())) {
+            socket.startHandshake();
+            return socket.getSession();
+        }
+    }
+
+    private static byte[] gzip(final byte[] content) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream stream = new GZIPOutputStream(bytes)) {
+            stream.write(content);
+        }
+
+        return bytes.toByteArray();
+    }
+
+    @Test
+    public void should_close_connection_after_max_keep_alive_requests() throws Exception {
+        ServerConfig serverConfig = ServerConfig.builder().withMaxRequestsPerConnection(2).build();
+        ActualHttpServer server = ActualHttpServer.createHttpServer(port(), null, new QuietMonitor(), serverConfig);
+        server.response("foo");
+
+        running(server, () -> {
+            try (Socket socket = connect()) {
+                assertThat(exchange(socket).contains("connection: close"), is(false));
+                assertThat(exchange(socket).contains("connection: close"), is(true));
+                assertThat(socket.getInputStream().read(), is(-1));
+            }
+
+            assertThat(server.getConnectionStats().getKeepAliveClosedConnections(), is(1L));
+        });
+    }
+
+    @Test
+    public void should_close_connection_older_than_max_age() throws Exception {
+        ServerConfig serverConfig = ServerConfig.builder()
+                .withMaxConnectionAge(200, TimeUnit.MILLISECONDS)
+                .build();
+        ActualHttpServer server = ActualHttpServer.createHttpServer(port(), null, new QuietMonitor(), serverConfig);
+        server.response("foo");
+
+        running(server, () -> {
+            try (Socket socket = connect()) {
+                assertThat(exchange(socket).endsWith("foo"), is(true));
+                assertThat(socket.getInputStream().read(), is(-1));
+            }
+        });
+    }
+
+    @Test
+    public void should_reject_connection_beyond_max_connections() throws Exception {
+        ServerConfig serverConfig = ServerConfig.builder().withMaxConnections(1).build();
+        ActualHttpServer server = ActualHttpServer.createHttpServer(port(), null, new QuietMonitor(), serverConfig);
+        server.response("foo");
+
+        running(server, () -> {
+            try (Socket socket = connect()) {
+                assertThat(exchange(socket).endsWith("foo"), is(true));
+                try (Socket rejected = connect()) {
+                    assertThat(rejected.getInputStream().read(), is(-1));
+                }
+
+                assertThat(server.getConnectionStats().getActiveConnections(), is(1));
+                assertThat(server.getConnectionStats().getRejectedConnections(), is(1L));
+            }
+        });
+    }
+
+    @Test
+    public void should_close_idle_connection() throws Exception {
+        ServerConfig serverConfig = ServerConfig.builder()
+                .withReadIdleTimeout(200, TimeUnit.MILLISECONDS)
+                .build();
+        ActualHttpServer server = ActualHttpServer.createHttpServer(port(), null, new QuietMonitor(), serverConfig);
+        server.response("foo");
+
+        running(server, () -> {
+            try (Socket socket = connect()) {
+                assertThat(socket.getInputStream().read(), is(-1));
+            }
+
+            assertThat(server.getConnectionStats().getIdleClosedConnections(), is(1L));
+        });
+    }
+
+    @Test
+    public void should_not_close_idle_connection_while_handling_request() throws Exception {
+        ServerConfig serverConfig = ServerConfig.builder()
+                .withReadIdleTimeout(200, TimeUnit.MILLISECONDS)
+                .withHandlerTimeout(5, TimeUnit.SECONDS)
+                .build();
+        ActualHttpServer server = ActualHttpServer.createHttpServer(port(), null, new QuietMonitor(), serverConfig);
+        server.response(with(latency(600, TimeUnit.MILLISECONDS)), with("slow"));
+
+        running(server, () -> {
+            try (Socket socket = connect()) {
+                assertThat(exchange(socket).endsWith("slow"), is(true));
+                assertThat(socket.getInputStream().read(), is(-1));
+            }
+        });
+    }
+
+    @Test
+    public void should_shed_request_beyond_max_in_flight() throws Exception {
+        ServerConfig serverConfig = ServerConfig.builder()
+                .withMaxInFlightRequests(1)
+                .withRetryAfter(3)
+                .build();
+        ActualHttpServer server = ActualHttpServer.createHttpServer(port(), null, new QuietMonitor(), serverConfig);
+        server.response("foo");
+
+        running(server, () -> {
+            AdmissionController controller = server.getAdmissionController();
+            assertThat(controller.tryAdmit(), is(true));
+            try (Socket socket = connect()) {
+                String response = exchange(socket);
+                assertThat(response.startsWith("http/1.1 503"), is(true));
+                assertThat(response.contains("retry-after: 3"), is(true));
+
+                controller.complete(0);
+                assertThat(exchange(socket).endsWith("foo"), is(true));
+            }
+
+            assertThat(controller.getShedRequests(), is(1L));
+        });
+    }
+
+    private Socket connect() throws IOException {
+        Socket socket = new Socket("localhost", port());
+        socket.setSoTimeout(5000);
+        return socket;
+    }
+
+    private String exchange(final Socket socket) throws IOException {
+        return exchange(socket, "GET / HTTP/1.1\r\nHost: localhost\r\n\r\n");
+    }
+
+    private String exchange(final Socket socket, final String request) throws IOException {
+        OutputStream output = socket.getOutputStream();
+        output.write(request.getBytes(StandardCharsets.US_ASCII));
+        output.flush();
+        return readResponse(socket);
+    }
+
+    private String readResponse(final Socket socket) throws IOException {
+        InputStream input = socket.getInputStream();
+        ByteArrayOutputStream head = new ByteArrayOutputStream();
+        while (!head.toString("US-ASCII").endsWith("\r\n\r\n")) {
+            int current = input.read();
+            if (current < 0) {
+                throw new EOFException();
+            }
+
+            head.write(current);
+        }
+
+        String headers = head.toString("US-ASCII").toLowerCase();
+        Matcher matcher = Pattern.compile("content-length: (\\d+)").matcher(headers);
+        int length = matcher.find() ? Integer.parseInt(matcher.group(1)) : 0;
+        byte[] body = new byte[length];
+        new DataInputStream(input).readFully(body);
+        return headers + new String(body, StandardCharsets.US_ASCII);
+    }
 }
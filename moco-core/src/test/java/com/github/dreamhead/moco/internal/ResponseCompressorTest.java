@@ -0,0 +1,79 @@
+package com.github.dreamhead.moco.internal;
+
+import com.github.dreamhead.moco.Request;
+import com.github.dreamhead.moco.model.MessageContent;
+import com.github.dreamhead.moco.resource.ContentResource;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import static com.github.dreamhead.moco.Moco.text;
+import static com.google.common.io.ByteStreams.toByteArray;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ResponseCompressorTest {
+    private final ResponseCompressor compressor = new ResponseCompressor(ServerConfig.builder()
+            .withCompression(true).build());
+
+    @Test
+    public void should_negotiate_encoding() {
+        assertThat(ResponseCompressor.negotiate("gzip, deflate"), is(Optional.of("gzip")));
+        assertThat(ResponseCompressor.negotiate("deflate, gzip"), is(Optional.of("gzip")));
+        assertThat(ResponseCompressor.negotiate("deflate"), is(Optional.of("deflate")));
+        assertThat(ResponseCompressor.negotiate("gzip;q=0.5, deflate"), is(Optional.of("deflate")));
+        assertThat(ResponseCompressor.negotiate("*"), is(Optional.of("gzip")));
+    }
+
+    @Test
+    public void should_not_negotiate_unacceptable_encoding() {
+        assertThat(ResponseCompressor.negotiate(null), is(Optional.empty()));
+        assertThat(ResponseCompressor.negotiate("br"), is(Optional.empty()));
+        assertThat(ResponseCompressor.negotiate("gzip;q=0"), is(Optional.empty()));
+        assertThat(ResponseCompressor.negotiate("identity"), is(Optional.empty()));
+    }
+
+    @Test
+    public void should_compress_content() throws IOException {
+        MessageContent content = MessageContent.content("foo");
+        byte[] gzip = compressor.compress(content, "gzip");
+        byte[] deflate = compressor.compress(content, "deflate");
+
+        assertThat(toByteArray(new GZIPInputStream(new ByteArrayInputStream(gzip))), is("foo".getBytes()));
+        assertThat(toByteArray(new InflaterInputStream(new ByteArrayInputStream(deflate))), is("foo".getBytes()));
+    }
+
+    @Test
+    public void should_compress_static_resource_once() {
+        ContentResource resource = text("foo");
+        byte[] first = compressor.compress(resource.readFor((Request) null), "gzip");
+        byte[] second = compressor.compress(resource.readFor((Request) null), "gzip");
+
+        assertThat(second, sameInstance(first));
+    }
+
+    @Test
+    public void should_not_cache_dynamic_content() {
+        byte[] first = compressor.compress(MessageContent.content("foo"), "gzip");
+        byte[] second = compressor.compress(MessageContent.content("foo"), "gzip");
+
+        assertThat(second, not(sameInstance(first)));
+        assertThat(second, is(first));
+    }
+
+    @Test
+    public void should_compress_same_file_once() {
+        File file = new File("src/test/resources/foo.response");
+        byte[] first = compressor.compress(MessageContent.content().withFile(file).build(), "gzip");
+        byte[] second = compressor.compress(MessageContent.content().withFile(file).build(), "gzip");
+
+        assertThat(second, sameInstance(first));
+    }
+}
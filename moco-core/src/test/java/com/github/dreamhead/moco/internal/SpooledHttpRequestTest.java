@@ -0,0 +1,57 @@
+package com.github.dreamhead.moco.internal;
+
+import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.EmptyHttpHeaders;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpVersion;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class SpooledHttpRequestTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void should_keep_file_for_duplicate_until_released() throws Exception {
+        File file = folder.newFile();
+        SpooledHttpRequest request = newRequest(file);
+        FullHttpRequest duplicate = request.retainedDuplicate();
+
+        assertThat(duplicate, instanceOf(SpooledHttpRequest.class));
+        assertThat(((SpooledHttpRequest) duplicate).getFile(), is(file));
+
+        request.release();
+        assertThat(file.exists(), is(true));
+
+        duplicate.release();
+        assertThat(file.exists(), is(false));
+    }
+
+    @Test
+    public void should_keep_file_for_copy_until_released() throws Exception {
+        File file = folder.newFile();
+        SpooledHttpRequest request = newRequest(file);
+        FullHttpRequest copy = request.copy();
+
+        assertThat(((SpooledHttpRequest) copy).getFile(), is(file));
+
+        copy.release();
+        assertThat(file.exists(), is(true));
+
+        request.release();
+        assertThat(file.exists(), is(false));
+    }
+
+    private SpooledHttpRequest newRequest(final File file) {
+        return new SpooledHttpRequest(new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, "/"),
+                EmptyHttpHeaders.INSTANCE, file);
+    }
+}
@@ -0,0 +1,58 @@
+package com.github.dreamhead.moco.jfr;
+
+import com.github.dreamhead.moco.AbstractMocoHttpTest;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static com.github.dreamhead.moco.Moco.by;
+import static com.github.dreamhead.moco.Moco.uri;
+import static com.github.dreamhead.moco.Runner.running;
+import static com.github.dreamhead.moco.helper.RemoteTestUtils.remoteUrl;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.CoreMatchers.hasItems;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class FlightRecordersTest extends AbstractMocoHttpTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void should_record_request_lifecycle_events() throws Exception {
+        server.request(by(uri("/foo"))).response("bar");
+
+        Path output = folder.newFile("moco.jfr").toPath();
+        try (Recording recording = new Recording()) {
+            recording.enable("com.github.dreamhead.moco.RequestReceived");
+            recording.enable("com.github.dreamhead.moco.SettingMatched");
+            recording.enable("com.github.dreamhead.moco.HandlerExecuted");
+            recording.start();
+
+            running(server, () -> assertThat(helper.get(remoteUrl("/foo")), is("bar")));
+
+            recording.stop();
+            recording.dump(output);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(output);
+        List<String> names = events.stream()
+                .map(event -> event.getEventType().getName())
+                .collect(toList());
+        assertThat(names, hasItems("com.github.dreamhead.moco.RequestReceived",
+                "com.github.dreamhead.moco.SettingMatched",
+                "com.github.dreamhead.moco.HandlerExecuted"));
+
+        RecordedEvent matched = events.stream()
+                .filter(event -> event.getEventType().getName().equals("com.github.dreamhead.moco.SettingMatched"))
+                .findFirst()
+                .get();
+        assertThat(matched.getInt("index"), is(0));
+    }
+}
@@ -0,0 +1,58 @@
+package com.github.dreamhead.moco.matcher;
+
+import com.github.dreamhead.moco.HttpMethod;
+import com.github.dreamhead.moco.HttpProtocolVersion;
+import com.github.dreamhead.moco.RequestMatcher;
+import com.github.dreamhead.moco.model.DefaultHttpRequest;
+import com.google.common.collect.ImmutableMap;
+import org.junit.Test;
+
+import static com.github.dreamhead.moco.Moco.and;
+import static com.github.dreamhead.moco.Moco.by;
+import static com.github.dreamhead.moco.Moco.eq;
+import static com.github.dreamhead.moco.Moco.header;
+import static com.github.dreamhead.moco.Moco.method;
+import static com.github.dreamhead.moco.Moco.not;
+import static com.github.dreamhead.moco.Moco.or;
+import static com.github.dreamhead.moco.Moco.query;
+import static com.github.dreamhead.moco.Moco.startsWith;
+import static com.github.dreamhead.moco.Moco.uri;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class RequestMatcherCompilerTest {
+    private final DefaultHttpRequest request = DefaultHttpRequest.builder()
+            .withVersion(HttpProtocolVersion.VERSION_1_1)
+            .withMethod(HttpMethod.POST)
+            .withUri("/foo")
+            .withHeaders(ImmutableMap.of("X-Foo", "bar"))
+            .withQueries(ImmutableMap.of("param", new String[]{"blah", "baz"}))
+            .build();
+
+    @Test
+    public void should_compile_common_extractors() {
+        RequestMatcher matcher = RequestMatcherCompiler.compile(and(by(uri("/foo")), by(method("post")),
+                eq(header("x-foo"), "bar"), eq(query("param"), "baz")));
+
+        assertThat(matcher, instanceOf(CompiledRequestMatcher.class));
+        assertThat(matcher.match(request), is(true));
+    }
+
+    @Test
+    public void should_keep_semantics_of_nested_matchers() {
+        assertThat(RequestMatcherCompiler.compile(and(by(uri("/foo")), or(by(method("get")),
+                not(eq(header("X-Foo"), "blah"))))).match(request), is(true));
+        assertThat(RequestMatcherCompiler.compile(and(by(uri("/foo")), startsWith(header("X-Foo"), "b"),
+                eq(query("param"), "unknown"))).match(request), is(false));
+        assertThat(RequestMatcherCompiler.compile(or(by(uri("/bar")), and(by(uri("/foo")),
+                startsWith(query("param"), "bl")))).match(request), is(true));
+    }
+
+    @Test
+    public void should_not_compile_matcher_without_specialization() {
+        RequestMatcher matcher = startsWith(header("X-Foo"), "b");
+        assertThat(RequestMatcherCompiler.compile(matcher), sameInstance(matcher));
+    }
+}
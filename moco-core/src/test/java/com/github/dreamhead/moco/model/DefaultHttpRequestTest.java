@@ -0,0 +1,79 @@
+package com.github.dreamhead.moco.model;
+
+import com.github.dreamhead.moco.HttpRequest;
+import com.github.dreamhead.moco.internal.Client;
+import com.google.common.collect.ImmutableMap;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpVersion;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class DefaultHttpRequestTest {
+    private FullHttpRequest nettyRequest;
+    private DefaultHttpRequest request;
+
+    @Before
+    public void setUp() {
+        nettyRequest = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST,
+                "/foo%20bar?param=blah&param=%E4%B8%AD", Unpooled.copiedBuffer("name=moco", StandardCharsets.UTF_8));
+        nettyRequest.headers()
+                .set(HttpHeaderNames.CONTENT_TYPE, HttpHeaderValues.APPLICATION_X_WWW_FORM_URLENCODED)
+                .set(HttpHeaderNames.CONTENT_LENGTH, nettyRequest.content().readableBytes());
+        HttpRequest httpRequest = DefaultHttpRequest.newRequest(nettyRequest,
+                new Client(new InetSocketAddress("127.0.0.1", 12306)));
+        request = (DefaultHttpRequest) httpRequest;
+    }
+
+    @After
+    public void tearDown() {
+        nettyRequest.release();
+    }
+
+    @Test
+    public void should_decode_uri_and_queries_once() {
+        assertThat(request.getUri(), is("/foo bar"));
+        assertThat(request.getUri(), sameInstance(request.getUri()));
+        assertThat(request.getQueries().get("param"), is(new String[]{"blah", "中"}));
+        assertThat(request.getQueries(), sameInstance(request.getQueries()));
+    }
+
+    @Test
+    public void should_decode_cookies_on_first_access() {
+        nettyRequest.headers().set(HttpHeaderNames.COOKIE, "foo=bar; theme=dark");
+
+        assertThat(request.getCookies().get("theme"), is("dark"));
+        nettyRequest.headers().set(HttpHeaderNames.COOKIE, "theme=light");
+        assertThat(request.getCookies().get("theme"), is("dark"));
+        assertThat(request.getCookies(), sameInstance(request.getCookies()));
+    }
+
+    @Test
+    public void should_decode_forms_once() {
+        assertThat(request.getForms().get("name"), is("moco"));
+        assertThat(request.getForms(), sameInstance(request.getForms()));
+    }
+
+    @Test
+    public void should_keep_uri_and_queries_from_builder() {
+        DefaultHttpRequest built = DefaultHttpRequest.builder()
+                .withUri("/foo%20bar")
+                .withQueries(ImmutableMap.of("param", new String[]{"%E4%B8%AD"}))
+                .build();
+
+        assertThat(built.getUri(), is("/foo%20bar"));
+        assertThat(built.getQueries().get("param"), is(new String[]{"%E4%B8%AD"}));
+    }
+}
@@ -0,0 +1,90 @@
+package com.github.dreamhead.moco.model;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class MessageContentTest {
+    @Test
+    public void should_compare_buffer_content_with_text() {
+        ByteBuf buffer = Unpooled.copiedBuffer("foo中文bar", StandardCharsets.UTF_8);
+        MessageContent content = MessageContent.content().withCharset(StandardCharsets.UTF_8)
+                .withContent(buffer).build();
+
+        assertThat(content.contentEquals("foo中文bar"), is(true));
+        assertThat(content.contentEquals("foo"), is(false));
+        assertThat(content.startsWith("foo中"), is(true));
+        assertThat(content.startsWith("bar"), is(false));
+        assertThat(content.endsWith("文bar"), is(true));
+        assertThat(content.endsWith("foo中文barbar"), is(false));
+        assertThat(content.contains("中文"), is(true));
+        assertThat(content.contains("blah"), is(false));
+        assertThat(content.getLength(), is(12L));
+
+        content.release();
+        buffer.release();
+    }
+
+    @Test
+    public void should_compare_content_with_text_in_other_charset() {
+        MessageContent content = MessageContent.content().withCharset(StandardCharsets.UTF_16)
+                .withContent(Unpooled.copiedBuffer("foobar", StandardCharsets.UTF_16)).build();
+
+        assertThat(content.contentEquals("foobar"), is(true));
+        assertThat(content.startsWith("foo"), is(true));
+        assertThat(content.endsWith("bar"), is(true));
+        assertThat(content.contains("oba"), is(true));
+    }
+
+    @Test
+    public void should_retain_buffer_until_released() {
+        ByteBuf buffer = Unpooled.copiedBuffer("foo", StandardCharsets.UTF_8);
+        MessageContent content = MessageContent.content().withContent(buffer).build();
+        buffer.release();
+
+        assertThat(buffer.refCnt(), is(1));
+        assertThat(content.toString(), is("foo"));
+
+        content.release();
+        assertThat(buffer.refCnt(), is(0));
+    }
+
+    @Test
+    public void should_keep_detached_content_after_release() {
+        ByteBuf buffer = Unpooled.copiedBuffer("foo", StandardCharsets.UTF_8);
+        MessageContent content = MessageContent.content().withContent(buffer).build().detach();
+        buffer.release();
+        content.release();
+
+        assertThat(buffer.refCnt(), is(0));
+        assertThat(new String(content.getContent(), StandardCharsets.UTF_8), is("foo"));
+        assertThat(content.contentEquals("foo"), is(true));
+        assertThat(content.getLength(), is(3L));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void should_not_read_released_content() {
+        ByteBuf buffer = Unpooled.copiedBuffer("foo", StandardCharsets.UTF_8);
+        MessageContent content = MessageContent.content().withContent(buffer).build();
+        buffer.release();
+        content.release();
+
+        content.getContent();
+    }
+
+    @Test
+    public void should_read_prefix_without_copying_whole_buffer() {
+        ByteBuf buffer = Unpooled.copiedBuffer("foobar", StandardCharsets.UTF_8);
+        MessageContent content = MessageContent.content().withContent(buffer).build();
+        buffer.release();
+
+        assertThat(new String(content.getPrefix(3), StandardCharsets.UTF_8), is("foo"));
+        assertThat(new String(content.getPrefix(10), StandardCharsets.UTF_8), is("foobar"));
+        content.release();
+    }
+}
@@ -0,0 +1,64 @@
+package com.github.dreamhead.moco.model;
+
+import com.github.dreamhead.moco.HttpProtocolVersion;
+import com.google.common.collect.ImmutableMap;
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.HttpHeaders;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class MessageHeadersTest {
+    @Test
+    public void should_lookup_header_ignoring_case() {
+        HttpHeaders httpHeaders = new DefaultHttpHeaders().add("Content-Type", "text/plain").add("X-Foo", "bar");
+        MessageHeaders headers = MessageHeaders.wrap(httpHeaders);
+
+        assertThat(headers.get("content-type"), is("text/plain"));
+        assertThat(headers.get("CONTENT-TYPE"), is("text/plain"));
+        assertThat(headers.contains("x-foo"), is(true));
+        assertThat(headers.get("X-Bar"), nullValue());
+        assertThat(headers.get(null), nullValue());
+    }
+
+    @Test
+    public void should_group_values_ignoring_case() {
+        HttpHeaders httpHeaders = new DefaultHttpHeaders().add("X-Foo", "foo").add("x-foo", "bar");
+        MessageHeaders headers = MessageHeaders.wrap(httpHeaders);
+
+        assertThat(headers.getAll("X-FOO"), is(new String[]{"foo", "bar"}));
+        ImmutableMap<String, String[]> map = headers.asMap();
+        assertThat(map.size(), is(1));
+        assertThat(map.get("X-Foo"), is(new String[]{"foo", "bar"}));
+        assertThat(headers.asMap(), sameInstance(map));
+    }
+
+    @Test
+    public void should_keep_single_value_header_replaced() {
+        DefaultMutableHttpResponse response = DefaultMutableHttpResponse.newResponse(DefaultHttpRequest.builder()
+                .withVersion(HttpProtocolVersion.VERSION_1_1).build(), 200);
+        response.addHeader("Content-Type", "text/plain");
+        response.addHeader("content-type", "application/json");
+        response.addHeader("X-Foo", "foo");
+        response.addHeader("X-Foo", "bar");
+
+        assertThat(response.getHeader("CONTENT-TYPE"), is("application/json"));
+        assertThat(response.getHeaders().get("X-Foo"), is(new String[]{"foo", "bar"}));
+        assertThat(response.toHttpResponse().headers().getAll("Content-Type").size(), is(1));
+    }
+
+    @Test
+    public void should_reflect_changes_made_to_outgoing_response_headers() {
+        DefaultMutableHttpResponse response = DefaultMutableHttpResponse.newResponse(DefaultHttpRequest.builder()
+                .withVersion(HttpProtocolVersion.VERSION_1_1).build(), 200);
+        response.addHeader("X-Foo", "foo");
+        assertThat(response.getHeaders().get("X-Foo"), is(new String[]{"foo"}));
+
+        response.toFullResponse().headers().set("Connection", "keep-alive");
+
+        assertThat(response.getHeaders().get("Connection"), is(new String[]{"keep-alive"}));
+    }
+}
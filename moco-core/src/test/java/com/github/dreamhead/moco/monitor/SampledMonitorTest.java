@@ -0,0 +1,55 @@
+package com.github.dreamhead.moco.monitor;
+
+import com.github.dreamhead.moco.MocoMonitor;
+import com.github.dreamhead.moco.Request;
+import com.github.dreamhead.moco.Response;
+import com.github.dreamhead.moco.dumper.DumpPolicy;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class SampledMonitorTest {
+    @Test
+    public void should_keep_sampling_decision_for_request_across_threads() {
+        MocoMonitor target = mock(MocoMonitor.class);
+        MocoMonitor monitor = SampledMonitor.sampled(target,
+                DumpPolicy.builder().withSampleRate(0.5).build());
+
+        for (int i = 0; i < 100; i++) {
+            Request request = mock(Request.class);
+            Response response = mock(Response.class);
+            monitor.onMessageArrived(request);
+            CompletableFuture.runAsync(() -> monitor.onMessageLeave(request, response)).join();
+
+            int arrived = arrivalsOf(target, request);
+            verify(target, times(arrived)).onMessageLeave(request, response);
+        }
+    }
+
+    @Test
+    public void should_not_sample_any_request_with_zero_rate() {
+        MocoMonitor target = mock(MocoMonitor.class);
+        MocoMonitor monitor = SampledMonitor.sampled(target,
+                DumpPolicy.builder().withSampleRate(0).build());
+        Request request = mock(Request.class);
+
+        monitor.onMessageArrived(request);
+        monitor.onUnexpectedMessage(request);
+
+        verify(target, never()).onMessageArrived(request);
+        verify(target, never()).onUnexpectedMessage(request);
+    }
+
+    private static int arrivalsOf(final MocoMonitor target, final Request request) {
+        return (int) mockingDetails(target).getInvocations().stream()
+                .filter(invocation -> invocation.getMethod().getName().equals("onMessageArrived"))
+                .filter(invocation -> invocation.getArgument(0) == request)
+                .count();
+    }
+}
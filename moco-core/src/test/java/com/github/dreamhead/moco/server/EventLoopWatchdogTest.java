@@ -0,0 +1,67 @@
+package com.github.dreamhead.moco.server;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Logger;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+
+public class EventLoopWatchdogTest {
+    private EventLoopGroup group;
+    private Logger logger;
+    private EventLoopWatchdog watchdog;
+
+    @Before
+    public void setUp() {
+        group = new NioEventLoopGroup(1);
+        logger = mock(Logger.class);
+        watchdog = new EventLoopWatchdog(group, 50, TimeUnit.MILLISECONDS, logger);
+    }
+
+    @After
+    public void tearDown() {
+        watchdog.stop();
+        group.shutdownGracefully(0, 0, TimeUnit.MILLISECONDS).syncUninterruptibly();
+    }
+
+    @Test
+    public void should_warn_once_for_blocked_event_loop() throws Exception {
+        watchdog.start();
+        Thread.sleep(100);
+
+        group.submit(() -> sleep(400)).get();
+        Thread.sleep(200);
+
+        assertThat(warnings(), is(1L));
+    }
+
+    @Test
+    public void should_not_warn_for_responsive_event_loop() throws Exception {
+        watchdog.start();
+        Thread.sleep(300);
+
+        assertThat(warnings(), is(0L));
+    }
+
+    private long warnings() {
+        return mockingDetails(logger).getInvocations().stream()
+                .filter(invocation -> invocation.getMethod().getName().equals("warn"))
+                .count();
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
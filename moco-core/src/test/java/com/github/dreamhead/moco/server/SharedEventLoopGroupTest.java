@@ -0,0 +1,29 @@
+package com.github.dreamhead.moco.server;
+
+import io.netty.channel.EventLoopGroup;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class SharedEventLoopGroupTest {
+    @Test
+    public void should_create_new_group_after_last_release() {
+        SharedEventLoopGroup shared = SharedEventLoopGroup.nio();
+        EventLoopGroup group = shared.acquire();
+        assertThat(shared.acquire(), sameInstance(group));
+        shared.release();
+        shared.release();
+        assertThat(group.isShutdown(), is(true));
+
+        EventLoopGroup another = shared.acquire();
+        try {
+            assertThat(another, not(sameInstance(group)));
+            assertThat(another.isShutdown(), is(false));
+        } finally {
+            shared.release();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.github.dreamhead.moco.util;
+
+import com.github.dreamhead.moco.MocoException;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class CompressionsTest {
+    @Test
+    public void should_decompress_without_limit() throws IOException {
+        byte[] result = Compressions.decompress(gzip("foo"), "gzip", Long.MAX_VALUE);
+        assertThat(new String(result, StandardCharsets.UTF_8), is("foo"));
+    }
+
+    @Test
+    public void should_decompress_content_up_to_limit() throws IOException {
+        byte[] result = Compressions.decompress(gzip("foo"), "gzip", 3);
+        assertThat(new String(result, StandardCharsets.UTF_8), is("foo"));
+    }
+
+    @Test(expected = MocoException.class)
+    public void should_throw_exception_for_content_exceeding_limit() throws IOException {
+        Compressions.decompress(gzip("foo"), "gzip", 2);
+    }
+
+    private static byte[] gzip(final String text) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream stream = new GZIPOutputStream(bytes)) {
+            stream.write(text.getBytes(StandardCharsets.UTF_8));
+        }
+
+        return bytes.toByteArray();
+    }
+}
@@ -1,12 +1,13 @@
 package com.github.dreamhead.moco.bootstrap.arg;
 
 import com.github.dreamhead.moco.bootstrap.ServerType;
+import com.github.dreamhead.moco.internal.ServerConfig;
 
 public final class HttpArgs extends StartArgs {
-    private HttpArgs(final Integer port, final Integer shutdownPort,
+    private HttpArgs(final Integer port, final String socketPath, final Integer shutdownPort,
                      final String configurationFile, final String globalSettings,
-                     final String env, boolean quiet) {
-        super(ServerType.HTTP, port, shutdownPort, configurationFile, globalSettings, env, quiet, null);
+                     final String env, boolean quiet, final ServerConfig serverConfig) {
+        super(ServerType.HTTP, port, socketPath, shutdownPort, configurationFile, globalSettings, env, quiet, null, serverConfig);
     }
 
     public static Builder httpArgs() {
@@ -15,17 +16,24 @@ public final class HttpArgs extends StartArgs {
 
     public static class Builder {
         private Integer port;
+        private String socketPath;
         private Integer shutdownPort;
         private String configurationFile;
         private String settings;
         private String env;
         private boolean quiet;
+        private ServerConfig serverConfig;
 
         public final Builder withPort(final Integer port) {
             this.port = port;
             return this;
         }
 
+        public final Builder withSocketPath(final String socketPath) {
+            this.socketPath = socketPath;
+            return this;
+        }
+
         public final Builder withShutdownPort(final Integer shutdownPort) {
             this.shutdownPort = shutdownPort;
             return this;
@@ -51,8 +59,13 @@ public final class HttpArgs extends StartArgs {
             return this;
         }
 
+        public final Builder withServerConfig(final ServerConfig serverConfig) {
+            this.serverConfig = serverConfig;
+            return this;
+        }
+
         public final HttpArgs build() {
-            return new HttpArgs(port, shutdownPort, configurationFile, settings, env, quiet);
+            return new HttpArgs(port, socketPath, shutdownPort, configurationFile, settings, env, quiet, serverConfig);
         }
     }
 }
@@ -2,11 +2,15 @@ package com.github.dreamhead.moco.bootstrap.arg;
 
 import com.github.dreamhead.moco.bootstrap.HttpsArg;
 import com.github.dreamhead.moco.bootstrap.ServerType;
+import com.github.dreamhead.moco.internal.ServerConfig;
 
 public final class HttpsArgs extends StartArgs {
-    private HttpsArgs(final Integer port, final Integer shutdownPort, final String configurationFile,
-                        final String globalSettings, final String env, final boolean quiet, final HttpsArg httpsArg) {
-        super(ServerType.HTTPS, port, shutdownPort, configurationFile, globalSettings, env, quiet, httpsArg);
+    private HttpsArgs(final Integer port, final String socketPath, final Integer shutdownPort,
+                        final String configurationFile,
+                        final String globalSettings, final String env, final boolean quiet, final HttpsArg httpsArg,
+                        final ServerConfig serverConfig) {
+        super(ServerType.HTTPS, port, socketPath, shutdownPort, configurationFile, globalSettings, env, quiet, httpsArg,
+                serverConfig);
     }
 
     public static Builder httpsArgs() {
@@ -15,18 +19,25 @@ public final class HttpsArgs extends StartArgs {
 
     public static class Builder {
         private Integer port;
+        private String socketPath;
         private Integer shutdownPort;
         private String configurationFile;
         private String settings;
         private String env;
         private HttpsArg httpsArg;
         private boolean quiet;
+        private ServerConfig serverConfig;
 
         public final Builder withPort(final Integer port) {
             this.port = port;
             return this;
         }
 
+        public final Builder withSocketPath(final String socketPath) {
+            this.socketPath = socketPath;
+            return this;
+        }
+
         public final Builder withShutdownPort(final Integer shutdownPort) {
             this.shutdownPort = shutdownPort;
             return this;
@@ -57,8 +68,14 @@ public final class HttpsArgs extends StartArgs {
             return this;
         }
 
+        public final Builder withServerConfig(final ServerConfig serverConfig) {
+            this.serverConfig = serverConfig;
+            return this;
+        }
+
         public final HttpsArgs build() {
-            return new HttpsArgs(port, shutdownPort, configurationFile, settings, env, quiet, httpsArg);
+            return new HttpsArgs(port, socketPath, shutdownPort, configurationFile, settings, env, quiet, httpsArg,
+                    serverConfig);
         }
     }
 }
@@ -3,8 +3,9 @@ package com.github.dreamhead.moco.bootstrap.arg;
 import static com.github.dreamhead.moco.bootstrap.ServerType.SOCKET;
 
 public final class SocketArgs extends StartArgs {
-    private SocketArgs(final Integer port, final Integer shutdownPort, final String configurationFile, boolean quiet) {
-        super(SOCKET, port, shutdownPort, configurationFile, null, null, quiet, null);
+    private SocketArgs(final Integer port, final String socketPath, final Integer shutdownPort,
+                       final String configurationFile, boolean quiet) {
+        super(SOCKET, port, socketPath, shutdownPort, configurationFile, null, null, quiet, null, null);
     }
 
     public static Builder socketArgs() {
@@ -13,6 +14,7 @@ public final class SocketArgs extends StartArgs {
 
     public static class Builder {
         private Integer port;
+        private String socketPath;
         private Integer shutdownPort;
         private String configurationFile;
         private boolean quiet;
@@ -22,6 +24,11 @@ public final class SocketArgs extends StartArgs {
             return this;
         }
 
+        public final Builder withSocketPath(final String socketPath) {
+            this.socketPath = socketPath;
+            return this;
+        }
+
         public final Builder withShutdownPort(final Integer shutdownPort) {
             this.shutdownPort = shutdownPort;
             return this;
@@ -38,7 +45,7 @@ public final class SocketArgs extends StartArgs {
         }
 
         public final SocketArgs build() {
-            return new SocketArgs(port, shutdownPort, configurationFile, quiet);
+            return new SocketArgs(port, socketPath, shutdownPort, configurationFile, quiet);
         }
     }
 }
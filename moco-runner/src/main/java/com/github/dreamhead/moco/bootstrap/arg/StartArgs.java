@@ -4,7 +4,10 @@ import com.github.dreamhead.moco.HttpsCertificate;
 import com.github.dreamhead.moco.bootstrap.HttpsArg;
 import com.github.dreamhead.moco.bootstrap.ServerType;
 import com.github.dreamhead.moco.bootstrap.ShutdownPortOption;
+import com.github.dreamhead.moco.internal.ServerConfig;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Optional;
 
 import static java.util.Optional.ofNullable;
@@ -13,31 +16,40 @@ import static java.util.Optional.ofNullable;
 public abstract class StartArgs extends ShutdownPortOption {
     private final ServerType type;
     private final Optional<Integer> port;
+    private final Optional<Path> socketPath;
     private final Optional<String> configurationFile;
     private final Optional<String> settings;
     private final Optional<String> env;
     private final boolean quiet;
     private final Optional<HttpsArg> httpsArg;
+    private final ServerConfig serverConfig;
 
-    protected StartArgs(final ServerType type, final Integer port, final Integer shutdownPort,
-                        final String configurationFile, final String globalSettings,
+    protected StartArgs(final ServerType type, final Integer port, final String socketPath,
+                        final Integer shutdownPort, final String configurationFile, final String globalSettings,
                         final String env,
                         final boolean quiet,
-                        final HttpsArg httpsArg) {
+                        final HttpsArg httpsArg,
+                        final ServerConfig serverConfig) {
         super(shutdownPort);
         this.type = type;
         this.port = ofNullable(port);
+        this.socketPath = ofNullable(socketPath).map(Paths::get);
         this.configurationFile = ofNullable(configurationFile);
         this.settings = ofNullable(globalSettings);
         this.env = ofNullable(env);
         this.quiet = quiet;
         this.httpsArg = ofNullable(httpsArg);
+        this.serverConfig = ofNullable(serverConfig).orElseGet(() -> ServerConfig.builder().build());
     }
 
     public final Optional<Integer> getPort() {
         return port;
     }
 
+    public final Optional<Path> getSocketPath() {
+        return socketPath;
+    }
+
     public final Optional<String> getConfigurationFile() {
         return configurationFile;
     }
@@ -62,6 +74,10 @@ public abstract class StartArgs extends ShutdownPortOption {
         return httpsArg.map(HttpsArg::getCertificate);
     }
 
+    public final ServerConfig getServerConfig() {
+        return serverConfig;
+    }
+
     public static String help() {
         String separator = System.getProperty("line.separator");
         return "Moco Options:" + separator + "moco [server type] -p port -c [configuration file]" + separator + separator + "server type: http, https, socket";
@@ -36,11 +36,13 @@ public final class HttpArgsParser extends StartArgsParser {
 
         return httpArgs()
                 .withPort(getPort(port))
+                .withSocketPath(cmd.getOptionValue("socket-path"))
                 .withShutdownPort(getPort(shutdownPort))
                 .withConfigurationFile(config)
                 .withSettings(globalSettings)
                 .withEnv(env)
                 .withQuiet(quiet)
+                .withServerConfig(serverConfig(cmd))
                 .build();
     }
 
@@ -49,10 +51,34 @@ public final class HttpArgsParser extends StartArgsParser {
         Options options = new Options();
         options.addOption(configOption());
         options.addOption(portOption());
+        options.addOption(socketPathOption());
         options.addOption(shutdownPortOption());
         options.addOption(settingsOption());
         options.addOption(envOption());
         options.addOption(logOption());
+        options.addOption(stallThresholdOption());
+        options.addOption(logSampleRateOption());
+        options.addOption(logMaxContentOption());
+        options.addOption(streamThresholdOption());
+        options.addOption(spoolThresholdOption());
+        options.addOption(maxSpoolSizeOption());
+        options.addOption(expectationFailedStatusOption());
+        options.addOption(compressOption());
+        options.addOption(compressMinSizeOption());
+        options.addOption(decompressLimitOption());
+        options.addOption(maxConnectionsOption());
+        options.addOption(readIdleTimeoutOption());
+        options.addOption(writeIdleTimeoutOption());
+        options.addOption(maxKeepAliveRequestsOption());
+        options.addOption(maxConnectionAgeOption());
+        options.addOption(maxInFlightOption());
+        options.addOption(latencyTargetOption());
+        options.addOption(retryAfterOption());
+        options.addOption(maxPipelinedRequestsOption());
+        options.addOption(handlerTimeoutOption());
+        options.addOption(timeoutStatusOption());
+        options.addOption(compileMatchersOption());
+        options.addOption(dispatchCacheOption());
         return options;
     }
 }
@@ -37,12 +37,14 @@ public final class HttpsArgsParser extends StartArgsParser {
 
         return httpsArgs()
                 .withPort(getPort(port))
+                .withSocketPath(cmd.getOptionValue("socket-path"))
                 .withShutdownPort(getPort(shutdownPort))
                 .withConfigurationFile(config)
                 .withSettings(globalSettings)
                 .withEnv(env)
                 .withHttpsArg(httpsArg(cmd))
                 .withQuiet(quiet)
+                .withServerConfig(serverConfig(cmd))
                 .build();
     }
 
@@ -66,12 +68,38 @@ public final class HttpsArgsParser extends StartArgsParser {
         Options options = new Options();
         options.addOption(configOption());
         options.addOption(portOption());
+        options.addOption(socketPathOption());
         options.addOption(ShutdownPortOption.shutdownPortOption());
         options.addOption(settingsOption());
         options.addOption(envOption());
         options.addOption(httpsCertificate());
         options.addOption(keyStore());
         options.addOption(cert());
+        options.addOption(stallThresholdOption());
+        options.addOption(logSampleRateOption());
+        options.addOption(logMaxContentOption());
+        options.addOption(streamThresholdOption());
+        options.addOption(spoolThresholdOption());
+        options.addOption(maxSpoolSizeOption());
+        options.addOption(expectationFailedStatusOption());
+        options.addOption(compressOption());
+        options.addOption(compressMinSizeOption());
+        options.addOption(decompressLimitOption());
+        options.addOption(maxConnectionsOption());
+        options.addOption(readIdleTimeoutOption());
+        options.addOption(writeIdleTimeoutOption());
+        options.addOption(maxKeepAliveRequestsOption());
+        options.addOption(maxConnectionAgeOption());
+        options.addOption(maxInFlightOption());
+        options.addOption(latencyTargetOption());
+        options.addOption(retryAfterOption());
+        options.addOption(maxPipelinedRequestsOption());
+        options.addOption(handlerTimeoutOption());
+        options.addOption(timeoutStatusOption());
+        options.addOption(compileMatchersOption());
+        options.addOption(dispatchCacheOption());
+        options.addOption(tlsProtocolsOption());
+        options.addOption(tlsCiphersOption());
         return options;
     }
 }
@@ -26,6 +26,7 @@ public final class SocketArgsParser extends StartArgsParser {
 
         return socketArgs()
                 .withPort(getPort(port))
+                .withSocketPath(cmd.getOptionValue("socket-path"))
                 .withShutdownPort(getPort(shutdownPort))
                 .withConfigurationFile(config)
                 .withQuiet(quiet)
@@ -37,6 +38,7 @@ public final class SocketArgsParser extends StartArgsParser {
         Options options = new Options();
         options.addOption(configOption());
         options.addOption(portOption());
+        options.addOption(socketPathOption());
         options.addOption(shutdownPortOption());
         return options;
     }
@@ -2,6 +2,9 @@ package com.github.dreamhead.moco.bootstrap.parser;
 
 import com.github.dreamhead.moco.bootstrap.ParseArgException;
 import com.github.dreamhead.moco.bootstrap.arg.StartArgs;
+import com.github.dreamhead.moco.dumper.DumpPolicy;
+import com.github.dreamhead.moco.internal.ServerConfig;
+import com.google.common.base.Splitter;
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.CommandLineParser;
 import org.apache.commons.cli.DefaultParser;
@@ -9,6 +12,8 @@ import org.apache.commons.cli.Option;
 import org.apache.commons.cli.Options;
 import org.apache.commons.cli.ParseException;
 
+import java.util.concurrent.TimeUnit;
+
 public abstract class StartArgsParser {
     protected abstract Options options();
     protected abstract StartArgs parseArgs(CommandLine cmd);
@@ -24,6 +29,10 @@ public abstract class StartArgsParser {
     private StartArgs doParse(final String[] args) throws ParseException {
         CommandLineParser parser = new DefaultParser();
         CommandLine cmd = parser.parse(options(), args);
+        if (cmd.hasOption("p") && cmd.hasOption("socket-path")) {
+            throw new ParseArgException("port and socket path can not be set at the same time");
+        }
+
         return parseArgs(cmd);
     }
 
@@ -34,6 +43,13 @@ public abstract class StartArgsParser {
         return opt;
     }
 
+    protected final Option socketPathOption() {
+        Option opt = new Option(null, "socket-path", true, "Unix domain socket path");
+        opt.setType(String.class);
+        opt.setRequired(false);
+        return opt;
+    }
+
     protected final Option configOption() {
         Option opt = new Option("c", true, "config");
         opt.setType(String.class);
@@ -83,6 +99,340 @@ public abstract class StartArgsParser {
         return option;
     }
 
+    protected final Option stallThresholdOption() {
+        Option option = new Option(null, "stall-threshold", true, "Event loop stall threshold in milliseconds");
+        option.setType(Number.class);
+        option.setRequired(false);
+        return option;
+    }
+
+    protected final Option logSampleRateOption() {
+        Option option = new Option(null, "log-sample-rate", true, "Fraction of requests to log, between 0 and 1");
+        option.setType(Number.class);
+        option.setRequired(false);
+        return option;
+    }
+
+    protected final Option logMaxContentOption() {
+        Option option = new Option(null, "log-max-content", true, "Max logged content length in bytes");
+        option.setType(Number.class);
+        option.setRequired(false);
+        return option;
+    }
+
+    protected final Option streamThresholdOption() {
+        Option option = new Option(null, "stream-threshold", true, "Stream request body larger than threshold in bytes");
+        option.setType(Number.class);
+        option.setRequired(false);
+        return option;
+    }
+
+    protected final Option spoolThresholdOption() {
+        Option option = new Option(null, "spool-threshold", true, "Spool request body larger than threshold in bytes to disk");
+        option.setType(Number.class);
+        option.setRequired(false);
+        return option;
+    }
+
+    protected final Option maxSpoolSizeOption() {
+        Option option = new Option(null, "max-spool-size", true, "Reject spooled request body larger than size in bytes");
+        option.setType(Number.class);
+        option.setRequired(false);
+        return option;
+    }
+
+    protected final Option expectationFailedStatusOption() {
+        Option option = new Option(null, "expectation-failed-status", true, "Reject 100-continue requests without matched setting with status");
+        option.setType(Number.class);
+        option.setRequired(false);
+        return option;
+    }
+
+    protected final Option compressOption() {
+        Option option = new Option(null, "compress", false, "Compress response with gzip or deflate if client accepts");
+        option.setRequired(false);
+        return option;
+    }
+
+    protected final Option compileMatchersOption() {
+        Option option = new Option(null, "compile-matchers", false, "Compile request matchers into flat predicates");
+        option.setRequired(false);
+        return option;
+    }
+
+    protected final Option dispatchCacheOption() {
+        Option option = new Option(null, "dispatch-cache", true, "Cache matched setting for up to size distinct requests");
+        option.setType(Number.class);
+        option.setRequired(false);
+        return option;
+    }
+
+    protected final Option compressMinSizeOption() {
+        Option option = new Option(null, "compress-min-size", true, "Min response size in bytes to compress");
+        option.setType(Number.class);
+        option.setRequired(false);
+        return option;
+    }
+
+    protected final Option decompressLimitOption() {
+        Option option = new Option(null, "decompress-limit", true, "Decompress request body up to limit in bytes");
+        option.setType(Number.class);
+        option.setRequired(false);
+        return option;
+    }
+
+    protected final Option tlsProtocolsOption() {
+        Option option = new Option(null, "tls-protocols", true, "Comma separated TLS protocols, e.g. TLSv1.2,TLSv1.3");
+        option.setType(String.class);
+        option.setRequired(false);
+        return option;
+    }
+
+    protected final Option tlsCiphersOption() {
+        Option option = new Option(null, "tls-ciphers", true, "Comma separated TLS cipher suites");
+        option.setType(String.class);
+        option.setRequired(false);
+        return option;
+    }
+
+    protected final Option maxConnectionsOption() {
+        Option option = new Option(null, "max-connections", true, "Max concurrent connections, more will be closed");
+        option.setType(Number.class);
+        option.setRequired(false);
+        return option;
+    }
+
+    protected final Option readIdleTimeoutOption() {
+        Option option = new Option(null, "read-idle-timeout", true, "Close connection without read in milliseconds");
+        option.setType(Number.class);
+        option.setRequired(false);
+        return option;
+    }
+
+    protected final Option writeIdleTimeoutOption() {
+        Option option = new Option(null, "write-idle-timeout", true, "Close connection without write in milliseconds");
+        option.setType(Number.class);
+        option.setRequired(false);
+        return option;
+    }
+
+    protected final Option maxKeepAliveRequestsOption() {
+        Option option = new Option(null, "max-keep-alive-requests", true, "Max requests served by one connection");
+        option.setType(Number.class);
+        option.setRequired(false);
+        return option;
+    }
+
+    protected final Option maxConnectionAgeOption() {
+        Option option = new Option(null, "max-connection-age", true, "Close connection older than age in milliseconds");
+        option.setType(Number.class);
+        option.setRequired(false);
+        return option;
+    }
+
+    protected final Option maxInFlightOption() {
+        Option option = new Option(null, "max-in-flight", true, "Max in-flight requests, more will be rejected with 503");
+        option.setType(Number.class);
+        option.setRequired(false);
+        return option;
+    }
+
+    protected final Option latencyTargetOption() {
+        Option option = new Option(null, "latency-target", true, "Adapt in-flight limit to latency target in milliseconds");
+        option.setType(Number.class);
+        option.setRequired(false);
+        return option;
+    }
+
+    protected final Option retryAfterOption() {
+        Option option = new Option(null, "retry-after", true, "Retry-After seconds of rejected requests");
+        option.setType(Number.class);
+        option.setRequired(false);
+        return option;
+    }
+
+    protected final Option maxPipelinedRequestsOption() {
+        Option option = new Option(null, "max-pipelined-requests", true, "Max pipelined requests queued on one connection");
+        option.setType(Number.class);
+        option.setRequired(false);
+        return option;
+    }
+
+    protected final Option handlerTimeoutOption() {
+        Option option = new Option(null, "handler-timeout", true, "Handler deadline of each request in milliseconds");
+        option.setType(Number.class);
+        option.setRequired(false);
+        return option;
+    }
+
+    protected final Option timeoutStatusOption() {
+        Option option = new Option(null, "timeout-status", true, "Status of requests exceeding handler deadline");
+        option.setType(Number.class);
+        option.setRequired(false);
+        return option;
+    }
+
+    protected final ServerConfig serverConfig(final CommandLine cmd) {
+        ServerConfig.Builder builder = ServerConfig.builder();
+        String stallThreshold = cmd.getOptionValue("stall-threshold");
+        if (stallThreshold != null) {
+            builder.withStallThreshold(toLong(stallThreshold, "stall threshold"), TimeUnit.MILLISECONDS);
+        }
+
+        String streamThreshold = cmd.getOptionValue("stream-threshold");
+        if (streamThreshold != null) {
+            builder.withStreamingThreshold(toLong(streamThreshold, "stream threshold"));
+        }
+
+        String spoolThreshold = cmd.getOptionValue("spool-threshold");
+        if (spoolThreshold != null) {
+            builder.withSpoolThreshold(toLong(spoolThreshold, "spool threshold"));
+        }
+
+        String maxSpoolSize = cmd.getOptionValue("max-spool-size");
+        if (maxSpoolSize != null) {
+            builder.withMaxSpoolSize(toLong(maxSpoolSize, "max spool size"));
+        }
+
+        String expectationFailedStatus = cmd.getOptionValue("expectation-failed-status");
+        if (expectationFailedStatus != null) {
+            builder.withExpectationFailedStatus(toInt(expectationFailedStatus, "expectation failed status"));
+        }
+
+        String compressMinSize = cmd.getOptionValue("compress-min-size");
+        if (compressMinSize != null) {
+            builder.withCompressionMinSize(toInt(compressMinSize, "compress min size"));
+        }
+
+        String decompressLimit = cmd.getOptionValue("decompress-limit");
+        if (decompressLimit != null) {
+            builder.withDecompressionLimit(toLong(decompressLimit, "decompress limit"));
+        }
+
+        String tlsProtocols = cmd.getOptionValue("tls-protocols");
+        if (tlsProtocols != null) {
+            builder.withTlsProtocols(toArray(tlsProtocols));
+        }
+
+        String tlsCiphers = cmd.getOptionValue("tls-ciphers");
+        if (tlsCiphers != null) {
+            builder.withTlsCiphers(toArray(tlsCiphers));
+        }
+
+        String maxConnections = cmd.getOptionValue("max-connections");
+        if (maxConnections != null) {
+            builder.withMaxConnections(toInt(maxConnections, "max connections"));
+        }
+
+        String readIdleTimeout = cmd.getOptionValue("read-idle-timeout");
+        if (readIdleTimeout != null) {
+            builder.withReadIdleTimeout(toLong(readIdleTimeout, "read idle timeout"), TimeUnit.MILLISECONDS);
+        }
+
+        String writeIdleTimeout = cmd.getOptionValue("write-idle-timeout");
+        if (writeIdleTimeout != null) {
+            builder.withWriteIdleTimeout(toLong(writeIdleTimeout, "write idle timeout"), TimeUnit.MILLISECONDS);
+        }
+
+        String maxKeepAliveRequests = cmd.getOptionValue("max-keep-alive-requests");
+        if (maxKeepAliveRequests != null) {
+            builder.withMaxRequestsPerConnection(toInt(maxKeepAliveRequests, "max keep alive requests"));
+        }
+
+        String maxConnectionAge = cmd.getOptionValue("max-connection-age");
+        if (maxConnectionAge != null) {
+            builder.withMaxConnectionAge(toLong(maxConnectionAge, "max connection age"), TimeUnit.MILLISECONDS);
+        }
+
+        String maxInFlight = cmd.getOptionValue("max-in-flight");
+        if (maxInFlight != null) {
+            builder.withMaxInFlightRequests(toInt(maxInFlight, "max in flight"));
+        }
+
+        String latencyTarget = cmd.getOptionValue("latency-target");
+        if (latencyTarget != null) {
+            builder.withLatencyTarget(toLong(latencyTarget, "latency target"), TimeUnit.MILLISECONDS);
+        }
+
+        String retryAfter = cmd.getOptionValue("retry-after");
+        if (retryAfter != null) {
+            builder.withRetryAfter(toInt(retryAfter, "retry after"));
+        }
+
+        String maxPipelinedRequests = cmd.getOptionValue("max-pipelined-requests");
+        if (maxPipelinedRequests != null) {
+            builder.withMaxPipelinedRequests(toInt(maxPipelinedRequests, "max pipelined requests"));
+        }
+
+        String handlerTimeout = cmd.getOptionValue("handler-timeout");
+        if (handlerTimeout != null) {
+            builder.withHandlerTimeout(toLong(handlerTimeout, "handler timeout"), TimeUnit.MILLISECONDS);
+        }
+
+        String dispatchCache = cmd.getOptionValue("dispatch-cache");
+        if (dispatchCache != null) {
+            builder.withDispatchCacheSize(toInt(dispatchCache, "dispatch cache"));
+        }
+
+        String timeoutStatus = cmd.getOptionValue("timeout-status");
+        if (timeoutStatus != null) {
+            builder.withTimeoutStatus(toInt(timeoutStatus, "timeout status"));
+        }
+
+        return builder.withCompression(cmd.hasOption("compress"))
+                .withMatcherCompilation(cmd.hasOption("compile-matchers"))
+                .withDumpPolicy(dumpPolicy(cmd))
+                .build();
+    }
+
+    private DumpPolicy dumpPolicy(final CommandLine cmd) {
+        DumpPolicy.Builder builder = DumpPolicy.builder();
+        try {
+            String sampleRate = cmd.getOptionValue("log-sample-rate");
+            if (sampleRate != null) {
+                builder.withSampleRate(toDouble(sampleRate, "log sample rate"));
+            }
+
+            String maxContent = cmd.getOptionValue("log-max-content");
+            if (maxContent != null) {
+                builder.withMaxContentLength(toInt(maxContent, "log max content"));
+            }
+        } catch (IllegalArgumentException e) {
+            throw new ParseArgException(e.getMessage());
+        }
+
+        return builder.build();
+    }
+
+    private static String[] toArray(final String value) {
+        return Splitter.on(',').trimResults().omitEmptyStrings().splitToList(value).toArray(new String[0]);
+    }
+
+    private static long toLong(final String value, final String name) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new ParseArgException(name + " should be a number");
+        }
+    }
+
+    private static int toInt(final String value, final String name) {
+        long result = toLong(value, name);
+        if (result < Integer.MIN_VALUE || result > Integer.MAX_VALUE) {
+            throw new ParseArgException(name + " is out of range");
+        }
+
+        return (int) result;
+    }
+
+    private static double toDouble(final String value, final String name) {
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new ParseArgException(name + " should be a number");
+        }
+    }
+
     public static Integer getPort(final String port) {
         if (port == null) {
             return null;
@@ -0,0 +1,48 @@
+package com.github.dreamhead.moco.parser.deserializer;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.github.dreamhead.moco.parser.model.TimeoutContainer;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+public final class TimeoutContainerDeserializer extends JsonDeserializer<TimeoutContainer> {
+    @Override
+    public TimeoutContainer deserialize(final JsonParser jp, final DeserializationContext ctxt) throws IOException {
+        JsonToken currentToken = jp.getCurrentToken();
+        if (currentToken == JsonToken.VALUE_NUMBER_INT) {
+            return TimeoutContainer.timeout(jp.getLongValue(), TimeUnit.MILLISECONDS, null);
+        }
+
+        if (currentToken == JsonToken.START_OBJECT) {
+            jp.nextToken();
+            InternalTimeoutContainer container = jp.readValueAs(InternalTimeoutContainer.class);
+            return container.toTimeoutContainer();
+        }
+
+        return (TimeoutContainer) ctxt.handleUnexpectedToken(TimeoutContainer.class, jp);
+    }
+
+    @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY)
+    private static class InternalTimeoutContainer {
+        private long duration;
+        private String unit;
+        private Integer status;
+
+        private TimeoutContainer toTimeoutContainer() {
+            return TimeoutContainer.timeout(duration, toUnit(), status);
+        }
+
+        private TimeUnit toUnit() {
+            if (unit == null) {
+                return TimeUnit.MILLISECONDS;
+            }
+
+            return TimeUnit.valueOf(unit.toUpperCase() + 'S');
+        }
+    }
+}
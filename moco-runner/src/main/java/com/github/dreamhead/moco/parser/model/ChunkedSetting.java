@@ -0,0 +1,45 @@
+package com.github.dreamhead.moco.parser.model;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.google.common.base.MoreObjects;
+
+import java.util.concurrent.TimeUnit;
+
+@JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY)
+public final class ChunkedSetting extends BaseResourceSetting {
+    private static final int DEFAULT_SIZE = 8192;
+
+    private Integer size;
+    private LatencyContainer interval;
+
+    public int getSize() {
+        if (size == null) {
+            return DEFAULT_SIZE;
+        }
+
+        return size;
+    }
+
+    public long getInterval() {
+        if (interval == null) {
+            return 0;
+        }
+
+        return interval.getLatency();
+    }
+
+    public TimeUnit getIntervalUnit() {
+        if (interval == null) {
+            return TimeUnit.MILLISECONDS;
+        }
+
+        return interval.getUnit();
+    }
+
+    @Override
+    protected MoreObjects.ToStringHelper toStringHelper() {
+        return super.toStringHelper()
+                .add("size", size)
+                .add("interval", interval);
+    }
+}
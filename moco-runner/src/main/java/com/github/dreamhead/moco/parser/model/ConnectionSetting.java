@@ -0,0 +1,56 @@
+package com.github.dreamhead.moco.parser.model;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.github.dreamhead.moco.internal.ServerConfig;
+import com.google.common.base.MoreObjects;
+
+@JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY)
+public final class ConnectionSetting {
+    private Integer max;
+    @JsonProperty("read_idle_timeout")
+    private LatencyContainer readIdleTimeout;
+    @JsonProperty("write_idle_timeout")
+    private LatencyContainer writeIdleTimeout;
+    @JsonProperty("max_requests")
+    private Integer maxRequests;
+    @JsonProperty("max_age")
+    private LatencyContainer maxAge;
+
+    public ServerConfig applyTo(final ServerConfig config) {
+        ServerConfig.Builder builder = ServerConfig.builder(config);
+        if (max != null && config.getMaxConnections() == 0) {
+            builder.withMaxConnections(max);
+        }
+
+        if (readIdleTimeout != null && config.getReadIdleTimeout() == 0) {
+            builder.withReadIdleTimeout(readIdleTimeout.getLatency(), readIdleTimeout.getUnit());
+        }
+
+        if (writeIdleTimeout != null && config.getWriteIdleTimeout() == 0) {
+            builder.withWriteIdleTimeout(writeIdleTimeout.getLatency(), writeIdleTimeout.getUnit());
+        }
+
+        if (maxRequests != null && config.getMaxRequestsPerConnection() == 0) {
+            builder.withMaxRequestsPerConnection(maxRequests);
+        }
+
+        if (maxAge != null && config.getMaxConnectionAge() == 0) {
+            builder.withMaxConnectionAge(maxAge.getLatency(), maxAge.getUnit());
+        }
+
+        return builder.build();
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .omitNullValues()
+                .add("max", max)
+                .add("read idle timeout", readIdleTimeout)
+                .add("write idle timeout", writeIdleTimeout)
+                .add("max requests", maxRequests)
+                .add("max age", maxAge)
+                .toString();
+    }
+}
@@ -24,6 +24,7 @@ import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
 import static com.github.dreamhead.moco.Moco.attachment;
+import static com.github.dreamhead.moco.Moco.chunked;
 import static com.github.dreamhead.moco.Moco.json;
 import static com.github.dreamhead.moco.Moco.status;
 import static com.github.dreamhead.moco.Moco.template;
@@ -50,9 +51,16 @@ public final class DynamicResponseHandlerFactory extends Dynamics implements Res
     public ResponseHandler createResponseHandler(final ResponseSetting responseSetting) {
         List<ResponseHandler> handlers = StreamSupport.stream(getFields(responseSetting.getClass()).spliterator(), false)
                 .filter(isValidField(responseSetting))
+                .filter(field -> !"timeout".equals(field.getName()))
                 .map(fieldToResponseHandler(responseSetting))
                 .collect(toList());
-        return getResponseHandler(handlers);
+        ResponseHandler handler = getResponseHandler(handlers);
+        TimeoutContainer timeout = responseSetting.getTimeout();
+        if (timeout != null) {
+            return timeout.asResponseHandler(handler);
+        }
+
+        return handler;
     }
 
     private ResponseHandler getResponseHandler(final List<ResponseHandler> handlers) {
@@ -110,6 +118,11 @@ public final class DynamicResponseHandlerFactory extends Dynamics implements Res
             return attachment(attachment.getFilename(), resourceFrom(attachment));
         }
 
+        if ("chunked".equalsIgnoreCase(name)) {
+            ChunkedSetting chunked = (ChunkedSetting) value;
+            return chunked(resourceFrom(chunked), chunked.getSize(), chunked.getInterval(), chunked.getIntervalUnit());
+        }
+
         if ("seq".equalsIgnoreCase(name)) {
             CollectionContainer sequence = (CollectionContainer) value;
             ResponseHandler[] responseHandlers = sequence.toResponseHandlers();
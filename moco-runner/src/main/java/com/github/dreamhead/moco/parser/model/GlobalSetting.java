@@ -17,6 +17,7 @@ public final class GlobalSetting {
     private String env;
     private RequestSetting request;
     private ResponseSetting response;
+    private ConnectionSetting connection;
 
     public ImmutableList<String> includes() {
         return Globs.glob(join(fileRoot, include));
@@ -42,6 +43,10 @@ public final class GlobalSetting {
         return response;
     }
 
+    public ConnectionSetting getConnection() {
+        return connection;
+    }
+
     @Override
     public String toString() {
         return MoreObjects.toStringHelper(this)
@@ -52,6 +57,7 @@ public final class GlobalSetting {
                 .add("env", env)
                 .add("request", request)
                 .add("response", response)
+                .add("connection", connection)
                 .toString();
     }
 }
@@ -19,12 +19,14 @@ public class ResponseSetting extends BaseResourceSetting {
 
     private TextContainer version;
     private AttachmentSetting attachment;
+    private ChunkedSetting chunked;
     private CollectionContainer seq;
     private CollectionContainer cycle;
     private ReplayContainer record;
     private ReplayContainer replay;
 
     private CorsContainer cors;
+    private TimeoutContainer timeout;
 
     protected final ResponseSetting asResponseSetting() {
         ResponseSetting responseSetting = asBaseResourceSetting(new ResponseSetting());
@@ -35,11 +37,13 @@ public class ResponseSetting extends BaseResourceSetting {
         responseSetting.latency = latency;
         responseSetting.version = version;
         responseSetting.attachment = attachment;
+        responseSetting.chunked = chunked;
         responseSetting.seq = seq;
         responseSetting.cycle = cycle;
         responseSetting.record = record;
         responseSetting.replay = replay;
         responseSetting.cors = cors;
+        responseSetting.timeout = timeout;
 
         return responseSetting;
     }
@@ -53,14 +57,20 @@ public class ResponseSetting extends BaseResourceSetting {
                 .add("proxy", proxy)
                 .add("latency", latency)
                 .add("attachment", attachment)
+                .add("chunked", chunked)
                 .add("seq", seq)
                 .add("cycle", cycle)
                 .add("record", record)
                 .add("replay", replay)
-                .add("cors", cors);
+                .add("cors", cors)
+                .add("timeout", timeout);
 
     }
 
+    final TimeoutContainer getTimeout() {
+        return timeout;
+    }
+
     public ResponseHandler getResponseHandler() {
         return factory.createResponseHandler(this);
     }
@@ -0,0 +1,42 @@
+package com.github.dreamhead.moco.parser.model;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.github.dreamhead.moco.Moco;
+import com.github.dreamhead.moco.ResponseHandler;
+import com.github.dreamhead.moco.parser.deserializer.TimeoutContainerDeserializer;
+import com.google.common.base.MoreObjects;
+
+import java.util.concurrent.TimeUnit;
+
+@JsonDeserialize(using = TimeoutContainerDeserializer.class)
+public final class TimeoutContainer {
+    private static final int DEFAULT_STATUS = 504;
+
+    private long timeout;
+    private TimeUnit unit = TimeUnit.MILLISECONDS;
+    private int status = DEFAULT_STATUS;
+
+    public static TimeoutContainer timeout(final long timeout, final TimeUnit unit, final Integer status) {
+        TimeoutContainer container = new TimeoutContainer();
+        container.timeout = timeout;
+        container.unit = unit;
+        if (status != null) {
+            container.status = status;
+        }
+
+        return container;
+    }
+
+    public ResponseHandler asResponseHandler(final ResponseHandler handler) {
+        return Moco.timeout(handler, timeout, unit, status);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("timeout", timeout)
+                .add("unit", unit)
+                .add("status", status)
+                .toString();
+    }
+}
@@ -7,6 +7,7 @@ import com.github.dreamhead.moco.SocketServer;
 import com.github.dreamhead.moco.bootstrap.arg.StartArgs;
 import com.github.dreamhead.moco.internal.ActualHttpServer;
 import com.github.dreamhead.moco.internal.ActualSocketServer;
+import com.github.dreamhead.moco.internal.ServerConfig;
 import com.github.dreamhead.moco.parser.HttpServerParser;
 import com.github.dreamhead.moco.parser.SocketServerParser;
 import com.google.common.collect.ImmutableList;
@@ -56,7 +57,9 @@ public final class JsonRunner implements Runner {
                                             final StartArgs startArgs) {
         int port = startArgs.getPort().orElse(0);
 
-        SocketServer socketServer = ActualSocketServer.createSocketServer(port, startArgs.isQuiet());
+        ActualSocketServer baseServer = ActualSocketServer.createSocketServer(port, startArgs.isQuiet());
+        startArgs.getSocketPath().ifPresent(baseServer::setSocketPath);
+        SocketServer socketServer = baseServer;
 
         for (RunnerSetting setting : settings) {
             SocketServer parsedServer = socketParser.parseServer(setting.getStreams(), port, startArgs.isQuiet(),
@@ -81,7 +84,7 @@ public final class JsonRunner implements Runner {
 
     private HttpServer createBaseHttpServer(final Iterable<? extends RunnerSetting> settings,
                                             final StartArgs startArgs) {
-        HttpServer targetServer = createHttpServer(startArgs);
+        HttpServer targetServer = createHttpServer(startArgs, serverConfig(settings, startArgs));
 
         for (RunnerSetting setting : settings) {
             HttpServer parsedServer = httpParser.parseServer(setting.getStreams(),
@@ -92,14 +95,30 @@ public final class JsonRunner implements Runner {
         return targetServer;
     }
 
-    private HttpServer createHttpServer(final StartArgs startArgs) {
+    private ServerConfig serverConfig(final Iterable<? extends RunnerSetting> settings, final StartArgs startArgs) {
+        ServerConfig config = startArgs.getServerConfig();
+        for (RunnerSetting setting : settings) {
+            config = setting.applyTo(config);
+        }
+
+        return config;
+    }
+
+    private HttpServer createHttpServer(final StartArgs startArgs, final ServerConfig serverConfig) {
+        ActualHttpServer server = createActualHttpServer(startArgs, serverConfig);
+        startArgs.getSocketPath().ifPresent(server::setSocketPath);
+        return server;
+    }
+
+    private ActualHttpServer createActualHttpServer(final StartArgs startArgs, final ServerConfig serverConfig) {
         final int port = startArgs.getPort().orElse(0);
 
         if (startArgs.isHttps()) {
-            return ActualHttpServer.createHttpsServer(port, startArgs.isQuiet(), startArgs.getHttpsCertificate().get());
+            return ActualHttpServer.createHttpsServer(port, startArgs.isQuiet(), startArgs.getHttpsCertificate().get(),
+                    serverConfig);
         }
 
-        return ActualHttpServer.createHttpServer(port, startArgs.isQuiet());
+        return ActualHttpServer.createHttpServer(port, startArgs.isQuiet(), serverConfig);
     }
 
     private MocoConfig[] toConfigs(final RunnerSetting setting) {
@@ -2,6 +2,8 @@ package com.github.dreamhead.moco.runner;
 
 import com.github.dreamhead.moco.Moco;
 import com.github.dreamhead.moco.MocoConfig;
+import com.github.dreamhead.moco.internal.ServerConfig;
+import com.github.dreamhead.moco.parser.model.ConnectionSetting;
 import com.github.dreamhead.moco.parser.model.RequestSetting;
 import com.github.dreamhead.moco.parser.model.ResponseSetting;
 import com.google.common.collect.ImmutableList;
@@ -18,14 +20,17 @@ public final class RunnerSetting {
     private final ResponseSetting response;
     private final String context;
     private final String fileRoot;
+    private final ConnectionSetting connection;
 
     private RunnerSetting(final ImmutableList<InputStream> streams, final String context, final String fileRoot,
-                          final RequestSetting requestSetting, final ResponseSetting response) {
+                          final RequestSetting requestSetting, final ResponseSetting response,
+                          final ConnectionSetting connection) {
         this.streams = streams;
         this.request = requestSetting;
         this.response = response;
         this.context = context;
         this.fileRoot = fileRoot;
+        this.connection = connection;
     }
 
     public ImmutableList<InputStream> getStreams() {
@@ -64,6 +69,14 @@ public final class RunnerSetting {
         return empty();
     }
 
+    public ServerConfig applyTo(final ServerConfig config) {
+        if (connection != null) {
+            return connection.applyTo(config);
+        }
+
+        return config;
+    }
+
     public static Builder aRunnerSetting() {
         return new Builder();
     }
@@ -74,6 +87,7 @@ public final class RunnerSetting {
         private ResponseSetting response;
         private String context;
         private String fileRoot;
+        private ConnectionSetting connection;
 
         public final Builder addStream(final InputStream stream) {
             this.streams.add(stream);
@@ -105,8 +119,13 @@ public final class RunnerSetting {
             return this;
         }
 
+        public final Builder withConnection(final ConnectionSetting connection) {
+            this.connection = connection;
+            return this;
+        }
+
         public final RunnerSetting build() {
-            return new RunnerSetting(streams.build(), context, fileRoot, request, response);
+            return new RunnerSetting(streams.build(), context, fileRoot, request, response, connection);
         }
     }
 }
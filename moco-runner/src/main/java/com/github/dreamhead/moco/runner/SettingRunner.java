@@ -63,6 +63,7 @@ public final class SettingRunner implements Runner {
                 .withFileRoot(setting.getFileRoot())
                 .withRequest(setting.getRequest())
                 .withResponse(setting.getResponse())
+                .withConnection(setting.getConnection())
                 .build();
     }
 
@@ -4,18 +4,36 @@ import com.github.dreamhead.moco.HttpServer;
 import com.github.dreamhead.moco.Runner;
 import com.github.dreamhead.moco.Server;
 import com.github.dreamhead.moco.SocketServer;
+import com.github.dreamhead.moco.internal.ActualHttpServer;
+import com.github.dreamhead.moco.server.ServerSetting;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.file.Path;
+import java.util.Optional;
+
 public final class StandaloneRunner {
     private static Logger logger = LoggerFactory.getLogger(StandaloneRunner.class);
 
     private Runner runner;
+    private Server server;
 
     public void run(final Server server) {
+        this.server = server;
         runner = newRunner(server);
         runner.start();
-        logger.info("Server is started at {}", server.port());
+        logger.info("Server is started at {}", address(server));
+    }
+
+    private String address(final Server server) {
+        if (server instanceof ServerSetting) {
+            Optional<Path> socketPath = ((ServerSetting) server).getSocketPath();
+            if (socketPath.isPresent()) {
+                return socketPath.get().toString();
+            }
+        }
+
+        return String.valueOf(server.port());
     }
 
     private Runner newRunner(final Server server) {
@@ -34,6 +52,20 @@ public final class StandaloneRunner {
         if (runner != null) {
             runner.stop();
             logger.info("Server stopped.");
+            logConnectionStats();
+        }
+    }
+
+    private void logConnectionStats() {
+        if (server instanceof ActualHttpServer) {
+            ActualHttpServer httpServer = (ActualHttpServer) server;
+            logger.info("Connection stats: {}", httpServer.getConnectionStats());
+            if (httpServer.getAdmissionController().isEnabled()) {
+                logger.info("Admission stats: {}", httpServer.getAdmissionController());
+            }
+            if (httpServer.getDeadline().isEnabled()) {
+                logger.info("Requests exceeding handler deadline: {}", httpServer.getDeadline().getExpiredRequests());
+            }
         }
     }
 }
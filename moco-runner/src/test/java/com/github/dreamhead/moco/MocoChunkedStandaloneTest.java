@@ -0,0 +1,23 @@
+package com.github.dreamhead.moco;
+
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static com.github.dreamhead.moco.helper.RemoteTestUtils.remoteUrl;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class MocoChunkedStandaloneTest extends AbstractMocoStandaloneTest {
+    @Test
+    public void should_return_chunked_text() throws IOException {
+        runWithConfiguration("chunked.json");
+        assertThat(helper.get(remoteUrl("/text_chunked")), is("text_chunked"));
+    }
+
+    @Test
+    public void should_return_chunked_file_with_interval() throws IOException {
+        runWithConfiguration("chunked.json");
+        assertThat(helper.get(remoteUrl("/file_chunked")), is("foo.response"));
+    }
+}
@@ -222,6 +222,18 @@ public class MocoStandaloneTest extends AbstractMocoStandaloneTest {
         assertThat(code, is(200));
     }
 
+    @Test
+    public void should_return_gateway_timeout_when_response_exceeds_timeout() throws IOException {
+        runWithConfiguration("foo.json");
+        assertThat(helper.getForStatus(remoteUrl("/timeout")), is(504));
+    }
+
+    @Test
+    public void should_return_specified_status_when_response_exceeds_timeout() throws IOException {
+        runWithConfiguration("foo.json");
+        assertThat(helper.getForStatus(remoteUrl("/timeout-with-status")), is(503));
+    }
+
     @Test
     public void should_match_form_value() throws IOException {
         runWithConfiguration("form.json");
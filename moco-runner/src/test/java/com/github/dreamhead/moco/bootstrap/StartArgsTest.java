@@ -2,11 +2,15 @@ package com.github.dreamhead.moco.bootstrap;
 
 import com.github.dreamhead.moco.bootstrap.arg.StartArgs;
 import com.github.dreamhead.moco.bootstrap.parser.HttpArgsParser;
+import com.github.dreamhead.moco.bootstrap.parser.HttpsArgsParser;
 import com.github.dreamhead.moco.bootstrap.parser.SocketArgsParser;
 import com.github.dreamhead.moco.bootstrap.parser.StartArgsParser;
+import com.google.common.collect.ImmutableList;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.nio.file.Paths;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 
@@ -70,4 +74,150 @@ public class StartArgsTest {
         StartArgs args = new SocketArgsParser().parse(new String[]{"start", "-c", "foo.json"});
         assertThat(args.isSocket(), is(true));
     }
+
+    @Test
+    public void should_parse_stall_threshold() {
+        StartArgs args = startArgsParser.parse(new String[]{"start", "-c", "foo.json", "--stall-threshold", "500"});
+        assertThat(args.getServerConfig().getStallThreshold(), is(500L));
+    }
+
+    @Test
+    public void should_disable_stall_detection_by_default() {
+        StartArgs args = startArgsParser.parse(new String[]{"start", "-c", "foo.json"});
+        assertThat(args.getServerConfig().isStallDetectionEnabled(), is(false));
+    }
+
+    @Test(expected = ParseArgException.class)
+    public void should_not_parse_invalid_stall_threshold() {
+        startArgsParser.parse(new String[]{"start", "-c", "foo.json", "--stall-threshold", "foo"});
+    }
+
+    @Test
+    public void should_parse_log_dump_policy() {
+        StartArgs args = startArgsParser.parse(new String[]{"start", "-c", "foo.json",
+                "--log-sample-rate", "0.1", "--log-max-content", "1024"});
+        assertThat(args.getServerConfig().getDumpPolicy().getSampleRate(), is(0.1));
+        assertThat(args.getServerConfig().getDumpPolicy().getMaxContentLength(), is(1024));
+    }
+
+    @Test(expected = ParseArgException.class)
+    public void should_not_parse_out_of_range_log_sample_rate() {
+        startArgsParser.parse(new String[]{"start", "-c", "foo.json", "--log-sample-rate", "2"});
+    }
+
+    @Test
+    public void should_parse_stream_threshold() {
+        StartArgs args = startArgsParser.parse(new String[]{"start", "-c", "foo.json", "--stream-threshold", "1024"});
+        assertThat(args.getServerConfig().getStreamingThreshold(), is(1024L));
+        assertThat(args.getServerConfig().isRequestStreamingEnabled(), is(true));
+    }
+
+    @Test
+    public void should_parse_spool_threshold() {
+        StartArgs args = startArgsParser.parse(new String[]{"start", "-c", "foo.json", "--spool-threshold", "1048576"});
+        assertThat(args.getServerConfig().getSpoolThreshold(), is(1048576L));
+        assertThat(args.getServerConfig().isRequestSpoolingEnabled(), is(true));
+    }
+
+    @Test
+    public void should_parse_max_spool_size() {
+        StartArgs args = startArgsParser.parse(new String[]{"start", "-c", "foo.json", "--max-spool-size", "4096"});
+        assertThat(args.getServerConfig().getMaxSpoolSize(), is(4096L));
+    }
+
+    @Test
+    public void should_parse_expectation_failed_status() {
+        StartArgs args = startArgsParser.parse(new String[]{"start", "-c", "foo.json", "--expectation-failed-status", "417"});
+        assertThat(args.getServerConfig().getExpectationFailedStatus(), is(417));
+        assertThat(args.getServerConfig().isExpectationCheckEnabled(), is(true));
+    }
+
+    @Test
+    public void should_parse_compression() {
+        StartArgs args = startArgsParser.parse(new String[]{"start", "-c", "foo.json", "--compress", "--compress-min-size", "2048"});
+        assertThat(args.getServerConfig().isCompressionEnabled(), is(true));
+        assertThat(args.getServerConfig().getCompressionMinSize(), is(2048));
+    }
+
+    @Test
+    public void should_parse_decompress_limit() {
+        StartArgs args = startArgsParser.parse(new String[]{"start", "-c", "foo.json", "--decompress-limit", "4096"});
+        assertThat(args.getServerConfig().getDecompressionLimit(), is(4096L));
+        assertThat(args.getServerConfig().isRequestDecompressionEnabled(), is(true));
+    }
+
+    @Test
+    public void should_parse_tls_protocols_and_ciphers() {
+        StartArgs args = new HttpsArgsParser().parse(new String[]{"start", "-c", "foo.json",
+                "--https", "cert.jks", "--keystore", "mocohttps", "--cert", "mocohttps",
+                "--tls-protocols", "TLSv1.2, TLSv1.3", "--tls-ciphers", "TLS_AES_128_GCM_SHA256"});
+        assertThat(args.getServerConfig().getTlsProtocols(), is(ImmutableList.of("TLSv1.2", "TLSv1.3")));
+        assertThat(args.getServerConfig().getTlsCiphers(), is(ImmutableList.of("TLS_AES_128_GCM_SHA256")));
+    }
+
+    @Test
+    public void should_parse_socket_path() {
+        StartArgs args = startArgsParser.parse(new String[]{"start", "-c", "foo.json", "--socket-path", "/tmp/moco.sock"});
+        assertThat(args.getSocketPath().get(), is(Paths.get("/tmp/moco.sock")));
+        assertThat(args.getPort().isPresent(), is(false));
+    }
+
+    @Test(expected = ParseArgException.class)
+    public void should_not_set_port_and_socket_path() {
+        startArgsParser.parse(new String[]{"start", "-p", "12306", "-c", "foo.json", "--socket-path", "/tmp/moco.sock"});
+    }
+
+    @Test
+    public void should_parse_connection_limits() {
+        StartArgs args = startArgsParser.parse(new String[]{"start", "-c", "foo.json",
+                "--max-connections", "100", "--read-idle-timeout", "30000", "--write-idle-timeout", "10000",
+                "--max-keep-alive-requests", "1000", "--max-connection-age", "60000"});
+        assertThat(args.getServerConfig().getMaxConnections(), is(100));
+        assertThat(args.getServerConfig().getReadIdleTimeout(), is(30000L));
+        assertThat(args.getServerConfig().getWriteIdleTimeout(), is(10000L));
+        assertThat(args.getServerConfig().getMaxRequestsPerConnection(), is(1000));
+        assertThat(args.getServerConfig().getMaxConnectionAge(), is(60000L));
+    }
+
+    @Test
+    public void should_parse_admission_control() {
+        StartArgs args = startArgsParser.parse(new String[]{"start", "-c", "foo.json",
+                "--max-in-flight", "64", "--latency-target", "50", "--retry-after", "2"});
+        assertThat(args.getServerConfig().getMaxInFlightRequests(), is(64));
+        assertThat(args.getServerConfig().getLatencyTarget(), is(50L));
+        assertThat(args.getServerConfig().getRetryAfter(), is(2));
+        assertThat(args.getServerConfig().isAdmissionControlEnabled(), is(true));
+    }
+
+    @Test
+    public void should_parse_max_pipelined_requests() {
+        StartArgs args = startArgsParser.parse(new String[]{"start", "-c", "foo.json", "--max-pipelined-requests", "32"});
+        assertThat(args.getServerConfig().getMaxPipelinedRequests(), is(32));
+    }
+
+    @Test
+    public void should_parse_handler_timeout() {
+        StartArgs args = startArgsParser.parse(new String[]{"start", "-c", "foo.json",
+                "--handler-timeout", "3000", "--timeout-status", "503"});
+        assertThat(args.getServerConfig().getHandlerTimeout(), is(3000L));
+        assertThat(args.getServerConfig().getTimeoutStatus(), is(503));
+    }
+
+    @Test
+    public void should_parse_compile_matchers() {
+        StartArgs args = startArgsParser.parse(new String[]{"start", "-c", "foo.json", "--compile-matchers"});
+        assertThat(args.getServerConfig().isMatcherCompilationEnabled(), is(true));
+    }
+
+    @Test
+    public void should_parse_dispatch_cache() {
+        StartArgs args = startArgsParser.parse(new String[]{"start", "-c", "foo.json", "--dispatch-cache", "1024"});
+        assertThat(args.getServerConfig().getDispatchCacheSize(), is(1024));
+        assertThat(args.getServerConfig().isDispatchCacheEnabled(), is(true));
+    }
+
+    @Test(expected = ParseArgException.class)
+    public void should_not_parse_out_of_range_max_connections() {
+        startArgsParser.parse(new String[]{"start", "-c", "foo.json", "--max-connections", "4294967296"});
+    }
 }
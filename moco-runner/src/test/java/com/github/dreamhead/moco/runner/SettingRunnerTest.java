@@ -108,6 +108,16 @@ public class SettingRunnerTest {
         helper.get(remoteUrl("/foo"));
     }
 
+    @Test
+    public void should_run_with_global_connection_settings() throws IOException {
+        stream = getResourceAsStream("settings/connection-settings.json");
+        runner = new SettingRunner(stream, createStartArgs(12306));
+        runner.run();
+
+        Header header = helper.getResponse(remoteUrl("/foo")).getFirstHeader("Connection");
+        assertThat(header.getValue(), is("close"));
+    }
+
     private StartArgs createStartArgs(final int port, final String env) {
         return httpArgs().withPort(port).withEnv(env).build();
     }
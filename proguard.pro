@@ -24,6 +24,7 @@
 -keep public class com.github.dreamhead.moco.dumper.*{*;}
 -keep public class com.github.dreamhead.moco.MocoJsonRunner{*;}
 -keep public class com.github.dreamhead.moco.util.Jsons{*;}
+-keep class com.github.dreamhead.moco.jfr.*Event{*;}
 -keep public class com.github.dreamhead.moco.resource.Transformer{*;}
 -keep public class com.github.dreamhead.moco.runner.ShutdownRunner{
     public int shutdownPort();